@@ -13,21 +13,20 @@ package org.junit.gen5.commons.util;
 import static java.util.Arrays.asList;
 import static org.junit.gen5.commons.meta.API.Usage.Internal;
 
-import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Repeatable;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.gen5.commons.meta.API;
 import org.junit.gen5.commons.util.ReflectionUtils.MethodSortOrder;
@@ -48,8 +47,6 @@ import org.junit.gen5.commons.util.ReflectionUtils.MethodSortOrder;
 @API(Internal)
 public final class AnnotationUtils {
 
-	private static final Map<AnnotationCacheKey, Annotation> annotationCache = new ConcurrentHashMap<>(256);
-
 	private AnnotationUtils() {
 		/* no-op */
 	}
@@ -67,66 +64,65 @@ public final class AnnotationUtils {
 	/**
 	 * Find the first annotation of {@code annotationType} that is either <em>present</em> or <em>meta-present</em> on
 	 * the supplied {@code element}.
+	 *
+	 * <p>Results are cached per element, including the absence of an annotation.
 	 */
-	public static <A extends Annotation> Optional<A> findAnnotation(AnnotatedElement element, Class<A> annotationType) {
-		return findAnnotation(element, annotationType, new HashSet<Annotation>());
-	}
-
 	@SuppressWarnings("unchecked")
-	private static <A extends Annotation> Optional<A> findAnnotation(AnnotatedElement element, Class<A> annotationType,
-			Set<Annotation> visited) {
-
+	public static <A extends Annotation> Optional<A> findAnnotation(AnnotatedElement element, Class<A> annotationType) {
 		Preconditions.notNull(annotationType, "annotationType must not be null");
 
 		if (element == null) {
 			return Optional.empty();
 		}
 
-		// Cached?
-		AnnotationCacheKey key = new AnnotationCacheKey(element, annotationType);
-		A annotation = (A) annotationCache.get(key);
-		if (annotation != null) {
-			return Optional.of(annotation);
+		Optional<ClassMetadata> metadata = metadataForCaching(element, annotationType);
+		if (!metadata.isPresent()) {
+			return findAnnotationUncached(element, annotationType);
 		}
 
+		AnnotationCacheKey key = new AnnotationCacheKey(element, annotationType);
+		Optional<? extends Annotation> annotation = metadata.get().findAnnotation(key,
+			() -> findAnnotationUncached(element, annotationType));
+		return (Optional<A>) annotation;
+	}
+
+	private static <A extends Annotation> Optional<A> findAnnotationUncached(AnnotatedElement element,
+			Class<A> annotationType) {
+
 		// Directly present?
-		annotation = element.getDeclaredAnnotation(annotationType);
+		A annotation = element.getDeclaredAnnotation(annotationType);
 		if (annotation != null) {
-			annotationCache.put(key, annotation);
 			return Optional.of(annotation);
 		}
 
 		// Meta-present on directly present annotations?
-		for (Annotation candidateAnnotation : element.getDeclaredAnnotations()) {
-			if (!isInJavaLangAnnotationPackage(candidateAnnotation) && visited.add(candidateAnnotation)) {
-				Optional<A> metaAnnotation = findAnnotation(candidateAnnotation.annotationType(), annotationType,
-					visited);
-				if (metaAnnotation.isPresent()) {
-					annotationCache.put(key, metaAnnotation.get());
-					return metaAnnotation;
-				}
-			}
+		Optional<A> metaAnnotation = findMetaAnnotation(element.getDeclaredAnnotations(), annotationType);
+		if (metaAnnotation.isPresent()) {
+			return metaAnnotation;
 		}
 
 		// Indirectly present?
 		annotation = element.getAnnotation(annotationType);
 		if (annotation != null) {
-			annotationCache.put(key, annotation);
 			return Optional.of(annotation);
 		}
 
 		// Meta-present on indirectly present annotations?
-		for (Annotation candidateAnnotation : element.getAnnotations()) {
-			if (!isInJavaLangAnnotationPackage(candidateAnnotation) && visited.add(candidateAnnotation)) {
-				Optional<A> metaAnnotation = findAnnotation(candidateAnnotation.annotationType(), annotationType,
-					visited);
-				if (metaAnnotation.isPresent()) {
-					annotationCache.put(key, metaAnnotation.get());
-					return metaAnnotation;
+		return findMetaAnnotation(element.getAnnotations(), annotationType);
+	}
+
+	private static <A extends Annotation> Optional<A> findMetaAnnotation(Annotation[] candidates,
+			Class<A> annotationType) {
+
+		for (Annotation candidateAnnotation : candidates) {
+			if (!isInJavaLangAnnotationPackage(candidateAnnotation)) {
+				Annotation metaAnnotation = ClassMetadata.of(
+					candidateAnnotation.annotationType()).getMetaAnnotations().get(annotationType);
+				if (metaAnnotation != null) {
+					return Optional.of(annotationType.cast(metaAnnotation));
 				}
 			}
 		}
-
 		return Optional.empty();
 	}
 
@@ -137,25 +133,41 @@ public final class AnnotationUtils {
 	 * <p>This method extends the functionality of {@link java.lang.reflect.AnnotatedElement#getAnnotationsByType(Class)}
 	 * with additional support for meta-annotations.
 	 *
+	 * <p>Results are cached per element; the returned list is a modifiable copy.
+	 *
 	 * @return the list of all such annotations found; never {@code null}
 	 */
+	@SuppressWarnings("unchecked")
 	public static <A extends Annotation> List<A> findRepeatableAnnotations(AnnotatedElement element,
 			Class<A> annotationType) {
 
-		return findRepeatableAnnotations(element, annotationType, new HashSet<>());
-	}
+		Class<? extends Annotation> containerTypeForRepeatable = getContainerType(annotationType);
 
-	private static <A extends Annotation> List<A> findRepeatableAnnotations(AnnotatedElement element,
-			Class<A> annotationType, Set<Annotation> visited) {
+		if (element == null) {
+			return new ArrayList<>();
+		}
+
+		Optional<ClassMetadata> metadata = metadataForCaching(element, annotationType);
+		if (!metadata.isPresent()) {
+			return findRepeatableAnnotations(element, annotationType, containerTypeForRepeatable, new HashSet<>());
+		}
+
+		AnnotationCacheKey key = new AnnotationCacheKey(element, annotationType);
+		List<? extends Annotation> annotations = metadata.get().findRepeatableAnnotations(key,
+			() -> Collections.unmodifiableList(
+				findRepeatableAnnotations(element, annotationType, containerTypeForRepeatable, new HashSet<>())));
+		return new ArrayList<>((List<A>) annotations);
+	}
 
+	private static Class<? extends Annotation> getContainerType(Class<? extends Annotation> annotationType) {
 		Preconditions.notNull(annotationType, "annotationType must not be null");
-		Class<? extends Annotation> containerTypeForRepeatable = annotationType.isAnnotationPresent(Repeatable.class)
-				? annotationType.getAnnotation(Repeatable.class).value() : null;
-		Preconditions.notNull(containerTypeForRepeatable, "annotationType must be @Repeatable");
+		Repeatable repeatable = annotationType.getAnnotation(Repeatable.class);
+		Preconditions.notNull(repeatable, "annotationType must be @Repeatable");
+		return repeatable.value();
+	}
 
-		if (element == null) {
-			return Collections.emptyList();
-		}
+	private static <A extends Annotation> List<A> findRepeatableAnnotations(AnnotatedElement element,
+			Class<A> annotationType, Class<? extends Annotation> containerTypeForRepeatable, Set<Annotation> visited) {
 
 		// Use set because there can be duplicates in loop below.
 		Set<A> collectedAnnotations = new LinkedHashSet<>();
@@ -175,7 +187,7 @@ public final class AnnotationUtils {
 				}
 				else {
 					List<A> metaAnnotations = findRepeatableAnnotations(candidateAnnotation.annotationType(),
-						annotationType, visited);
+						annotationType, containerTypeForRepeatable, visited);
 					collectedAnnotations.addAll(metaAnnotations);
 				}
 			}
@@ -195,7 +207,7 @@ public final class AnnotationUtils {
 		for (Annotation candidateAnnotation : element.getAnnotations()) {
 			if (!isInJavaLangAnnotationPackage(candidateAnnotation) && visited.add(candidateAnnotation)) {
 				List<A> metaAnnotations = findRepeatableAnnotations(candidateAnnotation.annotationType(),
-					annotationType, visited);
+					annotationType, containerTypeForRepeatable, visited);
 				collectedAnnotations.addAll(metaAnnotations);
 			}
 		}
@@ -213,17 +225,50 @@ public final class AnnotationUtils {
 	}
 
 	private static boolean isInJavaLangAnnotationPackage(Annotation annotation) {
-		return (annotation != null && annotation.annotationType().getName().startsWith("java.lang.annotation"));
+		return (annotation != null && isInJavaLangAnnotationPackage(annotation.annotationType()));
 	}
 
-	private static class AnnotationCacheKey implements Serializable {
+	static boolean isInJavaLangAnnotationPackage(Class<? extends Annotation> annotationType) {
+		return annotationType.getName().startsWith("java.lang.annotation");
+	}
+
+	/**
+	 * Get the metadata of the class that declares the supplied element if
+	 * lookups of {@code annotationType} on the element may be cached there.
+	 *
+	 * <p>Results are cached in the metadata of the declaring class so that
+	 * they are discarded together with its class loader. Annotation types
+	 * that the declaring class cannot see, however, must not be pinned by
+	 * it; lookups of such types are not cached.
+	 */
+	private static Optional<ClassMetadata> metadataForCaching(AnnotatedElement element,
+			Class<? extends Annotation> annotationType) {
+
+		Class<?> declaringClass;
+		if (element instanceof Class) {
+			declaringClass = (Class<?>) element;
+		}
+		else if (element instanceof Member) {
+			declaringClass = ((Member) element).getDeclaringClass();
+		}
+		else if (element instanceof Parameter) {
+			declaringClass = ((Parameter) element).getDeclaringExecutable().getDeclaringClass();
+		}
+		else {
+			return Optional.empty();
+		}
+		if (!ClassCache.isVisible(annotationType.getClassLoader(), declaringClass)) {
+			return Optional.empty();
+		}
+		return Optional.of(ClassMetadata.of(declaringClass));
+	}
 
-		private static final long serialVersionUID = 4611807332019442648L;
+	static class AnnotationCacheKey {
 
 		private final AnnotatedElement element;
 		private final Class<? extends Annotation> annotationType;
 
-		public AnnotationCacheKey(AnnotatedElement element, Class<? extends Annotation> annotationType) {
+		AnnotationCacheKey(AnnotatedElement element, Class<? extends Annotation> annotationType) {
 			this.element = element;
 			this.annotationType = annotationType;
 		}
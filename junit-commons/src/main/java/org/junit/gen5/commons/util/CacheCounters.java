@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counters from which {@link CacheStatistics} are created.
+ *
+ * @since 5.0
+ */
+final class CacheCounters {
+
+	private final String name;
+	private final LongAdder size = new LongAdder();
+	private final LongAdder lookups = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	CacheCounters(String name) {
+		this.name = name;
+	}
+
+	void lookedUp() {
+		this.lookups.increment();
+	}
+
+	/**
+	 * Record that a lookup had to compute its result, in addition to
+	 * {@link #lookedUp()}.
+	 */
+	void missed() {
+		this.misses.increment();
+	}
+
+	void added(long entries) {
+		this.size.add(entries);
+	}
+
+	void evicted(long entries) {
+		this.size.add(-entries);
+		this.evictions.add(entries);
+	}
+
+	CacheStatistics toStatistics() {
+		long misses = this.misses.sum();
+		long hits = Math.max(0, this.lookups.sum() - misses);
+		return new CacheStatistics(this.name, this.size.sum(), hits, misses, this.evictions.sum());
+	}
+
+}
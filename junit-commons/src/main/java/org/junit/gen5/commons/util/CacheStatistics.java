@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static org.junit.gen5.commons.meta.API.Usage.Internal;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * Snapshot of the size and the hit rate of one of the reflective caches
+ * of the JUnit framework.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 5.0
+ * @see ReflectionUtils#getCacheStatistics()
+ * @see ClassCache#getStatistics()
+ */
+@API(Internal)
+public final class CacheStatistics {
+
+	private final String name;
+	private final long size;
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+
+	CacheStatistics(String name, long size, long hitCount, long missCount, long evictionCount) {
+		this.name = name;
+		this.size = size;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Get the number of entries currently in the cache.
+	 */
+	public long getSize() {
+		return this.size;
+	}
+
+	public long getHitCount() {
+		return this.hitCount;
+	}
+
+	public long getMissCount() {
+		return this.missCount;
+	}
+
+	/**
+	 * Get the number of entries that were removed because the cache was full
+	 * or because their classes were unloaded.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount;
+	}
+
+	/**
+	 * Get the ratio of lookups that were answered from the cache, or
+	 * {@code 0} if there were no lookups at all.
+	 */
+	public double getHitRate() {
+		long lookups = this.hitCount + this.missCount;
+		return lookups == 0 ? 0 : (double) this.hitCount / lookups;
+	}
+
+	@Override
+	public String toString() {
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("name", this.name)
+				.append("size", this.size)
+				.append("hitCount", this.hitCount)
+				.append("missCount", this.missCount)
+				.append("evictionCount", this.evictionCount)
+				.toString();
+		// @formatter:on
+	}
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static org.junit.gen5.commons.meta.API.Usage.Internal;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * Cache of values that are computed once per class and must not keep
+ * classes of discarded class loaders alive.
+ *
+ * <p>If the cache and its value computer are visible from the class loader
+ * of a class, the value is attached to the class itself via a
+ * {@link ClassValue}. It is thus evicted as soon as the class loader becomes
+ * unreachable, which is the case for test classes that are loaded by a
+ * fresh class loader for each run. Values of all other classes, typically
+ * those of the JDK, are kept in a map that is bounded by the supplied
+ * maximum size and evicts the least recently used values.
+ *
+ * <p>Values may be computed more than once if the same class is looked up
+ * concurrently, so value computers must not have side effects. They may,
+ * however, look up values of other classes in the same cache.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @param <V> the type of the cached values
+ * @since 5.0
+ */
+@API(Internal)
+public final class ClassCache<V> {
+
+	private static final Runnable NO_RELEASE = () -> {
+	};
+
+	private final Function<Class<?>, ? extends V> valueComputer;
+	private final Function<? super V, Runnable> releaseAction;
+	private final int maxDetachedValues;
+	private final CacheCounters counters;
+
+	private final ClassValue<V> attachedValues = new ClassValue<V>() {
+
+		@Override
+		protected V computeValue(Class<?> type) {
+			V value = valueComputer.apply(type);
+			counters.missed();
+			counters.added(1);
+			trackedClasses.add(new ClassReference(type, releaseAction.apply(value), unloadedClasses));
+			return value;
+		}
+	};
+
+	private final Set<ClassReference> trackedClasses = ConcurrentHashMap.newKeySet();
+	private final ReferenceQueue<Class<?>> unloadedClasses = new ReferenceQueue<>();
+
+	// Guarded by itself
+	private final Map<Class<?>, V> detachedValues;
+
+	/**
+	 * Create a cache that computes values with the supplied function.
+	 *
+	 * @param name the name of the cache in its {@linkplain #getStatistics() statistics}
+	 * @param maxDetachedValues the maximum number of values that are not
+	 * attached to their classes
+	 */
+	public ClassCache(String name, int maxDetachedValues, Function<Class<?>, ? extends V> valueComputer) {
+		this(name, maxDetachedValues, valueComputer, value -> NO_RELEASE);
+	}
+
+	/**
+	 * Create a cache that computes values with the supplied function and
+	 * runs an action whenever a value is evicted.
+	 *
+	 * <p>The release action is created together with the value. It must not
+	 * reference the value or its class, because it outlives the class.
+	 */
+	ClassCache(String name, int maxDetachedValues, Function<Class<?>, ? extends V> valueComputer,
+			Function<? super V, Runnable> releaseAction) {
+
+		Preconditions.notBlank(name, "name must not be null or empty");
+		Preconditions.condition(maxDetachedValues > 0, "maxDetachedValues must be greater than 0");
+		this.valueComputer = Preconditions.notNull(valueComputer, "valueComputer must not be null");
+		this.releaseAction = releaseAction;
+		this.maxDetachedValues = maxDetachedValues;
+		this.counters = new CacheCounters(name);
+		this.detachedValues = new LinkedHashMap<Class<?>, V>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Class<?>, V> eldest) {
+				if (size() > ClassCache.this.maxDetachedValues) {
+					evict(eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Get the value for the supplied class, computing it if necessary.
+	 */
+	public V get(Class<?> type) {
+		Preconditions.notNull(type, "Class must not be null");
+
+		expungeUnloadedClasses();
+		this.counters.lookedUp();
+		if (isVisible(ClassCache.class.getClassLoader(), type)
+				&& isVisible(this.valueComputer.getClass().getClassLoader(), type)) {
+			return this.attachedValues.get(type);
+		}
+		return getDetached(type);
+	}
+
+	private V getDetached(Class<?> type) {
+		synchronized (this.detachedValues) {
+			V value = this.detachedValues.get(type);
+			if (value != null) {
+				return value;
+			}
+		}
+		// Computed without holding the lock since it may look up other classes
+		V value = this.valueComputer.apply(type);
+		synchronized (this.detachedValues) {
+			V existing = this.detachedValues.get(type);
+			if (existing != null) {
+				return existing;
+			}
+			this.counters.missed();
+			this.counters.added(1);
+			this.detachedValues.put(type, value);
+			return value;
+		}
+	}
+
+	private void evict(V value) {
+		this.counters.evicted(1);
+		this.releaseAction.apply(value).run();
+	}
+
+	private void expungeUnloadedClasses() {
+		ClassReference reference;
+		while ((reference = (ClassReference) this.unloadedClasses.poll()) != null) {
+			if (this.trackedClasses.remove(reference)) {
+				this.counters.evicted(1);
+				reference.release.run();
+			}
+		}
+	}
+
+	/**
+	 * Get the current size and hit rate of this cache.
+	 */
+	public CacheStatistics getStatistics() {
+		expungeUnloadedClasses();
+		return this.counters.toStatistics();
+	}
+
+	/**
+	 * Determine if the supplied class loader, and thus any class it loaded,
+	 * is visible from the supplied class: if it is the class loader of the
+	 * class or one of its ancestors.
+	 *
+	 * <p>Only then can the class reference classes of the class loader without
+	 * keeping them alive longer than itself.
+	 */
+	static boolean isVisible(ClassLoader classLoader, Class<?> fromClass) {
+		if (classLoader == null) {
+			return true;
+		}
+		for (ClassLoader loader = fromClass.getClassLoader(); loader != null; loader = loader.getParent()) {
+			if (loader == classLoader) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static final class ClassReference extends WeakReference<Class<?>> {
+
+		final Runnable release;
+
+		ClassReference(Class<?> type, Runnable release, ReferenceQueue<Class<?>> queue) {
+			super(type, queue);
+			this.release = release;
+		}
+	}
+
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.gen5.commons.meta.API.Usage.Internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * Pre-filter for classpath scanning that inspects class files before the
+ * corresponding classes are loaded.
+ *
+ * <p>A class file is rejected if neither the class nor any of its
+ * supertypes, annotation types (and thus meta-annotations), or member
+ * classes reference one of the <em>marker</em> types an engine recognizes
+ * tests by, such as its test annotation or a test base class. Types the
+ * class file depends on are resolved as class file resources of the class
+ * loader used for scanning, not loaded. Whenever a class file cannot be
+ * found or parsed, it is accepted, so a filter never rejects a class that
+ * the engine would have discovered.
+ *
+ * <p>A filter may additionally name a {@linkplain #withIndex test index}:
+ * for classpath roots that contain it, only the classes listed in the index
+ * are considered and the class files of the root are not read at all.
+ *
+ * <p>A filter may also name a {@linkplain #withScanIndexKey scan index key}
+ * under which the verdicts of scans are cached between runs.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 5.0
+ * @see ReflectionUtils#findAllClassesInClasspathRoots(Collection, ClassFileFilter, Predicate)
+ */
+@API(Internal)
+public final class ClassFileFilter {
+
+	/**
+	 * A filter that accepts every class file without reading it.
+	 */
+	public static final ClassFileFilter ACCEPT_ALL = new ClassFileFilter(Collections.emptySet(), null, null);
+
+	/**
+	 * Prefix of test index lines that name classes without tests: {@value}
+	 */
+	static final String COMPILED_CLASS_PREFIX = "-";
+
+	private static final String CLASS_FILE_SUFFIX = ".class";
+
+	/**
+	 * Create a filter that accepts class files referencing any of the
+	 * supplied marker types.
+	 *
+	 * @param classNames the fully qualified names of the marker types,
+	 * e.g. {@code "org.junit.Test"}
+	 */
+	public static ClassFileFilter referencingAnyOf(String... classNames) {
+		Preconditions.notNull(classNames, "classNames must not be null");
+		Preconditions.condition(classNames.length > 0, "classNames must not be empty");
+		// @formatter:off
+		Set<String> markers = Arrays.stream(classNames)
+				.map(className -> Preconditions.notBlank(className, "class name must not be null or empty"))
+				.map(className -> className.replace('.', '/'))
+				.collect(toSet());
+		// @formatter:on
+		return new ClassFileFilter(markers, null, null);
+	}
+
+	private final Set<String> markers;
+
+	private final String indexResourceName;
+
+	private final String scanIndexKey;
+
+	private ClassFileFilter(Set<String> markers, String indexResourceName, String scanIndexKey) {
+		this.markers = markers;
+		this.indexResourceName = indexResourceName;
+		this.scanIndexKey = scanIndexKey;
+	}
+
+	/**
+	 * Create a copy of this filter that uses the test index with the
+	 * supplied resource name for all classpath roots that contain it.
+	 *
+	 * <p>A test index is a UTF-8 text file in the classpath root that lists
+	 * the binary names of all classes of the root that may contain tests,
+	 * one per line; lines starting with {@code #} are comments. Listed
+	 * classes that do not exist are ignored.
+	 *
+	 * <p>Lines starting with {@value #COMPILED_CLASS_PREFIX} name top-level
+	 * classes of the root that do not contain tests. For directories, the
+	 * index is only used if it lists the top-level class of every class file
+	 * in the scanned package; otherwise the directory is scanned.
+	 *
+	 * @param resourceName the path of the index within classpath roots,
+	 * e.g. {@code "META-INF/junit-test-index"}
+	 */
+	public ClassFileFilter withIndex(String resourceName) {
+		Preconditions.notBlank(resourceName, "resourceName must not be null or empty");
+		return new ClassFileFilter(this.markers, resourceName, this.scanIndexKey);
+	}
+
+	/**
+	 * Create a copy of this filter that does not use a test index.
+	 */
+	public ClassFileFilter withoutIndex() {
+		return this.indexResourceName == null ? this : new ClassFileFilter(this.markers, null, this.scanIndexKey);
+	}
+
+	/**
+	 * Create a copy of this filter whose scans are indexed under the supplied
+	 * key if a {@linkplain ReflectionUtils#DISCOVERY_INDEX_DIRECTORY_PROPERTY_NAME
+	 * discovery index directory} is configured.
+	 *
+	 * <p>The key identifies the class tester that is used together with this
+	 * filter. Class testers whose verdicts may differ, e.g. because they are
+	 * configured differently, must use different keys. Scans with filters
+	 * without a key are never indexed.
+	 *
+	 * @param key the key of the class tester, e.g. its class name
+	 */
+	public ClassFileFilter withScanIndexKey(String key) {
+		Preconditions.notBlank(key, "key must not be null or empty");
+		return new ClassFileFilter(this.markers, this.indexResourceName, key);
+	}
+
+	/**
+	 * Get the resource name of the test index, if any.
+	 */
+	Optional<String> getIndexResourceName() {
+		return Optional.ofNullable(this.indexResourceName);
+	}
+
+	/**
+	 * Get the key under which scans with this filter are indexed, if any.
+	 */
+	Optional<String> getScanIndexKey() {
+		return Optional.ofNullable(this.scanIndexKey);
+	}
+
+	boolean acceptsAll() {
+		return this.markers.isEmpty();
+	}
+
+	/**
+	 * Get the sorted internal names of the marker types, e.g. to tell apart
+	 * the results of scans with different filters.
+	 */
+	List<String> getMarkers() {
+		List<String> markers = new ArrayList<>(this.markers);
+		Collections.sort(markers);
+		return markers;
+	}
+
+	/**
+	 * Start evaluating class files on behalf of a single scan; the returned
+	 * evaluation caches the results for all resolved types and is
+	 * thread-safe.
+	 */
+	Evaluation startEvaluation(ClassLoader classLoader) {
+		return new Evaluation(classLoader);
+	}
+
+	/**
+	 * Determine whether the type with the supplied internal name, e.g.
+	 * {@code java/lang/Object}, belongs to the platform and therefore can
+	 * neither reference a marker nor change between scans.
+	 */
+	static boolean isPlatformClass(String internalName) {
+		return internalName.startsWith("java/") || internalName.startsWith("javax/");
+	}
+
+	static byte[] readFully(InputStream in) throws IOException {
+		try (InputStream input = in) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(input.available(), 1024));
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = input.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		}
+	}
+
+	/**
+	 * Supplies the contents of a class file, e.g. from a file in a directory
+	 * or an entry of a JAR file.
+	 */
+	@FunctionalInterface
+	interface ClassFileSource {
+
+		byte[] read() throws IOException;
+	}
+
+	final class Evaluation {
+
+		private final ClassLoader classLoader;
+
+		// Results per internal class name of the candidates and all resolved types
+		private final Map<String, Boolean> results = new ConcurrentHashMap<>();
+
+		private Evaluation(ClassLoader classLoader) {
+			this.classLoader = classLoader;
+		}
+
+		/**
+		 * Determine whether {@link #accepts} reads class files at all.
+		 */
+		boolean readsClassFiles() {
+			return !acceptsAll();
+		}
+
+		/**
+		 * Determine whether the class in the supplied class file may be
+		 * accepted by the engine's class filter and should thus be loaded.
+		 */
+		boolean accepts(ClassFileSource source) {
+			if (acceptsAll()) {
+				return true;
+			}
+			try {
+				return accepts(summarize(source.read()));
+			}
+			catch (IOException | RuntimeException e) {
+				// Let the engine decide based on the loaded class
+				return true;
+			}
+		}
+
+		/**
+		 * Parse the supplied class file with respect to the markers of this
+		 * filter.
+		 *
+		 * @throws RuntimeException if the class file is malformed
+		 */
+		ClassFileSummary summarize(byte[] classFile) {
+			return new ClassFileSummary(classFile, ClassFileFilter.this.markers);
+		}
+
+		/**
+		 * Determine whether the class of an already parsed class file may be
+		 * accepted by the engine's class filter.
+		 */
+		boolean accepts(ClassFileSummary summary) {
+			if (acceptsAll()) {
+				return true;
+			}
+			Resolution resolution = new Resolution();
+			resolution.visiting.add(summary.className);
+			return resolution.store(summary.className, resolution.referencesMarker(summary));
+		}
+
+		/**
+		 * State of a single call to {@link #accepts}; results that were
+		 * computed while a type was being resolved recursively are only
+		 * cached if they are positive since they may depend on that type.
+		 */
+		private class Resolution {
+
+			private final Set<String> visiting = new HashSet<>();
+			private boolean cycleDetected;
+
+			boolean referencesMarker(ClassFileSummary summary) {
+				return summary.referencesMarker || anyReferencesMarker(summary.supertypes)
+						|| anyReferencesMarker(summary.annotationTypes) || anyReferencesMarker(summary.memberClasses);
+			}
+
+			private boolean anyReferencesMarker(List<String> classNames) {
+				for (String className : classNames) {
+					if (referencesMarker(className)) {
+						return true;
+					}
+				}
+				return false;
+			}
+
+			private boolean referencesMarker(String className) {
+				if (isPlatformClass(className)) {
+					return false;
+				}
+				Boolean result = results.get(className);
+				if (result != null) {
+					return result;
+				}
+				if (!this.visiting.add(className)) {
+					this.cycleDetected = true;
+					return false;
+				}
+				try {
+					return store(className, referencesMarker(resolve(className)));
+				}
+				catch (IOException | RuntimeException e) {
+					return store(className, true);
+				}
+				finally {
+					this.visiting.remove(className);
+				}
+			}
+
+			private ClassFileSummary resolve(String className) throws IOException {
+				InputStream in = classLoader.getResourceAsStream(className + CLASS_FILE_SUFFIX);
+				if (in == null) {
+					throw new IOException("Class file not found: " + className);
+				}
+				return new ClassFileSummary(readFully(in), ClassFileFilter.this.markers);
+			}
+
+			boolean store(String className, boolean result) {
+				if (result || !this.cycleDetected) {
+					results.put(className, result);
+				}
+				return result;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static org.junit.gen5.commons.meta.API.Usage.Internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * The parts of a class file that are relevant for {@link ClassFileFilter}:
+ * whether its constant pool references one of a set of marker types, and
+ * the types it depends on for being a test, i.e. its supertypes, the types
+ * of its runtime-visible annotations, and its member classes.
+ *
+ * <p>Only the constant pool and the annotation and {@code InnerClasses}
+ * attributes are parsed; code and all other attributes are skipped.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 5.0
+ */
+@API(Internal)
+final class ClassFileSummary {
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private static final int CONSTANT_UTF8 = 1;
+	private static final int CONSTANT_INTEGER = 3;
+	private static final int CONSTANT_FLOAT = 4;
+	private static final int CONSTANT_LONG = 5;
+	private static final int CONSTANT_DOUBLE = 6;
+	private static final int CONSTANT_CLASS = 7;
+	private static final int CONSTANT_STRING = 8;
+	private static final int CONSTANT_FIELDREF = 9;
+	private static final int CONSTANT_METHODREF = 10;
+	private static final int CONSTANT_INTERFACE_METHODREF = 11;
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+	private static final int CONSTANT_METHOD_HANDLE = 15;
+	private static final int CONSTANT_METHOD_TYPE = 16;
+	private static final int CONSTANT_DYNAMIC = 17;
+	private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+	private static final int CONSTANT_MODULE = 19;
+	private static final int CONSTANT_PACKAGE = 20;
+
+	private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+	private static final String INNER_CLASSES = "InnerClasses";
+
+	final String className;
+	final boolean referencesMarker;
+	final List<String> supertypes = new ArrayList<>();
+	final List<String> annotationTypes = new ArrayList<>();
+	final List<String> memberClasses = new ArrayList<>();
+
+	private final byte[] bytes;
+	private int position;
+
+	// Offsets of the constant pool entries, pointing at the entry's content after its tag
+	private final int[] constants;
+
+	/**
+	 * Parse the supplied class file.
+	 *
+	 * @param bytes the contents of the class file
+	 * @param markers internal names of the marker types, e.g.
+	 * {@code org/junit/Test}; a class file references a marker if any of
+	 * its UTF-8 constants is the marker's name or contains its descriptor
+	 * @throws IllegalArgumentException if the bytes are not a class file
+	 * @throws IndexOutOfBoundsException if the class file is truncated
+	 */
+	ClassFileSummary(byte[] bytes, Collection<String> markers) {
+		this.bytes = bytes;
+		if (readInt() != MAGIC) {
+			throw new IllegalArgumentException("Not a class file");
+		}
+		this.position += 4; // minor and major version
+		this.constants = readConstantPool();
+		this.referencesMarker = referencesAnyOf(markers);
+
+		this.position += 2; // access flags
+		int thisClass = readUnsignedShort();
+		this.className = className(thisClass);
+		int superClass = readUnsignedShort();
+		if (superClass != 0) {
+			this.supertypes.add(className(superClass));
+		}
+		int interfaces = readUnsignedShort();
+		for (int i = 0; i < interfaces; i++) {
+			this.supertypes.add(className(readUnsignedShort()));
+		}
+		readMembers(); // fields
+		readMembers(); // methods
+		readAttributes(thisClass);
+	}
+
+	/**
+	 * Get the internal names of all types that determine whether this class
+	 * may be a test apart from its own class file.
+	 */
+	List<String> dependencies() {
+		List<String> dependencies = new ArrayList<>(
+			this.supertypes.size() + this.annotationTypes.size() + this.memberClasses.size());
+		dependencies.addAll(this.supertypes);
+		dependencies.addAll(this.annotationTypes);
+		dependencies.addAll(this.memberClasses);
+		return dependencies;
+	}
+
+	private int[] readConstantPool() {
+		int count = readUnsignedShort();
+		int[] offsets = new int[count];
+		for (int index = 1; index < count; index++) {
+			int tag = this.bytes[this.position++];
+			offsets[index] = this.position;
+			switch (tag) {
+				case CONSTANT_UTF8:
+					this.position += 2 + readUnsignedShort(this.position);
+					break;
+				case CONSTANT_CLASS:
+				case CONSTANT_STRING:
+				case CONSTANT_METHOD_TYPE:
+				case CONSTANT_MODULE:
+				case CONSTANT_PACKAGE:
+					this.position += 2;
+					break;
+				case CONSTANT_METHOD_HANDLE:
+					this.position += 3;
+					break;
+				case CONSTANT_INTEGER:
+				case CONSTANT_FLOAT:
+				case CONSTANT_FIELDREF:
+				case CONSTANT_METHODREF:
+				case CONSTANT_INTERFACE_METHODREF:
+				case CONSTANT_NAME_AND_TYPE:
+				case CONSTANT_DYNAMIC:
+				case CONSTANT_INVOKE_DYNAMIC:
+					this.position += 4;
+					break;
+				case CONSTANT_LONG:
+				case CONSTANT_DOUBLE:
+					this.position += 8;
+					index++; // takes up two entries
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+			}
+		}
+		return offsets;
+	}
+
+	private boolean referencesAnyOf(Collection<String> markers) {
+		List<byte[]> names = new ArrayList<>(markers.size());
+		List<byte[]> descriptors = new ArrayList<>(markers.size());
+		for (String marker : markers) {
+			names.add(marker.getBytes(StandardCharsets.UTF_8));
+			descriptors.add(('L' + marker + ';').getBytes(StandardCharsets.UTF_8));
+		}
+		for (int index = 1; index < this.constants.length; index++) {
+			int offset = this.constants[index];
+			if (offset == 0 || this.bytes[offset - 1] != CONSTANT_UTF8) {
+				continue;
+			}
+			int length = readUnsignedShort(offset);
+			for (int i = 0; i < names.size(); i++) {
+				if (equalsAt(offset + 2, length, names.get(i)) || containsAt(offset + 2, length, descriptors.get(i))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean equalsAt(int offset, int length, byte[] expected) {
+		return length == expected.length && regionMatches(offset, expected);
+	}
+
+	private boolean containsAt(int offset, int length, byte[] expected) {
+		for (int start = offset; start <= offset + length - expected.length; start++) {
+			if (regionMatches(start, expected)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean regionMatches(int offset, byte[] expected) {
+		for (int i = 0; i < expected.length; i++) {
+			if (this.bytes[offset + i] != expected[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void readMembers() {
+		int count = readUnsignedShort();
+		for (int i = 0; i < count; i++) {
+			this.position += 6; // access flags, name and descriptor
+			readAttributes(0);
+		}
+	}
+
+	/**
+	 * @param thisClass the constant pool index of the class if the attributes
+	 * belong to the class itself, {@code 0} for fields and methods
+	 */
+	private void readAttributes(int thisClass) {
+		int count = readUnsignedShort();
+		for (int i = 0; i < count; i++) {
+			String name = utf8(readUnsignedShort());
+			int length = readInt();
+			int end = this.position + length;
+			if (RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+				readAnnotations();
+			}
+			else if (thisClass != 0 && INNER_CLASSES.equals(name)) {
+				readInnerClasses(thisClass);
+			}
+			this.position = end;
+		}
+	}
+
+	private void readAnnotations() {
+		int count = readUnsignedShort();
+		for (int i = 0; i < count; i++) {
+			readAnnotation();
+		}
+	}
+
+	private void readAnnotation() {
+		String descriptor = utf8(readUnsignedShort());
+		if (descriptor.length() > 2 && descriptor.charAt(0) == 'L') {
+			this.annotationTypes.add(descriptor.substring(1, descriptor.length() - 1));
+		}
+		int pairs = readUnsignedShort();
+		for (int i = 0; i < pairs; i++) {
+			this.position += 2; // element name
+			readElementValue();
+		}
+	}
+
+	private void readElementValue() {
+		int tag = this.bytes[this.position++];
+		switch (tag) {
+			case 'e':
+				this.position += 4;
+				break;
+			case '@':
+				// Nested annotations may be the contained values of a repeatable annotation
+				readAnnotation();
+				break;
+			case '[':
+				int values = readUnsignedShort();
+				for (int i = 0; i < values; i++) {
+					readElementValue();
+				}
+				break;
+			default:
+				this.position += 2;
+		}
+	}
+
+	private void readInnerClasses(int thisClass) {
+		int count = readUnsignedShort();
+		for (int i = 0; i < count; i++) {
+			int innerClass = readUnsignedShort();
+			int outerClass = readUnsignedShort();
+			this.position += 4; // inner name and access flags
+			if (outerClass == thisClass) {
+				this.memberClasses.add(className(innerClass));
+			}
+		}
+	}
+
+	private String className(int classIndex) {
+		return utf8(readUnsignedShort(this.constants[classIndex]));
+	}
+
+	private String utf8(int index) {
+		int offset = this.constants[index];
+		if (this.bytes[offset - 1] != CONSTANT_UTF8) {
+			throw new IllegalArgumentException("Not a UTF-8 constant: " + index);
+		}
+		// Modified UTF-8 only differs from UTF-8 for NUL and supplementary characters
+		return new String(this.bytes, offset + 2, readUnsignedShort(offset), StandardCharsets.UTF_8);
+	}
+
+	private int readUnsignedShort() {
+		int value = readUnsignedShort(this.position);
+		this.position += 2;
+		return value;
+	}
+
+	private int readUnsignedShort(int offset) {
+		return ((this.bytes[offset] & 0xFF) << 8) | (this.bytes[offset + 1] & 0xFF);
+	}
+
+	private int readInt() {
+		int value = (readUnsignedShort(this.position) << 16) | readUnsignedShort(this.position + 2);
+		this.position += 4;
+		return value;
+	}
+
+}
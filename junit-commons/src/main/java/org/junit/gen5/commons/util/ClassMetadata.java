@@ -0,0 +1,327 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.gen5.commons.util.AnnotationUtils.AnnotationCacheKey;
+import org.junit.gen5.commons.util.ReflectionUtils.MethodSortOrder;
+
+/**
+ * Reflective metadata of a single class, and the results of annotation
+ * lookups on the class and its members, computed once and then shared by
+ * all lookups.
+ *
+ * <p>Instances are stored in a {@link ClassCache} and are thus attached to
+ * the class itself where possible: they neither keep classes of discarded
+ * class loaders alive nor mix up classes of the same name from different
+ * class loaders. All lists and maps are immutable; they are computed lazily, and
+ * concurrent lookups may compute the same value more than once.
+ *
+ * @since 5.0
+ */
+final class ClassMetadata {
+
+	private static final int MAX_DETACHED_CLASSES = 1024;
+
+	private static final CacheCounters annotationCounters = new CacheCounters("annotations");
+	private static final CacheCounters repeatableCounters = new CacheCounters("repeatable annotations");
+
+	private static final ClassCache<ClassMetadata> cache = new ClassCache<>("class metadata", MAX_DETACHED_CLASSES,
+		ClassMetadata::new, ClassMetadata::releaseAction);
+
+	static ClassMetadata of(Class<?> clazz) {
+		return cache.get(clazz);
+	}
+
+	/**
+	 * Get the statistics of the class metadata cache and of the annotation
+	 * lookups cached in it.
+	 */
+	static List<CacheStatistics> getStatistics() {
+		return Arrays.asList(cache.getStatistics(), annotationCounters.toStatistics(),
+			repeatableCounters.toStatistics());
+	}
+
+	private final Class<?> clazz;
+
+	private final Map<AnnotationCacheKey, Optional<? extends Annotation>> annotationCache = new ConcurrentHashMap<>();
+	private final Map<AnnotationCacheKey, List<? extends Annotation>> repeatableCache = new ConcurrentHashMap<>();
+	private final AtomicInteger annotationCacheSize = new AtomicInteger();
+	private final AtomicInteger repeatableCacheSize = new AtomicInteger();
+
+	private volatile Map<Class<? extends Annotation>, Annotation> metaAnnotations;
+	private volatile List<Method> declaredMethods;
+	private volatile Set<MethodSignature> declaredSignatures;
+	private volatile List<Method> methodsHierarchyDown;
+	private volatile List<Method> methodsHierarchyUp;
+	private volatile List<Method> defaultMethodsHierarchyDown;
+	private volatile List<Method> defaultMethodsHierarchyUp;
+
+	private ClassMetadata(Class<?> clazz) {
+		this.clazz = clazz;
+	}
+
+	private static Runnable releaseAction(ClassMetadata metadata) {
+		AtomicInteger annotationCacheSize = metadata.annotationCacheSize;
+		AtomicInteger repeatableCacheSize = metadata.repeatableCacheSize;
+		return () -> {
+			annotationCounters.evicted(annotationCacheSize.get());
+			repeatableCounters.evicted(repeatableCacheSize.get());
+		};
+	}
+
+	/**
+	 * Get the cached result of {@link AnnotationUtils#findAnnotation} for the
+	 * class or one of its members, computing it if necessary.
+	 */
+	Optional<? extends Annotation> findAnnotation(AnnotationCacheKey key,
+			Supplier<Optional<? extends Annotation>> lookup) {
+		return lookUp(key, lookup, this.annotationCache, this.annotationCacheSize, annotationCounters);
+	}
+
+	/**
+	 * Get the cached result of {@link AnnotationUtils#findRepeatableAnnotations}
+	 * for the class or one of its members, computing it if necessary.
+	 */
+	List<? extends Annotation> findRepeatableAnnotations(AnnotationCacheKey key,
+			Supplier<List<? extends Annotation>> lookup) {
+		return lookUp(key, lookup, this.repeatableCache, this.repeatableCacheSize, repeatableCounters);
+	}
+
+	private static <T> T lookUp(AnnotationCacheKey key, Supplier<T> lookup, Map<AnnotationCacheKey, T> cache,
+			AtomicInteger cacheSize, CacheCounters counters) {
+
+		counters.lookedUp();
+		T result = cache.get(key);
+		if (result == null) {
+			// Computed outside of the map since lookups may be recursive
+			counters.missed();
+			result = lookup.get();
+			T existing = cache.putIfAbsent(key, result);
+			if (existing != null) {
+				return existing;
+			}
+			cacheSize.incrementAndGet();
+			counters.added(1);
+		}
+		return result;
+	}
+
+	/**
+	 * Get the closure of the meta-annotations of this annotation type.
+	 *
+	 * <p>For each annotation type that is meta-present on this annotation
+	 * type, the map contains the annotation that a recursive search finds
+	 * first: annotations that are directly present on an annotation type
+	 * are favored over those that are meta-present on them.
+	 */
+	Map<Class<? extends Annotation>, Annotation> getMetaAnnotations() {
+		Map<Class<? extends Annotation>, Annotation> annotations = this.metaAnnotations;
+		if (annotations == null) {
+			Set<Class<?>> visited = new HashSet<>();
+			visited.add(this.clazz);
+			Map<Class<? extends Annotation>, Annotation> closure = new LinkedHashMap<>();
+			collectMetaAnnotations(this.clazz, closure, visited);
+			annotations = this.metaAnnotations = unmodifiableMap(closure);
+		}
+		return annotations;
+	}
+
+	private static void collectMetaAnnotations(Class<?> annotationType,
+			Map<Class<? extends Annotation>, Annotation> closure, Set<Class<?>> visited) {
+
+		Annotation[] declaredAnnotations = annotationType.getDeclaredAnnotations();
+		for (Annotation annotation : declaredAnnotations) {
+			closure.putIfAbsent(annotation.annotationType(), annotation);
+		}
+		for (Annotation annotation : declaredAnnotations) {
+			Class<? extends Annotation> type = annotation.annotationType();
+			if (!AnnotationUtils.isInJavaLangAnnotationPackage(type) && visited.add(type)) {
+				collectMetaAnnotations(type, closure, visited);
+			}
+		}
+	}
+
+	/**
+	 * Get all methods declared in the class and its superclasses except
+	 * {@link Object}, and all default methods of its interfaces, without
+	 * methods that are shadowed by methods of subtypes.
+	 */
+	List<Method> getMethodsInHierarchy(MethodSortOrder sortOrder) {
+		if (sortOrder == MethodSortOrder.HierarchyDown) {
+			List<Method> methods = this.methodsHierarchyDown;
+			if (methods == null) {
+				methods = this.methodsHierarchyDown = computeMethodsInHierarchy(sortOrder);
+			}
+			return methods;
+		}
+		List<Method> methods = this.methodsHierarchyUp;
+		if (methods == null) {
+			methods = this.methodsHierarchyUp = computeMethodsInHierarchy(sortOrder);
+		}
+		return methods;
+	}
+
+	private List<Method> computeMethodsInHierarchy(MethodSortOrder sortOrder) {
+		// TODO Determine if we need to support bridged methods.
+
+		Set<MethodSignature> localSignatures = getDeclaredSignatures();
+		List<Method> superclassMethods = notShadowed(getSuperclassMethods(sortOrder), localSignatures);
+		List<Method> interfaceMethods = notShadowed(getInterfaceMethods(sortOrder), localSignatures);
+
+		List<Method> methods = new ArrayList<>();
+		if (sortOrder == MethodSortOrder.HierarchyDown) {
+			methods.addAll(superclassMethods);
+			methods.addAll(interfaceMethods);
+		}
+		methods.addAll(getDeclaredMethods());
+		if (sortOrder == MethodSortOrder.HierarchyUp) {
+			methods.addAll(interfaceMethods);
+			methods.addAll(superclassMethods);
+		}
+		return unmodifiableList(methods);
+	}
+
+	private List<Method> getSuperclassMethods(MethodSortOrder sortOrder) {
+		Class<?> superclass = this.clazz.getSuperclass();
+		if (superclass == null || superclass == Object.class) {
+			return emptyList();
+		}
+		return of(superclass).getMethodsInHierarchy(sortOrder);
+	}
+
+	private List<Method> getInterfaceMethods(MethodSortOrder sortOrder) {
+		List<Method> interfaceMethods = new ArrayList<>();
+		for (Class<?> ifc : this.clazz.getInterfaces()) {
+			interfaceMethods.addAll(of(ifc).getDefaultMethods(sortOrder));
+		}
+		return interfaceMethods;
+	}
+
+	/**
+	 * Get the default methods of this interface and of its superinterfaces
+	 * that are not shadowed by default methods of this interface.
+	 */
+	private List<Method> getDefaultMethods(MethodSortOrder sortOrder) {
+		if (sortOrder == MethodSortOrder.HierarchyDown) {
+			List<Method> methods = this.defaultMethodsHierarchyDown;
+			if (methods == null) {
+				methods = this.defaultMethodsHierarchyDown = computeDefaultMethods(sortOrder);
+			}
+			return methods;
+		}
+		List<Method> methods = this.defaultMethodsHierarchyUp;
+		if (methods == null) {
+			methods = this.defaultMethodsHierarchyUp = computeDefaultMethods(sortOrder);
+		}
+		return methods;
+	}
+
+	private List<Method> computeDefaultMethods(MethodSortOrder sortOrder) {
+		List<Method> localMethods = getDeclaredMethods().stream().filter(Method::isDefault).collect(toList());
+		Set<MethodSignature> localSignatures = localMethods.stream().map(MethodSignature::new).collect(
+			toCollection(HashSet::new));
+		List<Method> superinterfaceMethods = notShadowed(getInterfaceMethods(sortOrder), localSignatures);
+
+		List<Method> methods = new ArrayList<>();
+		if (sortOrder == MethodSortOrder.HierarchyDown) {
+			methods.addAll(superinterfaceMethods);
+		}
+		methods.addAll(localMethods);
+		if (sortOrder == MethodSortOrder.HierarchyUp) {
+			methods.addAll(superinterfaceMethods);
+		}
+		return unmodifiableList(methods);
+	}
+
+	private List<Method> getDeclaredMethods() {
+		List<Method> methods = this.declaredMethods;
+		if (methods == null) {
+			methods = this.declaredMethods = unmodifiableList(Arrays.asList(this.clazz.getDeclaredMethods()));
+		}
+		return methods;
+	}
+
+	private Set<MethodSignature> getDeclaredSignatures() {
+		Set<MethodSignature> signatures = this.declaredSignatures;
+		if (signatures == null) {
+			signatures = this.declaredSignatures = getDeclaredMethods().stream().map(MethodSignature::new).collect(
+				toCollection(HashSet::new));
+		}
+		return signatures;
+	}
+
+	private static List<Method> notShadowed(List<Method> methods, Set<MethodSignature> localSignatures) {
+		if (localSignatures.isEmpty()) {
+			return methods;
+		}
+		// @formatter:off
+		return methods.stream()
+				.filter(method -> !localSignatures.contains(new MethodSignature(method)))
+				.collect(toList());
+		// @formatter:on
+	}
+
+	/**
+	 * Name and parameter types of a method, which determine whether it
+	 * shadows a method of a supertype.
+	 */
+	private static final class MethodSignature {
+
+		private final String name;
+		private final Class<?>[] parameterTypes;
+		private final int hashCode;
+
+		MethodSignature(Method method) {
+			this.name = method.getName();
+			this.parameterTypes = method.getParameterTypes();
+			this.hashCode = 31 * this.name.hashCode() + Arrays.hashCode(this.parameterTypes);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof MethodSignature)) {
+				return false;
+			}
+			MethodSignature other = (MethodSignature) obj;
+			return this.hashCode == other.hashCode && this.name.equals(other.name)
+					&& Arrays.equals(this.parameterTypes, other.parameterTypes);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+}
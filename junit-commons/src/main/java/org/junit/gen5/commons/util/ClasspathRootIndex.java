@@ -0,0 +1,323 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static org.junit.gen5.commons.meta.API.Usage.Internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * Persistent record of the verdicts of previous scans of a classpath root,
+ * i.e. which of its classes passed the class file filter and the class
+ * filter of a scan.
+ *
+ * <p>Each class is recorded with the size and last modification time of
+ * its class file (or of the JAR file containing it) and with the types its
+ * verdict depends on: its supertypes, annotation types, and member classes.
+ * A recorded verdict is reused as long as neither the class file nor, in
+ * turn, any of these types changed. Since only types within the same root
+ * are tracked, verdicts depending on types outside the root are never
+ * reused.
+ *
+ * <p>Indexes are stored per root and per <em>namespace</em>, which
+ * identifies the filters of a scan, in a common index directory.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 5.0
+ */
+@API(Internal)
+final class ClasspathRootIndex {
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final String CLASS_FILE_SUFFIX = ".class";
+
+	private final Path indexFile;
+	private final File root;
+	private final String namespace;
+	private final boolean jar;
+
+	/**
+	 * The subtree of the root covered by the current scan, e.g. the classes
+	 * of a package and its subpackages as {@code "org.example."}.
+	 */
+	private final String classNamePrefix;
+
+	private final Map<String, Entry> previousEntries;
+	private final Map<String, Entry> currentEntries = new ConcurrentHashMap<>();
+
+	// Whether a class and all classes its verdict depends on are unchanged
+	private final Map<String, Boolean> upToDate = new ConcurrentHashMap<>();
+
+	/**
+	 * Load the index of the supplied root from the index directory, or
+	 * create an empty one if it does not exist or cannot be read.
+	 *
+	 * @param root a classpath root directory or JAR file
+	 * @param packageName the name of the scanned package, or an empty string
+	 * if the whole root is scanned
+	 */
+	static ClasspathRootIndex load(Path indexDirectory, File root, String namespace, String packageName) {
+		Path indexFile = indexDirectory.resolve(fileName(root, namespace));
+		return new ClasspathRootIndex(indexFile, root, namespace, packageName, read(indexFile, root, namespace));
+	}
+
+	private ClasspathRootIndex(Path indexFile, File root, String namespace, String packageName,
+			Map<String, Entry> previousEntries) {
+		this.indexFile = indexFile;
+		this.root = root;
+		this.namespace = namespace;
+		this.jar = root.isFile();
+		this.classNamePrefix = packageName.isEmpty() ? "" : packageName + '.';
+		this.previousEntries = previousEntries;
+	}
+
+	/**
+	 * Get the recorded verdict for a class whose class file currently has
+	 * the supplied size and last modification time, provided that neither
+	 * the class file nor any of its dependencies changed since.
+	 *
+	 * <p>A reused verdict remains recorded in this index.
+	 */
+	Optional<Boolean> reusableVerdict(String className, long size, long lastModified) {
+		Entry entry = this.previousEntries.get(className);
+		if (entry == null || entry.size != size || entry.lastModified != lastModified
+				|| !dependenciesUpToDate(entry, new ArrayList<>(Collections.singletonList(className)))) {
+			return Optional.empty();
+		}
+		this.currentEntries.put(className, entry);
+		return Optional.of(entry.verdict);
+	}
+
+	/**
+	 * Record the verdict for a class.
+	 *
+	 * @param dependencies the internal names of the types the verdict
+	 * depends on, e.g. {@code org/example/BaseTests}
+	 */
+	void record(String className, long size, long lastModified, boolean verdict, List<String> dependencies) {
+		List<String> dependencyNames = new ArrayList<>(dependencies.size());
+		for (String dependency : dependencies) {
+			if (!ClassFileFilter.isPlatformClass(dependency)) {
+				dependencyNames.add(dependency.replace('/', '.'));
+			}
+		}
+		this.currentEntries.put(className, new Entry(size, lastModified, verdict, dependencyNames));
+	}
+
+	private boolean isUpToDate(String className, List<String> visiting) {
+		Boolean result = this.upToDate.get(className);
+		if (result != null) {
+			return result;
+		}
+		if (visiting.contains(className)) {
+			// Determined by the class that is being visited
+			return true;
+		}
+		Entry entry = this.previousEntries.get(className);
+		Optional<BasicFileAttributes> attributes = classFileAttributes(className);
+		boolean unchanged = entry != null && attributes.isPresent() && entry.size == attributes.get().size()
+				&& entry.lastModified == attributes.get().lastModifiedTime().toMillis();
+		visiting.add(className);
+		result = unchanged && dependenciesUpToDate(entry, visiting);
+		visiting.remove(visiting.size() - 1);
+		// Positive results may rely on the assumption for a class that is still being visited
+		if (!result || visiting.isEmpty()) {
+			this.upToDate.put(className, result);
+		}
+		return result;
+	}
+
+	private boolean dependenciesUpToDate(Entry entry, List<String> visiting) {
+		for (String dependency : entry.dependencies) {
+			if (!isUpToDate(dependency, visiting)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Optional<BasicFileAttributes> classFileAttributes(String className) {
+		Path file = this.jar ? this.root.toPath()
+				: this.root.toPath().resolve(className.replace('.', '/') + CLASS_FILE_SUFFIX);
+		try {
+			return Optional.of(Files.readAttributes(file, BasicFileAttributes.class));
+		}
+		catch (IOException e) {
+			// Deleted, or not within this root
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Write the current verdicts to the index directory; verdicts of classes
+	 * outside the scanned package are kept, all others are replaced.
+	 *
+	 * <p>Failures are ignored since the index is only a cache.
+	 */
+	void save() {
+		Map<String, Entry> entries = new HashMap<>(this.currentEntries);
+		this.previousEntries.forEach((className, entry) -> {
+			if (!className.startsWith(this.classNamePrefix)) {
+				entries.putIfAbsent(className, entry);
+			}
+		});
+		List<String> classNames = new ArrayList<>(entries.keySet());
+		Collections.sort(classNames);
+		Path tempFile = null;
+		try {
+			Files.createDirectories(this.indexFile.getParent());
+			tempFile = Files.createTempFile(this.indexFile.getParent(), this.indexFile.getFileName().toString(),
+				".tmp");
+			try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(this.root.getAbsolutePath());
+				out.writeUTF(this.namespace);
+				out.writeInt(classNames.size());
+				for (String className : classNames) {
+					out.writeUTF(className);
+					entries.get(className).writeTo(out);
+				}
+			}
+			// Concurrent runs replace each other's indexes instead of corrupting them
+			try {
+				Files.move(tempFile, this.indexFile, StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, this.indexFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException e) {
+			// Ignored; the next scan will rebuild the index
+		}
+		finally {
+			deleteIfExists(tempFile);
+		}
+	}
+
+	private static void deleteIfExists(Path file) {
+		if (file != null) {
+			try {
+				Files.deleteIfExists(file);
+			}
+			catch (IOException e) {
+				// Ignored, see save()
+			}
+		}
+	}
+
+	private static Map<String, Entry> read(Path indexFile, File root, String namespace) {
+		if (!Files.isRegularFile(indexFile)) {
+			return Collections.emptyMap();
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+			if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(root.getAbsolutePath())
+					|| !in.readUTF().equals(namespace)) {
+				return Collections.emptyMap();
+			}
+			int count = in.readInt();
+			Map<String, Entry> entries = new HashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				entries.put(in.readUTF(), Entry.readFrom(in));
+			}
+			return entries;
+		}
+		catch (IOException e) {
+			// Corrupt or outdated index
+			return Collections.emptyMap();
+		}
+	}
+
+	private static String fileName(File root, String namespace) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			digest.update(root.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(namespace.getBytes(StandardCharsets.UTF_8));
+			StringBuilder fileName = new StringBuilder();
+			for (byte b : digest.digest()) {
+				fileName.append(String.format("%02x", b));
+			}
+			return fileName.append(".idx").toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-1
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static final class Entry {
+
+		final long size;
+		final long lastModified;
+		final boolean verdict;
+		final List<String> dependencies;
+
+		Entry(long size, long lastModified, boolean verdict, List<String> dependencies) {
+			this.size = size;
+			this.lastModified = lastModified;
+			this.verdict = verdict;
+			this.dependencies = dependencies;
+		}
+
+		void writeTo(DataOutputStream out) throws IOException {
+			out.writeLong(this.size);
+			out.writeLong(this.lastModified);
+			out.writeBoolean(this.verdict);
+			out.writeInt(this.dependencies.size());
+			for (String dependency : this.dependencies) {
+				out.writeUTF(dependency);
+			}
+		}
+
+		static Entry readFrom(DataInputStream in) throws IOException {
+			long size = in.readLong();
+			long lastModified = in.readLong();
+			boolean verdict = in.readBoolean();
+			int count = in.readInt();
+			List<String> dependencies = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				dependencies.add(in.readUTF());
+			}
+			return new Entry(size, lastModified, verdict, dependencies);
+		}
+	}
+
+}
@@ -10,23 +10,50 @@
 
 package org.junit.gen5.commons.util;
 
+import static java.util.stream.Collectors.toList;
 import static org.junit.gen5.commons.meta.API.Usage.Internal;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.junit.gen5.commons.meta.API;
 
 /**
+ * Scans classpath roots and packages for classes; both directories and JAR
+ * files are supported.
+ *
  * <h3>DISCLAIMER</h3>
  *
  * <p>These utilities are intended solely for usage within the JUnit framework
@@ -40,14 +67,52 @@ class ClasspathScanner {
 
 	private static final String CLASS_FILE_SUFFIX = ".class";
 
+	private static final String JAR_FILE_SUFFIX = ".jar";
+
+	private static final String PACKAGE_INFO = "package-info";
+
+	private static final String MODULE_INFO = "module-info";
+
+	private static final String JAR_URL_SEPARATOR = "!/";
+
+	/**
+	 * Number of JAR entries below which the classes of a JAR file are not
+	 * loaded concurrently in parallel mode.
+	 */
+	private static final int JAR_ENTRIES_PER_TASK = 256;
+
 	private final Supplier<ClassLoader> classLoaderSupplier;
 
 	private final BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass;
 
+	private final boolean parallel;
+
+	private final Path indexDirectory;
+
 	ClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
 			BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass) {
+		this(classLoaderSupplier, loadClass, false);
+	}
+
+	ClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
+			BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass, boolean parallel) {
+		this(classLoaderSupplier, loadClass, parallel, null);
+	}
+
+	/**
+	 * @param parallel whether directories should be scanned and classes be
+	 * loaded concurrently on the common {@link ForkJoinPool}; the results are
+	 * in the same order as for a sequential scan, but {@code loadClass} and
+	 * all class filters must be thread-safe
+	 * @param indexDirectory the directory to store a {@link ClasspathRootIndex}
+	 * per scanned root in, or {@code null} if scans should not be indexed
+	 */
+	ClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
+			BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass, boolean parallel, Path indexDirectory) {
 		this.classLoaderSupplier = classLoaderSupplier;
 		this.loadClass = loadClass;
+		this.parallel = parallel;
+		this.indexDirectory = indexDirectory;
 	}
 
 	boolean isPackage(String packageName) {
@@ -62,74 +127,154 @@ class ClasspathScanner {
 	}
 
 	List<Class<?>> scanForClassesInPackage(String basePackageName, Predicate<Class<?>> classFilter) {
+		return scanForClassesInPackage(basePackageName, ClassFileFilter.ACCEPT_ALL, classFilter);
+	}
+
+	List<Class<?>> scanForClassesInPackage(String basePackageName, ClassFileFilter classFileFilter,
+			Predicate<Class<?>> classFilter) {
 		Preconditions.notBlank(basePackageName, "basePackageName must not be blank");
+		Preconditions.notNull(classFileFilter, "classFileFilter must not be null");
+
+		Scan scan = new Scan(classFileFilter, classFilter);
+		return findClasses(scan, allSourcesForPackage(basePackageName, scan));
+	}
 
-		List<File> dirs = allSourceDirsForPackage(basePackageName);
-		return allClassesInSourceDirs(dirs, basePackageName, classFilter);
+	List<Class<?>> scanForClassesInClasspathRoot(File root, Predicate<Class<?>> classFilter) {
+		return scanForClassesInClasspathRoots(Collections.singletonList(root), classFilter);
+	}
+
+	List<Class<?>> scanForClassesInClasspathRoots(Collection<File> roots, Predicate<Class<?>> classFilter) {
+		return scanForClassesInClasspathRoots(roots, ClassFileFilter.ACCEPT_ALL, classFilter);
 	}
 
-	private List<Class<?>> allClassesInSourceDirs(List<File> sourceDirs, String basePackageName,
+	/**
+	 * Scan all supplied classpath roots, which may be directories or JAR
+	 * files; the returned classes are ordered by root first, and by their
+	 * path within the root second.
+	 */
+	List<Class<?>> scanForClassesInClasspathRoots(Collection<File> roots, ClassFileFilter classFileFilter,
 			Predicate<Class<?>> classFilter) {
-		List<Class<?>> classes = new ArrayList<>();
-		for (File aSourceDir : sourceDirs) {
-			classes.addAll(findClassesInSourceDirRecursively(aSourceDir, basePackageName, classFilter));
+		Preconditions.notNull(roots, "roots must not be null");
+		Preconditions.notNull(classFileFilter, "classFileFilter must not be null");
+		for (File root : roots) {
+			Preconditions.notNull(root, () -> "root must not be null");
+			Preconditions.condition(root.exists(),
+				() -> "root must exist, but could not be found: " + root.getAbsolutePath());
+			Preconditions.condition(root.isDirectory() || isJarFile(root),
+				() -> "root must be a directory or a JAR file, but is not: " + root.getAbsolutePath());
 		}
-		return classes;
+
+		Scan scan = new Scan(classFileFilter, classFilter);
+		List<ScanTask> tasks = new ArrayList<>(roots.size());
+		for (File root : roots) {
+			tasks.add(newRootTask(root, scan));
+		}
+		return findClasses(scan, tasks);
 	}
 
-	List<Class<?>> scanForClassesInClasspathRoot(File root, Predicate<Class<?>> classFilter) {
-		Preconditions.notNull(root, () -> "root must not be null");
-		Preconditions.condition(root.exists(),
-			() -> "root must exist, but could not be found: " + root.getAbsolutePath());
-		Preconditions.condition(root.isDirectory(), "root must be a directory, but is not: " + root.getAbsolutePath());
+	private ScanTask newRootTask(File root, Scan scan) {
+		Optional<List<String>> indexedClassNames = scan.readTestIndex(root, "");
+		if (indexedClassNames.isPresent()) {
+			return new IndexedClassesTask(indexedClassNames.get(), scan);
+		}
+		ClasspathRootIndex index = scan.indexFor(root, "");
+		if (isJarFile(root)) {
+			return new JarScanTask(root, "", scan, index);
+		}
+		return new DirectoryScanTask(root.toPath(), "", scan, index);
+	}
 
-		return findClassesInSourceDirRecursively(root, "", classFilter);
+	static boolean isJarFile(File file) {
+		return file.getName().toLowerCase(Locale.ENGLISH).endsWith(JAR_FILE_SUFFIX) && file.isFile();
 	}
 
-	private List<File> allSourceDirsForPackage(String basePackageName) {
+	private List<ScanTask> allSourcesForPackage(String basePackageName, Scan scan) {
 		try {
-			ClassLoader classLoader = classLoaderSupplier.get();
 			String path = packagePath(basePackageName);
-			Enumeration<URL> resources = classLoader.getResources(path);
-			List<File> dirs = new ArrayList<>();
+			Enumeration<URL> resources = scan.classLoader.getResources(path);
+			List<ScanTask> tasks = new ArrayList<>();
 			while (resources.hasMoreElements()) {
 				URL resource = resources.nextElement();
-				dirs.add(new File(resource.getFile()));
+				if ("jar".equals(resource.getProtocol())) {
+					jarFileOf(resource).ifPresent(jarFile -> tasks.add(newPackageTask(jarFile, basePackageName, scan)));
+				}
+				else {
+					try {
+						tasks.add(newPackageTask(new File(resource.getFile()).toPath(), basePackageName, scan));
+					}
+					catch (InvalidPathException e) {
+						// Not a directory in the file system
+					}
+				}
 			}
-			return dirs;
+			return tasks;
 		}
 		catch (IOException e) {
 			return Collections.emptyList();
 		}
 	}
 
-	private String packagePath(String basePackageName) {
-		return basePackageName.replace('.', '/');
+	private ScanTask newPackageTask(File jarFile, String basePackageName, Scan scan) {
+		Optional<List<String>> indexedClassNames = scan.readTestIndex(jarFile, basePackageName);
+		if (indexedClassNames.isPresent()) {
+			return new IndexedClassesTask(indexedClassNames.get(), scan);
+		}
+		String pathPrefix = packagePath(basePackageName) + '/';
+		return new JarScanTask(jarFile, pathPrefix, scan, scan.indexFor(jarFile, basePackageName));
 	}
 
-	private List<Class<?>> findClassesInSourceDirRecursively(File sourceDir, String packageName,
-			Predicate<Class<?>> classFilter) {
-		List<Class<?>> classesCollector = new ArrayList<>();
-		collectClassesRecursively(sourceDir, packageName, classesCollector, classFilter);
-		return classesCollector;
+	private ScanTask newPackageTask(Path directory, String basePackageName, Scan scan) {
+		Optional<File> root = rootOf(directory, basePackageName).map(Path::toFile);
+		Optional<List<String>> indexedClassNames = root.flatMap(file -> scan.readTestIndex(file, basePackageName));
+		if (indexedClassNames.isPresent()) {
+			return new IndexedClassesTask(indexedClassNames.get(), scan);
+		}
+		ClasspathRootIndex index = root.map(file -> scan.indexFor(file, basePackageName)).orElse(null);
+		return new DirectoryScanTask(directory, basePackageName, scan, index);
 	}
 
-	private void collectClassesRecursively(File sourceDir, String packageName, List<Class<?>> classesCollector,
-			Predicate<Class<?>> classFilter) {
-		File[] files = sourceDir.listFiles();
-		if (files == null) {
-			return;
+	/**
+	 * Extract the JAR file from a URL like {@code jar:file:/lib/tests.jar!/org/example};
+	 * packages within JAR files that are themselves nested in a JAR file are
+	 * not supported and skipped.
+	 */
+	private Optional<File> jarFileOf(URL resource) {
+		String spec = resource.getFile();
+		int separator = spec.indexOf(JAR_URL_SEPARATOR);
+		if (separator < 0 || spec.indexOf(JAR_URL_SEPARATOR, separator + 1) >= 0) {
+			return Optional.empty();
 		}
-		for (File file : files) {
-			if (isClassFile(file)) {
-				Optional<Class<?>> classForClassFile = loadClassForClassFile(file, packageName);
-				classForClassFile.filter(classFilter).ifPresent(clazz -> classesCollector.add(clazz));
-			}
-			else if (file.isDirectory()) {
-				collectClassesRecursively(file, appendPackageName(packageName, file.getName()), classesCollector,
-					classFilter);
-			}
+		try {
+			return Optional.of(new File(new URI(spec.substring(0, separator))));
+		}
+		catch (URISyntaxException | IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Determine the classpath root of a package directory.
+	 */
+	private Optional<Path> rootOf(Path packageDirectory, String packageName) {
+		Path root = packageDirectory.toAbsolutePath();
+		for (int i = 0; i < packageName.split("\\.").length && root != null; i++) {
+			root = root.getParent();
 		}
+		return Optional.ofNullable(root);
+	}
+
+	private String packagePath(String basePackageName) {
+		return basePackageName.replace('.', '/');
+	}
+
+	private List<Class<?>> findClasses(Scan scan, List<ScanTask> tasks) {
+		if (this.parallel) {
+			ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+		}
+		List<Class<?>> classes = new ArrayList<>();
+		tasks.forEach(task -> classes.addAll(this.parallel ? task.join() : task.compute()));
+		scan.indexes.forEach(ClasspathRootIndex::save);
+		return classes;
 	}
 
 	private String appendPackageName(String packageName, String subpackageName) {
@@ -139,14 +284,429 @@ class ClasspathScanner {
 			return packageName + "." + subpackageName;
 	}
 
-	private Optional<Class<?>> loadClassForClassFile(File file, String packageName) {
-		String className = packageName + '.'
-				+ file.getName().substring(0, file.getName().length() - CLASS_FILE_SUFFIX.length());
-		return loadClass.apply(className, classLoaderSupplier.get());
+	private static Optional<BasicFileAttributes> readAttributes(Path file) {
+		try {
+			return Optional.of(Files.readAttributes(file, BasicFileAttributes.class));
+		}
+		catch (IOException e) {
+			return Optional.empty();
+		}
 	}
 
-	private static boolean isClassFile(File file) {
-		return file.isFile() && file.getName().endsWith(CLASS_FILE_SUFFIX);
+	/**
+	 * The class loader, class file filter, class filter, and root indexes of
+	 * a single scan.
+	 */
+	private class Scan {
+
+		final ClassLoader classLoader;
+		final ClassFileFilter.Evaluation classFileFilter;
+		final Predicate<Class<?>> classFilter;
+		private final Optional<String> indexResourceName;
+
+		// Identifies the filters of this scan, or null if its verdicts cannot be indexed
+		private final String namespace;
+		final List<ClasspathRootIndex> indexes = new ArrayList<>();
+
+		Scan(ClassFileFilter classFileFilter, Predicate<Class<?>> classFilter) {
+			// Resolve the class loader in the calling thread; worker threads may have
+			// a different context class loader
+			this.classLoader = classLoaderSupplier.get();
+			this.classFileFilter = classFileFilter.startEvaluation(this.classLoader);
+			this.classFilter = classFilter;
+			this.indexResourceName = classFileFilter.getIndexResourceName();
+			this.namespace = namespace(classFileFilter);
+		}
+
+		/**
+		 * The verdicts of a class filter may depend on its configuration, so
+		 * only scans whose class file filter names a key for it are indexed.
+		 */
+		private String namespace(ClassFileFilter classFileFilter) {
+			if (indexDirectory == null) {
+				return null;
+			}
+			return classFileFilter.getScanIndexKey().map(key -> key + classFileFilter.getMarkers()).orElse(null);
+		}
+
+		/**
+		 * Load the index of a classpath root; it is saved once the scan is
+		 * complete.
+		 *
+		 * @return the index, or {@code null} if this scan is not indexed
+		 */
+		ClasspathRootIndex indexFor(File root, String packageName) {
+			if (this.namespace == null) {
+				return null;
+			}
+			ClasspathRootIndex index = ClasspathRootIndex.load(indexDirectory, root, this.namespace, packageName);
+			this.indexes.add(index);
+			return index;
+		}
+
+		/**
+		 * Read the test index of a classpath root if the class file filter
+		 * uses one and the root contains it.
+		 *
+		 * <p>The index of a directory is only used if it lists the top-level
+		 * class of every class file within the scanned package, since class
+		 * files compiled without generating the index would be missed.
+		 *
+		 * @param packageName the name of the scanned package, or an empty
+		 * string if the whole root is scanned
+		 * @return the sorted names of the listed classes within the package
+		 */
+		Optional<List<String>> readTestIndex(File root, String packageName) {
+			if (!this.indexResourceName.isPresent()) {
+				return Optional.empty();
+			}
+			String resourceName = this.indexResourceName.get();
+			List<String> lines;
+			try {
+				if (isJarFile(root)) {
+					try (ZipFile zipFile = new ZipFile(root)) {
+						ZipEntry entry = zipFile.getEntry(resourceName);
+						if (entry == null) {
+							return Optional.empty();
+						}
+						lines = readLines(zipFile.getInputStream(entry));
+					}
+				}
+				else {
+					Path indexFile = root.toPath().resolve(resourceName);
+					if (!Files.isRegularFile(indexFile)) {
+						return Optional.empty();
+					}
+					lines = Files.readAllLines(indexFile, StandardCharsets.UTF_8);
+				}
+			}
+			catch (IOException | InvalidPathException e) {
+				// Fall back to scanning the root
+				return Optional.empty();
+			}
+			String prefix = packageName.isEmpty() ? "" : packageName + '.';
+			Set<String> listedClassNames = new HashSet<>();
+			Set<String> classNames = new TreeSet<>();
+			for (String line : lines) {
+				line = line.trim();
+				if (line.startsWith(ClassFileFilter.COMPILED_CLASS_PREFIX)) {
+					listedClassNames.add(line.substring(ClassFileFilter.COMPILED_CLASS_PREFIX.length()));
+				}
+				else if (!line.isEmpty() && !line.startsWith("#")) {
+					listedClassNames.add(line);
+					if (line.startsWith(prefix)) {
+						classNames.add(line);
+					}
+				}
+			}
+			if (!isJarFile(root) && !listsAllClassFiles(root.toPath().resolve(packagePath(packageName)), packageName,
+				listedClassNames)) {
+				return Optional.empty();
+			}
+			return Optional.of(new ArrayList<>(classNames));
+		}
+
+		private boolean listsAllClassFiles(Path directory, String packageName, Set<String> listedClassNames) {
+			try (Stream<Path> files = Files.walk(directory)) {
+				// @formatter:off
+				return files
+						.filter(file -> file.getFileName().toString().endsWith(CLASS_FILE_SUFFIX))
+						.map(file -> topLevelClassName(directory.relativize(file), packageName))
+						.filter(className -> !className.endsWith(PACKAGE_INFO) && !className.equals(MODULE_INFO))
+						.allMatch(listedClassNames::contains);
+				// @formatter:on
+			}
+			catch (IOException | UncheckedIOException e) {
+				return false;
+			}
+		}
+
+		private String topLevelClassName(Path relativeClassFile, String packageName) {
+			String path = relativeClassFile.toString().replace(File.separatorChar, '/');
+			String className = path.substring(0, path.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.');
+			int nestedSeparator = className.indexOf('$', className.lastIndexOf('.') + 1);
+			if (nestedSeparator >= 0) {
+				className = className.substring(0, nestedSeparator);
+			}
+			return appendPackageName(packageName, className);
+		}
+
+		private List<String> readLines(InputStream in) throws IOException {
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+				return reader.lines().collect(toList());
+			}
+		}
+
+		/**
+		 * Load the class for a class file unless the class file filter
+		 * rejects it, and apply the class filter.
+		 *
+		 * <p>If the root of the class file is indexed, a verdict recorded by
+		 * a previous scan is reused if it is still valid; otherwise, the new
+		 * verdict is recorded.
+		 */
+		Optional<Class<?>> load(String className, ClassFileFilter.ClassFileSource classFile,
+				ClasspathRootIndex index, long size, long lastModified) {
+			if (index == null) {
+				return this.classFileFilter.accepts(classFile) ? loadAndFilter(className) : Optional.empty();
+			}
+			Optional<Boolean> verdict = index.reusableVerdict(className, size, lastModified);
+			if (verdict.isPresent()) {
+				return verdict.get() ? loadAndFilter(className) : Optional.empty();
+			}
+			ClassFileSummary summary;
+			try {
+				summary = this.classFileFilter.summarize(classFile.read());
+			}
+			catch (IOException | RuntimeException e) {
+				// Not recorded; let the class filter decide
+				return loadAndFilter(className);
+			}
+			Optional<Class<?>> clazz = this.classFileFilter.accepts(summary) ? loadAndFilter(className)
+					: Optional.empty();
+			index.record(className, size, lastModified, clazz.isPresent(), summary.dependencies());
+			return clazz;
+		}
+
+		private Optional<Class<?>> loadAndFilter(String className) {
+			return loadClass.apply(className, this.classLoader).filter(this.classFilter);
+		}
+
+		Optional<Class<?>> loadClassFile(Path file, BasicFileAttributes attributes, String packageName,
+				ClasspathRootIndex index) {
+			String fileName = file.getFileName().toString();
+			String simpleName = fileName.substring(0, fileName.length() - CLASS_FILE_SUFFIX.length());
+			String className = packageName + '.' + simpleName;
+			return load(className, () -> Files.readAllBytes(file), index, attributes.size(),
+				attributes.lastModifiedTime().toMillis());
+		}
+
+		Optional<Class<?>> loadJarEntry(ZipFile jarFile, String entryName, ClasspathRootIndex index,
+				BasicFileAttributes jarAttributes) {
+			String path = entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length());
+			return load(path.replace('/', '.'), () -> readJarEntry(jarFile, entryName), index, jarAttributes.size(),
+				jarAttributes.lastModifiedTime().toMillis());
+		}
+
+		private byte[] readJarEntry(ZipFile jarFile, String entryName) throws IOException {
+			ZipEntry entry = jarFile.getEntry(entryName);
+			if (entry == null) {
+				throw new IOException("JAR entry not found: " + entryName);
+			}
+			return ClassFileFilter.readFully(jarFile.getInputStream(entry));
+		}
+	}
+
+	private abstract static class ScanTask extends RecursiveTask<List<Class<?>>> {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected abstract List<Class<?>> compute();
+	}
+
+	/**
+	 * Collects the classes in a directory and, recursively, in all of its
+	 * subdirectories.
+	 *
+	 * <p>Entries are processed in the order of their file names, and the
+	 * classes of a subdirectory are placed where the subdirectory itself
+	 * appears, so the result does not depend on whether subdirectories are
+	 * scanned concurrently.
+	 */
+	private class DirectoryScanTask extends ScanTask {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Path directory;
+		private final String packageName;
+		private final Scan scan;
+		private final ClasspathRootIndex index;
+
+		DirectoryScanTask(Path directory, String packageName, Scan scan, ClasspathRootIndex index) {
+			this.directory = directory;
+			this.packageName = packageName;
+			this.scan = scan;
+			this.index = index;
+		}
+
+		@Override
+		protected List<Class<?>> compute() {
+			List<Path> entries = sortedEntries();
+			List<Class<?>> classes = new ArrayList<>();
+			List<DirectoryScanTask> subdirectoryTasks = new ArrayList<>();
+			// Placeholder indices at which the classes of each subdirectory are inserted
+			List<Integer> insertionPoints = new ArrayList<>();
+			for (Path entry : entries) {
+				String fileName = entry.getFileName().toString();
+				Optional<BasicFileAttributes> attributes = readAttributes(entry);
+				if (!attributes.isPresent()) {
+					continue;
+				}
+				if (attributes.get().isRegularFile() && fileName.endsWith(CLASS_FILE_SUFFIX)) {
+					scan.loadClassFile(entry, attributes.get(), packageName, index).ifPresent(classes::add);
+				}
+				else if (attributes.get().isDirectory()) {
+					subdirectoryTasks.add(
+						new DirectoryScanTask(entry, appendPackageName(packageName, fileName), scan, index));
+					insertionPoints.add(classes.size());
+				}
+			}
+			if (subdirectoryTasks.isEmpty()) {
+				return classes;
+			}
+			List<List<Class<?>>> subdirectoryClasses = new ArrayList<>(subdirectoryTasks.size());
+			if (ClasspathScanner.this.parallel) {
+				invokeAll(subdirectoryTasks);
+				subdirectoryTasks.forEach(task -> subdirectoryClasses.add(task.join()));
+			}
+			else {
+				subdirectoryTasks.forEach(task -> subdirectoryClasses.add(task.compute()));
+			}
+			return merge(classes, insertionPoints, subdirectoryClasses);
+		}
+
+		private List<Path> sortedEntries() {
+			List<Path> entries = new ArrayList<>();
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory)) {
+				stream.forEach(entries::add);
+			}
+			catch (IOException e) {
+				// Unreadable or no longer existing directories are ignored
+				return Collections.emptyList();
+			}
+			entries.sort((left, right) -> left.getFileName().toString().compareTo(right.getFileName().toString()));
+			return entries;
+		}
+
+		private List<Class<?>> merge(List<Class<?>> classes, List<Integer> insertionPoints,
+				List<List<Class<?>>> subdirectoryClasses) {
+			int size = classes.size();
+			for (List<Class<?>> current : subdirectoryClasses) {
+				size += current.size();
+			}
+			List<Class<?>> result = new ArrayList<>(size);
+			int next = 0;
+			for (int i = 0; i < insertionPoints.size(); i++) {
+				int insertionPoint = insertionPoints.get(i);
+				result.addAll(classes.subList(next, insertionPoint));
+				result.addAll(subdirectoryClasses.get(i));
+				next = insertionPoint;
+			}
+			result.addAll(classes.subList(next, classes.size()));
+			return result;
+		}
+	}
+
+	/**
+	 * Collects the classes in a JAR file, optionally restricted to a package
+	 * and its subpackages, ordered by the names of their entries.
+	 */
+	private class JarScanTask extends ScanTask {
+
+		private static final long serialVersionUID = 1L;
+
+		private final File jarFile;
+		private final String pathPrefix;
+		private final Scan scan;
+		private final ClasspathRootIndex index;
+
+		JarScanTask(File jarFile, String pathPrefix, Scan scan, ClasspathRootIndex index) {
+			this.jarFile = jarFile;
+			this.pathPrefix = pathPrefix;
+			this.scan = scan;
+			this.index = index;
+		}
+
+		@Override
+		protected List<Class<?>> compute() {
+			try {
+				BasicFileAttributes attributes = Files.readAttributes(this.jarFile.toPath(), BasicFileAttributes.class);
+				List<String> entryNames = ZipCentralDirectory.classFileNames(this.jarFile, this.pathPrefix);
+				if (!this.scan.classFileFilter.readsClassFiles() && this.index == null) {
+					// The entries never have to be read
+					return new JarEntriesTask(null, entryNames, this.scan, this.index, attributes).compute();
+				}
+				try (ZipFile zipFile = new ZipFile(this.jarFile)) {
+					return new JarEntriesTask(zipFile, entryNames, this.scan, this.index, attributes).compute();
+				}
+			}
+			catch (IOException e) {
+				// Unreadable JAR files are ignored, like unreadable directories
+				return Collections.emptyList();
+			}
+		}
+	}
+
+	/**
+	 * Loads the classes for a range of JAR entries; in parallel mode, large
+	 * ranges are split in halves that are loaded concurrently.
+	 */
+	private class JarEntriesTask extends ScanTask {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ZipFile zipFile;
+		private final List<String> entryNames;
+		private final Scan scan;
+		private final ClasspathRootIndex index;
+		private final BasicFileAttributes jarAttributes;
+
+		JarEntriesTask(ZipFile zipFile, List<String> entryNames, Scan scan, ClasspathRootIndex index,
+				BasicFileAttributes jarAttributes) {
+			this.zipFile = zipFile;
+			this.entryNames = entryNames;
+			this.scan = scan;
+			this.index = index;
+			this.jarAttributes = jarAttributes;
+		}
+
+		@Override
+		protected List<Class<?>> compute() {
+			int size = this.entryNames.size();
+			if (ClasspathScanner.this.parallel && size > JAR_ENTRIES_PER_TASK) {
+				JarEntriesTask first = new JarEntriesTask(this.zipFile, this.entryNames.subList(0, size / 2),
+					this.scan, this.index, this.jarAttributes);
+				JarEntriesTask second = new JarEntriesTask(this.zipFile, this.entryNames.subList(size / 2, size),
+					this.scan, this.index, this.jarAttributes);
+				invokeAll(first, second);
+				List<Class<?>> classes = new ArrayList<>(first.join());
+				classes.addAll(second.join());
+				return classes;
+			}
+			List<Class<?>> classes = new ArrayList<>();
+			for (String entryName : this.entryNames) {
+				this.scan.loadJarEntry(this.zipFile, entryName, this.index, this.jarAttributes).ifPresent(
+					classes::add);
+			}
+			return classes;
+		}
+	}
+
+	/**
+	 * Loads the classes listed in a test index instead of scanning a
+	 * classpath root.
+	 */
+	private class IndexedClassesTask extends ScanTask {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<String> classNames;
+		private final Scan scan;
+
+		IndexedClassesTask(List<String> classNames, Scan scan) {
+			this.classNames = classNames;
+			this.scan = scan;
+		}
+
+		@Override
+		protected List<Class<?>> compute() {
+			List<Class<?>> classes = new ArrayList<>();
+			for (String className : this.classNames) {
+				this.scan.loadAndFilter(className).ifPresent(classes::add);
+			}
+			return classes;
+		}
 	}
 
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static org.junit.gen5.commons.meta.API.Usage.Internal;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * A constructor that has been prepared for repeated instantiation.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @param <T> the type of the created instances
+ * @since 5.0
+ * @see ReflectionUtils#compileConstructor(Class, Class...)
+ */
+@API(Internal)
+@FunctionalInterface
+public interface CompiledConstructor<T> {
+
+	/**
+	 * Create a new instance with the same semantics as
+	 * {@link ReflectionUtils#newInstance}: checked exceptions thrown by the
+	 * constructor are {@linkplain ExceptionUtils#throwAsUncheckedException
+	 * masked} as unchecked exceptions.
+	 *
+	 * @param args the arguments to pass to the constructor
+	 * @return the new instance
+	 */
+	T newInstance(Object... args);
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static org.junit.gen5.commons.meta.API.Usage.Internal;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * A method that has been prepared for repeated invocation.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 5.0
+ * @see ReflectionUtils#compileMethod(java.lang.reflect.Method)
+ */
+@API(Internal)
+@FunctionalInterface
+public interface CompiledMethod {
+
+	/**
+	 * Invoke the method with the same semantics as
+	 * {@link ReflectionUtils#invokeMethod}: checked exceptions thrown by the
+	 * method are {@linkplain ExceptionUtils#throwAsUncheckedException masked}
+	 * as unchecked exceptions.
+	 *
+	 * @param target the object on which to invoke the method; may be
+	 * {@code null} if the method is {@code static}
+	 * @param args the arguments to pass to the method
+	 * @return the value returned by the method invocation or {@code null}
+	 * if the return type is {@code void}
+	 */
+	Object invoke(Object target, Object... args);
+
+}
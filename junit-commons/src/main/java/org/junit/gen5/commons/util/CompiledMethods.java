@@ -0,0 +1,209 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles methods and constructors into {@link MethodHandle MethodHandles}
+ * and caches them per declaring class.
+ *
+ * <p>Arguments are checked before the handle is invoked. If they do not
+ * match the parameter types, the method or constructor is invoked
+ * reflectively instead so that callers get the same
+ * {@link IllegalArgumentException} as from {@link Method#invoke} and
+ * {@link Constructor#newInstance}. Methods and constructors for which no
+ * handle can be created are always invoked reflectively.
+ *
+ * @since 5.0
+ */
+final class CompiledMethods {
+
+	private static final int MAX_DETACHED_CLASSES = 256;
+
+	private static final ClassCache<CompiledMembers> cache = new ClassCache<>("compiled methods and constructors",
+		MAX_DETACHED_CLASSES, type -> new CompiledMembers());
+
+	private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+	private static final Object[] NO_ARGUMENTS = new Object[0];
+
+	private CompiledMethods() {
+		/* no-op */
+	}
+
+	static CompiledMethod of(Method method) {
+		Map<Method, CompiledMethod> compiledMethods = cache.get(method.getDeclaringClass()).methods;
+		CompiledMethod compiledMethod = compiledMethods.get(method);
+		if (compiledMethod == null) {
+			compiledMethod = compile(method);
+			CompiledMethod existing = compiledMethods.putIfAbsent(method, compiledMethod);
+			if (existing != null) {
+				return existing;
+			}
+		}
+		return compiledMethod;
+	}
+
+	/**
+	 * Get the compiled constructor of the supplied class with the supplied
+	 * parameter types.
+	 *
+	 * @throws NoSuchMethodException if there is no such constructor; the
+	 * absence of a constructor is not cached
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> CompiledConstructor<T> of(Class<T> clazz, Class<?>... parameterTypes) throws NoSuchMethodException {
+		Map<List<Class<?>>, CompiledConstructor<?>> compiledConstructors = cache.get(clazz).constructors;
+		List<Class<?>> key = Arrays.asList(parameterTypes);
+		CompiledConstructor<?> compiledConstructor = compiledConstructors.get(key);
+		if (compiledConstructor == null) {
+			compiledConstructor = compile(clazz.getDeclaredConstructor(parameterTypes));
+			CompiledConstructor<?> existing = compiledConstructors.putIfAbsent(key, compiledConstructor);
+			if (existing != null) {
+				return (CompiledConstructor<T>) existing;
+			}
+		}
+		return (CompiledConstructor<T>) compiledConstructor;
+	}
+
+	static CacheStatistics getStatistics() {
+		return cache.getStatistics();
+	}
+
+	private static CompiledMethod compile(Method method) {
+		CompiledMethod reflective = (target, args) -> ReflectionUtils.invokeMethod(method, target, args);
+		MethodHandle handle;
+		try {
+			handle = toSpreadingHandle(method);
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			return reflective;
+		}
+		boolean isStatic = ReflectionUtils.isStatic(method);
+		Class<?> declaringClass = method.getDeclaringClass();
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		Class<?>[] argumentTypes = MethodType.methodType(void.class, parameterTypes).wrap().parameterArray();
+		return (target, args) -> {
+			checkTarget(method, target, isStatic);
+			Object[] arguments = (args != null ? args : NO_ARGUMENTS);
+			if ((!isStatic && !declaringClass.isInstance(target))
+					|| !argumentsMatch(arguments, parameterTypes, argumentTypes)) {
+				return reflective.invoke(target, args);
+			}
+			try {
+				return (Object) handle.invokeExact(target, arguments);
+			}
+			catch (Throwable t) {
+				throw ExceptionUtils.throwAsUncheckedException(t);
+			}
+		};
+	}
+
+	private static <T> CompiledConstructor<T> compile(Constructor<T> constructor) {
+		CompiledConstructor<T> reflective = args -> newInstanceReflectively(constructor, args);
+		MethodHandle handle;
+		try {
+			handle = lookup.unreflectConstructor(ReflectionUtils.makeAccessible(constructor));
+		}
+		catch (IllegalAccessException | RuntimeException e) {
+			return reflective;
+		}
+		Class<T> declaringClass = constructor.getDeclaringClass();
+		Class<?>[] parameterTypes = constructor.getParameterTypes();
+		Class<?>[] argumentTypes = MethodType.methodType(void.class, parameterTypes).wrap().parameterArray();
+		MethodHandle spreadingHandle = handle.asType(MethodType.genericMethodType(parameterTypes.length)).asSpreader(
+			Object[].class, parameterTypes.length);
+		return args -> {
+			Object[] arguments = (args != null ? args : NO_ARGUMENTS);
+			if (!argumentsMatch(arguments, parameterTypes, argumentTypes)) {
+				return reflective.newInstance(args);
+			}
+			try {
+				return declaringClass.cast((Object) spreadingHandle.invokeExact(arguments));
+			}
+			catch (Throwable t) {
+				throw ExceptionUtils.throwAsUncheckedException(t);
+			}
+		};
+	}
+
+	private static <T> T newInstanceReflectively(Constructor<T> constructor, Object[] args) {
+		try {
+			return constructor.newInstance(args);
+		}
+		catch (InvocationTargetException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e.getTargetException());
+		}
+		catch (Throwable t) {
+			throw ExceptionUtils.throwAsUncheckedException(t);
+		}
+	}
+
+	/**
+	 * Create a handle of type {@code (Object, Object[])Object} that
+	 * ignores the target of static methods and returns {@code null} for
+	 * {@code void} methods.
+	 */
+	private static MethodHandle toSpreadingHandle(Method method) throws IllegalAccessException {
+		int parameterCount = method.getParameterCount();
+		MethodHandle handle = lookup.unreflect(ReflectionUtils.makeAccessible(method));
+		if (ReflectionUtils.isStatic(method)) {
+			handle = MethodHandles.dropArguments(handle, 0, Object.class);
+		}
+		handle = handle.asType(MethodType.genericMethodType(parameterCount + 1));
+		return handle.asSpreader(Object[].class, parameterCount);
+	}
+
+	private static void checkTarget(Method method, Object target, boolean isStatic) {
+		Preconditions.condition((target != null || isStatic),
+			() -> String.format("Cannot invoke non-static method [%s] on a null target.", method.toGenericString()));
+	}
+
+	/**
+	 * Determine if the arguments can be passed to the handle without any
+	 * conversions that {@link Method#invoke} would not perform.
+	 *
+	 * <p>Primitive widening conversions are left to the reflective
+	 * invocation.
+	 */
+	private static boolean argumentsMatch(Object[] args, Class<?>[] parameterTypes, Class<?>[] argumentTypes) {
+		if (args.length != parameterTypes.length) {
+			return false;
+		}
+		for (int i = 0; i < args.length; i++) {
+			Object arg = args[i];
+			if (arg == null ? parameterTypes[i].isPrimitive() : !argumentTypes[i].isInstance(arg)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The compiled methods and constructors of a single class.
+	 */
+	private static final class CompiledMembers {
+
+		final Map<Method, CompiledMethod> methods = new ConcurrentHashMap<>();
+		final Map<List<Class<?>>, CompiledConstructor<?>> constructors = new ConcurrentHashMap<>();
+	}
+
+}
@@ -22,8 +22,10 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -47,6 +49,36 @@ import org.junit.gen5.commons.meta.API;
 @API(Internal)
 public final class ReflectionUtils {
 
+	/**
+	 * Name of the system property that enables scanning classpath roots and
+	 * packages concurrently: {@value}
+	 *
+	 * <p>The order of the scanned classes is the same as for a sequential
+	 * scan. Class filters must be thread-safe if parallel scanning is enabled.
+	 */
+	public static final String PARALLEL_CLASSPATH_SCANNING_PROPERTY_NAME = "junit.discovery.scanning.parallel";
+
+	/**
+	 * Name of the system property that specifies a directory in which the
+	 * results of classpath scans are indexed: {@value}
+	 *
+	 * <p>If set, subsequent scans of the same classpath roots with the same
+	 * {@link ClassFileFilter} reuse the verdicts for all classes whose class
+	 * files and dependencies within the root did not change. Only scans with
+	 * filters that name a {@linkplain ClassFileFilter#withScanIndexKey scan
+	 * index key} for their class tester are indexed.
+	 */
+	public static final String DISCOVERY_INDEX_DIRECTORY_PROPERTY_NAME = "junit.discovery.index.directory";
+
+	/**
+	 * Name of the system property that disables the use of test indexes
+	 * generated at compile time: {@value}
+	 *
+	 * <p>If set to {@code true}, classpath roots are always scanned, even if
+	 * the {@link ClassFileFilter} names a test index they contain.
+	 */
+	public static final String IGNORE_TEST_INDEXES_PROPERTY_NAME = "junit.discovery.testindex.ignore";
+
 	public enum MethodSortOrder {
 		HierarchyDown, HierarchyUp
 	}
@@ -55,6 +87,19 @@ public final class ReflectionUtils {
 		/* no-op */
 	}
 
+	/**
+	 * Get the current size and hit rate of the reflective caches of this
+	 * class and of {@link AnnotationUtils}.
+	 *
+	 * <p>Entries for classes whose class loaders became unreachable are
+	 * counted as evicted once the garbage collector cleared them.
+	 */
+	public static List<CacheStatistics> getCacheStatistics() {
+		List<CacheStatistics> statistics = new ArrayList<>(ClassMetadata.getStatistics());
+		statistics.add(CompiledMethods.getStatistics());
+		return statistics;
+	}
+
 	public static ClassLoader getDefaultClassLoader() {
 		try {
 			return Thread.currentThread().getContextClassLoader();
@@ -125,6 +170,31 @@ public final class ReflectionUtils {
 		}
 	}
 
+	/**
+	 * Get a {@link CompiledConstructor} for the constructor of the supplied
+	 * class with the supplied parameter types.
+	 *
+	 * <p>Compiled constructors are cached, so this method should be used
+	 * instead of {@link #newInstance} for classes that are instantiated
+	 * repeatedly. Any exception while looking up the constructor is
+	 * {@linkplain ExceptionUtils#throwAsUncheckedException masked} as an
+	 * unchecked exception.
+	 *
+	 * @param clazz the class to instantiate; never {@code null}
+	 * @param parameterTypes the parameter types of the constructor
+	 */
+	public static <T> CompiledConstructor<T> compileConstructor(Class<T> clazz, Class<?>... parameterTypes) {
+		Preconditions.notNull(clazz, "class must not be null");
+		Preconditions.notNull(parameterTypes, "parameter types must not be null");
+
+		try {
+			return CompiledMethods.of(clazz, parameterTypes);
+		}
+		catch (Throwable t) {
+			throw ExceptionUtils.throwAsUncheckedException(t);
+		}
+	}
+
 	/**
 	 * Invoke the supplied method, making it accessible if necessary and
 	 * {@linkplain ExceptionUtils#throwAsUncheckedException masking} any
@@ -151,6 +221,21 @@ public final class ReflectionUtils {
 		}
 	}
 
+	/**
+	 * Get a {@link CompiledMethod} for the supplied method that invokes it
+	 * via a {@link java.lang.invoke.MethodHandle MethodHandle} instead of
+	 * reflection.
+	 *
+	 * <p>Compiled methods are cached, so this method should be used instead
+	 * of {@link #invokeMethod} for methods that are invoked repeatedly.
+	 *
+	 * @param method the method to compile; never {@code null}
+	 */
+	public static CompiledMethod compileMethod(Method method) {
+		Preconditions.notNull(method, "method must not be null");
+		return CompiledMethods.of(method);
+	}
+
 	public static Optional<Class<?>> loadClass(String name) {
 		return loadClass(name, getDefaultClassLoader());
 	}
@@ -219,10 +304,16 @@ public final class ReflectionUtils {
 	}
 
 	public static boolean isPackage(String packageName) {
-		return new ClasspathScanner(ReflectionUtils::getDefaultClassLoader, ReflectionUtils::loadClass).isPackage(
-			packageName);
+		return newClasspathScanner().isPackage(packageName);
 	}
 
+	/**
+	 * Get the directories on the JVM's classpath.
+	 *
+	 * <p>JAR files on the classpath are not included since they usually
+	 * contain libraries rather than tests; they can be scanned by supplying
+	 * them to {@link #findAllClassesInClasspathRoots} explicitly.
+	 */
 	public static Set<File> getAllClasspathRootDirectories() {
 		// TODO This is quite a hack, since sometimes the classpath is quite different
 		String fullClassPath = System.getProperty("java.class.path");
@@ -237,13 +328,67 @@ public final class ReflectionUtils {
 	}
 
 	public static List<Class<?>> findAllClassesInClasspathRoot(File root, Predicate<Class<?>> classTester) {
-		return new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
-			ReflectionUtils::loadClass).scanForClassesInClasspathRoot(root, classTester);
+		return newClasspathScanner().scanForClassesInClasspathRoot(root, classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied classpath root that match the
+	 * {@code classTester}, skipping classes whose class files are rejected
+	 * by the {@code classFileFilter} without loading them.
+	 */
+	public static List<Class<?>> findAllClassesInClasspathRoot(File root, ClassFileFilter classFileFilter,
+			Predicate<Class<?>> classTester) {
+		return findAllClassesInClasspathRoots(Collections.singletonList(root), classFileFilter, classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied classpath roots that match the
+	 * {@code classTester}, ordered by root first.
+	 *
+	 * <p>Scanning all roots at once allows them to be scanned concurrently
+	 * if {@linkplain #PARALLEL_CLASSPATH_SCANNING_PROPERTY_NAME parallel
+	 * scanning} is enabled.
+	 */
+	public static List<Class<?>> findAllClassesInClasspathRoots(Collection<File> roots,
+			Predicate<Class<?>> classTester) {
+		return newClasspathScanner().scanForClassesInClasspathRoots(roots, classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied classpath roots that match the
+	 * {@code classTester}, ordered by root first, and skipping classes whose
+	 * class files are rejected by the {@code classFileFilter} without loading
+	 * them.
+	 */
+	public static List<Class<?>> findAllClassesInClasspathRoots(Collection<File> roots,
+			ClassFileFilter classFileFilter, Predicate<Class<?>> classTester) {
+		return newClasspathScanner().scanForClassesInClasspathRoots(roots, effective(classFileFilter), classTester);
 	}
 
 	public static List<Class<?>> findAllClassesInPackage(String basePackageName, Predicate<Class<?>> classTester) {
-		return new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
-			ReflectionUtils::loadClass).scanForClassesInPackage(basePackageName, classTester);
+		return newClasspathScanner().scanForClassesInPackage(basePackageName, classTester);
+	}
+
+	/**
+	 * Find all classes in the supplied package and its subpackages that match
+	 * the {@code classTester}, skipping classes whose class files are rejected
+	 * by the {@code classFileFilter} without loading them.
+	 */
+	public static List<Class<?>> findAllClassesInPackage(String basePackageName, ClassFileFilter classFileFilter,
+			Predicate<Class<?>> classTester) {
+		return newClasspathScanner().scanForClassesInPackage(basePackageName, effective(classFileFilter), classTester);
+	}
+
+	private static ClassFileFilter effective(ClassFileFilter classFileFilter) {
+		Preconditions.notNull(classFileFilter, "ClassFileFilter must not be null");
+		return Boolean.getBoolean(IGNORE_TEST_INDEXES_PROPERTY_NAME) ? classFileFilter.withoutIndex() : classFileFilter;
+	}
+
+	private static ClasspathScanner newClasspathScanner() {
+		String indexDirectory = System.getProperty(DISCOVERY_INDEX_DIRECTORY_PROPERTY_NAME);
+		return new ClasspathScanner(ReflectionUtils::getDefaultClassLoader, ReflectionUtils::loadClass,
+			Boolean.getBoolean(PARALLEL_CLASSPATH_SCANNING_PROPERTY_NAME),
+			StringUtils.isNotBlank(indexDirectory) ? Paths.get(indexDirectory) : null);
 	}
 
 	public static List<Class<?>> findNestedClasses(Class<?> clazz, Predicate<Class<?>> predicate) {
@@ -271,7 +416,7 @@ public final class ReflectionUtils {
 		Preconditions.notNull(sortOrder, "MethodSortOrder must not be null");
 
 		// @formatter:off
-		return findAllMethodsInHierarchy(clazz, sortOrder).stream()
+		return ClassMetadata.of(clazz).getMethodsInHierarchy(sortOrder).stream()
 				.filter(predicate)
 				.collect(toList());
 		// @formatter:on
@@ -279,39 +424,15 @@ public final class ReflectionUtils {
 
 	/**
 	 * Return all methods in superclass hierarchy except from Object.
+	 *
+	 * <p>The hierarchy of each class is computed only once; the returned
+	 * list is a modifiable copy.
 	 */
 	public static List<Method> findAllMethodsInHierarchy(Class<?> clazz, MethodSortOrder sortOrder) {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(sortOrder, "MethodSortOrder must not be null");
 
-		// TODO Support interface default methods.
-		// TODO Determine if we need to support bridged methods.
-
-		List<Method> localMethods = Arrays.asList(clazz.getDeclaredMethods());
-
-		// @formatter:off
-		List<Method> superclassMethods = getSuperclassMethods(clazz, sortOrder).stream()
-				.filter(method -> !isMethodShadowedByLocalMethods(method, localMethods))
-				.collect(toList());
-		// @formatter:on
-
-		// @formatter:off
-		List<Method> interfaceMethods = getInterfaceMethods(clazz, sortOrder).stream()
-				.filter(method -> !isMethodShadowedByLocalMethods(method, localMethods))
-				.collect(toList());
-		// @formatter:on
-
-		List<Method> methods = new ArrayList<>();
-		if (sortOrder == MethodSortOrder.HierarchyDown) {
-			methods.addAll(superclassMethods);
-			methods.addAll(interfaceMethods);
-		}
-		methods.addAll(localMethods);
-		if (sortOrder == MethodSortOrder.HierarchyUp) {
-			methods.addAll(interfaceMethods);
-			methods.addAll(superclassMethods);
-		}
-		return methods;
+		return new ArrayList<>(ClassMetadata.of(clazz).getMethodsInHierarchy(sortOrder));
 	}
 
 	/**
@@ -335,65 +456,7 @@ public final class ReflectionUtils {
 		}
 	}
 
-	private static List<Method> getInterfaceMethods(Class<?> clazz, MethodSortOrder sortOrder) {
-		Preconditions.notNull(clazz, "Class must not be null");
-		Preconditions.notNull(sortOrder, "MethodSortOrder must not be null");
-
-		List<Method> allInterfaceMethods = new ArrayList<>();
-		for (Class<?> ifc : clazz.getInterfaces()) {
-
-			List<Method> localMethods = Arrays.stream(ifc.getDeclaredMethods()).filter(Method::isDefault).collect(
-				toList());
-
-			// @formatter:off
-			List<Method> subInterfaceMethods = getInterfaceMethods(ifc, sortOrder).stream()
-					.filter(method -> !isMethodShadowedByLocalMethods(method, localMethods))
-					.collect(toList());
-			// @formatter:on
-
-			if (sortOrder == MethodSortOrder.HierarchyDown) {
-				allInterfaceMethods.addAll(subInterfaceMethods);
-			}
-			allInterfaceMethods.addAll(localMethods);
-			if (sortOrder == MethodSortOrder.HierarchyUp) {
-				allInterfaceMethods.addAll(subInterfaceMethods);
-			}
-		}
-		return allInterfaceMethods;
-
-	}
-
-	private static List<Method> getSuperclassMethods(Class<?> clazz, MethodSortOrder sortOrder) {
-		if (clazz.getSuperclass() != Object.class) {
-			return findAllMethodsInHierarchy(clazz.getSuperclass(), sortOrder);
-		}
-		else {
-			return Collections.emptyList();
-		}
-	}
-
-	private static boolean isMethodShadowedByLocalMethods(Method method, List<Method> localMethods) {
-		return localMethods.stream().anyMatch(local -> isMethodShadowedBy(method, local));
-	}
-
-	private static boolean isMethodShadowedBy(Method upper, Method lower) {
-		if (!lower.getName().equals(upper.getName())) {
-			return false;
-		}
-		Class<?>[] lowerParameterTypes = lower.getParameterTypes();
-		Class<?>[] upperParameterTypes = upper.getParameterTypes();
-		if (lowerParameterTypes.length != upperParameterTypes.length) {
-			return false;
-		}
-		for (int i = 0; i < lowerParameterTypes.length; i++) {
-			if (!lowerParameterTypes[i].equals(upperParameterTypes[i])) {
-				return false;
-			}
-		}
-		return true;
-	}
-
-	private static <T extends AccessibleObject> T makeAccessible(T object) {
+	static <T extends AccessibleObject> T makeAccessible(T object) {
 		if (!object.isAccessible()) {
 			object.setAccessible(true);
 		}
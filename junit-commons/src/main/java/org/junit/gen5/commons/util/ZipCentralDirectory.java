@@ -0,0 +1,216 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static org.junit.gen5.commons.meta.API.Usage.Internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * Lists the class files of a ZIP or JAR archive by reading its central
+ * directory, without touching or inflating any of the entries themselves.
+ *
+ * <p>The central directory is read into a heap buffer, which does not keep
+ * the archive locked like a mapping would, and entry names are matched
+ * against the package prefix and the class file suffix on their raw bytes,
+ * so only names of matching entries are ever decoded. Archives that cannot
+ * be read this way (e.g. ZIP64 archives) are listed via {@link ZipFile}.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 5.0
+ */
+@API(Internal)
+final class ZipCentralDirectory {
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+	private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+	private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+	private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+	private static final int CENTRAL_DIRECTORY_HEADER_LENGTH = 46;
+
+	private static final String CLASS_FILE_SUFFIX = ".class";
+	private static final byte[] CLASS_FILE_SUFFIX_BYTES = CLASS_FILE_SUFFIX.getBytes(StandardCharsets.US_ASCII);
+
+	private ZipCentralDirectory() {
+		/* no-op */
+	}
+
+	/**
+	 * Get the names of all class file entries of the supplied archive whose
+	 * names start with {@code pathPrefix}, sorted by name.
+	 *
+	 * <p>Entries whose simple name is not a legal class name, such as
+	 * {@code package-info.class}, and entries within {@code META-INF} are
+	 * skipped, as are all non-class entries like nested archives.
+	 *
+	 * @param archive the ZIP or JAR file to read
+	 * @param pathPrefix the required prefix of the entry names, e.g.
+	 * {@code "org/example/"}, or an empty string
+	 */
+	static List<String> classFileNames(File archive, String pathPrefix) throws IOException {
+		List<String> names;
+		try {
+			names = readCentralDirectory(archive, pathPrefix.getBytes(StandardCharsets.UTF_8));
+		}
+		catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+			// Corrupt offsets or lengths in the central directory
+			names = null;
+		}
+		if (names == null) {
+			names = readWithZipFile(archive, pathPrefix);
+		}
+		names.sort(null);
+		return names;
+	}
+
+	/**
+	 * @return the matching entry names, or {@code null} if the central
+	 * directory could not be located or uses an unsupported format
+	 */
+	private static List<String> readCentralDirectory(File archive, byte[] prefix) throws IOException {
+		try (FileChannel channel = FileChannel.open(archive.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < END_OF_CENTRAL_DIRECTORY_LENGTH) {
+				return null;
+			}
+			long tailLength = Math.min(size, END_OF_CENTRAL_DIRECTORY_LENGTH + MAX_COMMENT_LENGTH);
+			ByteBuffer tail = read(channel, size - tailLength, (int) tailLength);
+			if (tail == null) {
+				return null;
+			}
+			int end = findEndOfCentralDirectory(tail);
+			if (end < 0) {
+				return null;
+			}
+			int entries = tail.getShort(end + 10) & 0xFFFF;
+			long directoryLength = tail.getInt(end + 12) & 0xFFFFFFFFL;
+			long directoryOffset = tail.getInt(end + 16) & 0xFFFFFFFFL;
+			if (entries == 0xFFFF || directoryLength > Integer.MAX_VALUE || directoryOffset == 0xFFFFFFFFL
+					|| directoryOffset + directoryLength > size) {
+				// ZIP64, data prepended to the archive, or a directory too large for a single buffer
+				return null;
+			}
+			ByteBuffer directory = read(channel, directoryOffset, (int) directoryLength);
+			return directory == null ? null : matchingNames(directory, entries, prefix);
+		}
+	}
+
+	/**
+	 * @return a little-endian buffer containing {@code length} bytes starting
+	 * at {@code position}, or {@code null} if the archive ends before
+	 */
+	private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				return null;
+			}
+		}
+		buffer.flip();
+		return littleEndian(buffer);
+	}
+
+	private static int findEndOfCentralDirectory(ByteBuffer tail) {
+		for (int position = tail.limit() - END_OF_CENTRAL_DIRECTORY_LENGTH; position >= 0; position--) {
+			if (tail.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				return position;
+			}
+		}
+		return -1;
+	}
+
+	private static List<String> matchingNames(ByteBuffer directory, int entries, byte[] prefix) {
+		List<String> names = new ArrayList<>();
+		int position = 0;
+		for (int i = 0; i < entries; i++) {
+			if (directory.getInt(position) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+				return null;
+			}
+			int nameLength = directory.getShort(position + 28) & 0xFFFF;
+			int extraLength = directory.getShort(position + 30) & 0xFFFF;
+			int commentLength = directory.getShort(position + 32) & 0xFFFF;
+			int nameOffset = position + CENTRAL_DIRECTORY_HEADER_LENGTH;
+			if (isCandidate(directory, nameOffset, nameLength, prefix)) {
+				byte[] name = new byte[nameLength];
+				for (int j = 0; j < nameLength; j++) {
+					name[j] = directory.get(nameOffset + j);
+				}
+				names.add(new String(name, StandardCharsets.UTF_8));
+			}
+			position = nameOffset + nameLength + extraLength + commentLength;
+		}
+		return names;
+	}
+
+	private static boolean isCandidate(ByteBuffer directory, int nameOffset, int nameLength, byte[] prefix) {
+		if (nameLength <= prefix.length + CLASS_FILE_SUFFIX_BYTES.length) {
+			return false;
+		}
+		int suffixOffset = nameOffset + nameLength - CLASS_FILE_SUFFIX_BYTES.length;
+		for (int i = 0; i < CLASS_FILE_SUFFIX_BYTES.length; i++) {
+			if (directory.get(suffixOffset + i) != CLASS_FILE_SUFFIX_BYTES[i]) {
+				return false;
+			}
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (directory.get(nameOffset + i) != prefix[i]) {
+				return false;
+			}
+		}
+		// '-' cannot appear in class or package names, but in META-INF and package-info
+		for (int i = nameOffset; i < suffixOffset; i++) {
+			if (directory.get(i) == '-') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static List<String> readWithZipFile(File archive, String pathPrefix) throws IOException {
+		List<String> names = new ArrayList<>();
+		try (ZipFile zipFile = new ZipFile(archive)) {
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				String name = entries.nextElement().getName();
+				if (name.startsWith(pathPrefix) && name.endsWith(CLASS_FILE_SUFFIX)
+						&& name.length() > pathPrefix.length() + CLASS_FILE_SUFFIX.length()
+						&& name.indexOf('-') < 0) {
+					names.add(name);
+				}
+			}
+		}
+		return names;
+	}
+
+	private static ByteBuffer littleEndian(ByteBuffer buffer) {
+		return buffer.order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+}
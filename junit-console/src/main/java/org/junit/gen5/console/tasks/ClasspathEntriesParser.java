@@ -34,14 +34,18 @@ class ClasspathEntriesParser {
 		return split(additionalClasspathEntries).map(this::toURL).toArray(URL[]::new);
 	}
 
-	Set<File> toDirectories(List<String> additionalClasspathEntries) {
+	Set<File> toClasspathRoots(List<String> additionalClasspathEntries) {
 		// @formatter:off
 		return split(additionalClasspathEntries)
-				.filter(File::isDirectory)
+				.filter(file -> file.isDirectory() || isJarFile(file))
 				.collect(toCollection(LinkedHashSet::new));
 		// @formatter:on
 	}
 
+	private boolean isJarFile(File file) {
+		return file.getName().endsWith(".jar") && file.isFile();
+	}
+
 	private Stream<File> split(List<String> additionalClasspathEntries) {
 		// @formatter:off
 		return additionalClasspathEntries.stream()
@@ -22,6 +22,9 @@ import org.junit.gen5.launcher.TestIdentifier;
 import org.junit.gen5.launcher.TestPlan;
 
 /**
+ * Callbacks that print more than one line are synchronized so that their
+ * output is not interleaved with the output of concurrently executed tests.
+ *
  * @since 5.0
  */
 class ColoredPrintingTestListener implements TestExecutionListener {
@@ -51,7 +54,7 @@ class ColoredPrintingTestListener implements TestExecutionListener {
 	}
 
 	@Override
-	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+	public synchronized void executionSkipped(TestIdentifier testIdentifier, String reason) {
 		printlnTestDescriptor(YELLOW, "Skipped:", testIdentifier);
 		printlnMessage(YELLOW, "Reason", reason);
 	}
@@ -62,14 +65,14 @@ class ColoredPrintingTestListener implements TestExecutionListener {
 	}
 
 	@Override
-	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+	public synchronized void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
 		Color color = determineColor(testExecutionResult.getStatus());
 		printlnTestDescriptor(color, "Finished:", testIdentifier);
 		testExecutionResult.getThrowable().ifPresent(t -> printlnException(color, t));
 	}
 
 	@Override
-	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+	public synchronized void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
 		printlnTestDescriptor(PURPLE, "Reported:", testIdentifier);
 		StringBuilder stringBuilder = new StringBuilder();
 		entry.appendDescription(stringBuilder, "");
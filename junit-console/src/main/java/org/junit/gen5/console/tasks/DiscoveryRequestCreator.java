@@ -43,17 +43,17 @@ class DiscoveryRequestCreator {
 	}
 
 	private TestDiscoveryRequest buildDiscoveryRequestForAllTests(CommandLineOptions options) {
-		Set<File> rootDirectoriesToScan = determineClasspathRootDirectories(options);
-		return request().select(forPaths(rootDirectoriesToScan)).build();
+		Set<File> rootsToScan = determineClasspathRoots(options);
+		return request().select(forPaths(rootsToScan)).build();
 	}
 
-	private Set<File> determineClasspathRootDirectories(CommandLineOptions options) {
+	private Set<File> determineClasspathRoots(CommandLineOptions options) {
 		if (options.getArguments().isEmpty()) {
-			Set<File> rootDirs = new LinkedHashSet<>(ReflectionUtils.getAllClasspathRootDirectories());
+			Set<File> roots = new LinkedHashSet<>(ReflectionUtils.getAllClasspathRootDirectories());
 			if (!options.getAdditionalClasspathEntries().isEmpty()) {
-				rootDirs.addAll(new ClasspathEntriesParser().toDirectories(options.getAdditionalClasspathEntries()));
+				roots.addAll(new ClasspathEntriesParser().toClasspathRoots(options.getAdditionalClasspathEntries()));
 			}
-			return rootDirs;
+			return roots;
 		}
 		return options.getArguments().stream().map(File::new).collect(toCollection(LinkedHashSet::new));
 	}
@@ -17,11 +17,11 @@ import static org.junit.gen5.engine.TestExecutionResult.Status.SUCCESSFUL;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 
 import org.junit.gen5.commons.util.ExceptionUtils;
@@ -76,7 +76,7 @@ class XmlReportData {
 	}
 
 	void addReportEntry(TestIdentifier testIdentifier, ReportEntry entry) {
-		List<ReportEntry> entries = reportEntries.computeIfAbsent(testIdentifier, key -> new ArrayList<>());
+		List<ReportEntry> entries = reportEntries.computeIfAbsent(testIdentifier, key -> new CopyOnWriteArrayList<>());
 		entries.add(entry);
 	}
 
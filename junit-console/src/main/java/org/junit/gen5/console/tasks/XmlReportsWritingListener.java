@@ -32,7 +32,7 @@ class XmlReportsWritingListener implements TestExecutionListener {
 	private final PrintWriter out;
 	private final Clock clock;
 
-	private XmlReportData reportData;
+	private volatile XmlReportData reportData;
 
 	public XmlReportsWritingListener(String reportsDir, PrintWriter out) {
 		this(reportsDir, out, Clock.systemDefaultZone());
@@ -24,6 +24,11 @@ import org.junit.gen5.engine.reporting.ReportEntry;
  * must report events not only for {@linkplain TestDescriptor test descriptors}
  * that represent executable leaves but also for all intermediate containers.
  *
+ * <p>Engines that execute tests concurrently may invoke a listener from
+ * multiple threads at the same time. They must nevertheless report the
+ * start of a descriptor before its finish, and all events of the children
+ * of a container between the container's own start and finish events.
+ *
  * @since 5.0
  * @see TestEngine
  * @see ExecutionRequest
@@ -30,7 +30,7 @@ public interface TestDescriptor {
 	 * <p>Uniqueness must be guaranteed across an entire test plan,
 	 * regardless of how many engines are used behind the scenes.
 	 */
-	String getUniqueId();
+	UniqueId getUniqueId();
 
 	String getName();
 
@@ -81,6 +81,10 @@ public interface TestDescriptor {
 	}
 
 	default Optional<? extends TestDescriptor> findByUniqueId(String uniqueId) {
+		return findByUniqueId(UniqueId.of(uniqueId));
+	}
+
+	default Optional<? extends TestDescriptor> findByUniqueId(UniqueId uniqueId) {
 		if (getUniqueId().equals(uniqueId)) {
 			return Optional.of(this);
 		}
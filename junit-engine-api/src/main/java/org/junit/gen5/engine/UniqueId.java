@@ -0,0 +1,259 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+import org.junit.gen5.commons.meta.API;
+import org.junit.gen5.commons.util.Preconditions;
+
+/**
+ * Immutable, structured identifier of a {@link TestDescriptor}.
+ *
+ * <p>A {@code UniqueId} consists of a root segment &mdash; typically the ID
+ * of the {@link TestEngine} &mdash; followed by any number of segments, each
+ * of which is introduced by a single separator character. The string form of
+ * a {@code UniqueId} is the concatenation of all its segments, for example
+ * {@code "junit5:com.example.MyTests#test()"}.
+ *
+ * <p>Each {@code UniqueId} only stores its last segment and a reference to its
+ * parent, so IDs of sibling descriptors share their common prefix. The hash
+ * code as well as the string form are computed at most once.
+ *
+ * <p>Two IDs are equal if and only if their string forms are equal, regardless
+ * of how they were constructed. This allows IDs created from arbitrary strings
+ * via {@link #of(String)} to be compared with structured IDs created via
+ * {@link #append(char, String)}.
+ *
+ * @since 5.0
+ */
+@API(Experimental)
+public final class UniqueId implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final char NO_SEPARATOR = '\0';
+
+	/**
+	 * Create a root {@code UniqueId} for the engine with the supplied ID.
+	 *
+	 * @param engineId the ID of the engine; never {@code null} or empty
+	 */
+	public static UniqueId forEngine(String engineId) {
+		Preconditions.notBlank(engineId, "engineId must not be null or empty");
+		return new UniqueId(null, NO_SEPARATOR, engineId);
+	}
+
+	/**
+	 * Create a {@code UniqueId} from its string form without interpreting it,
+	 * i.e. as a single opaque segment.
+	 *
+	 * <p>The resulting ID is equal to every structured ID with the same
+	 * string form.
+	 *
+	 * @param uniqueId the string form of the ID; never {@code null} or empty
+	 * @see #parse(String, String)
+	 */
+	public static UniqueId of(String uniqueId) {
+		Preconditions.notBlank(uniqueId, "uniqueId must not be null or empty");
+		return new UniqueId(null, NO_SEPARATOR, uniqueId);
+	}
+
+	/**
+	 * Parse the string form of a {@code UniqueId} into its segments, starting
+	 * a new segment at each occurrence of one of the supplied separator
+	 * characters.
+	 *
+	 * <p>This is only reliable if segment values never contain any of the
+	 * separators.
+	 *
+	 * @param uniqueId the string form of the ID; never {@code null} or empty
+	 * @param separators the characters that introduce a new segment
+	 */
+	public static UniqueId parse(String uniqueId, String separators) {
+		Preconditions.notBlank(uniqueId, "uniqueId must not be null or empty");
+		Preconditions.notNull(separators, "separators must not be null");
+		UniqueId result = null;
+		char separator = NO_SEPARATOR;
+		int segmentStart = 0;
+		for (int i = 0; i <= uniqueId.length(); i++) {
+			if (i == uniqueId.length() || separators.indexOf(uniqueId.charAt(i)) >= 0) {
+				String value = uniqueId.substring(segmentStart, i);
+				result = (result == null ? new UniqueId(null, NO_SEPARATOR, value) : result.append(separator, value));
+				if (i < uniqueId.length()) {
+					separator = uniqueId.charAt(i);
+				}
+				segmentStart = i + 1;
+			}
+		}
+		return result;
+	}
+
+	private final UniqueId parent;
+	private final char separator;
+	private final String value;
+	private final int length;
+	private final int hash;
+
+	private transient String stringForm;
+
+	private UniqueId(UniqueId parent, char separator, String value) {
+		this.parent = parent;
+		this.separator = separator;
+		this.value = value;
+		if (parent == null) {
+			this.length = value.length();
+			this.hash = value.hashCode();
+		}
+		else {
+			this.length = parent.length + 1 + value.length();
+			// Equivalent to (parent + separator + value).hashCode()
+			int valueFactor = pow31(value.length());
+			this.hash = (parent.hash * 31 + separator) * valueFactor + value.hashCode();
+		}
+	}
+
+	/**
+	 * Create a new {@code UniqueId} by appending a segment consisting of the
+	 * supplied separator and value to this ID.
+	 *
+	 * @param separator the character introducing the new segment
+	 * @param value the value of the new segment; never {@code null}
+	 */
+	public UniqueId append(char separator, String value) {
+		Preconditions.notNull(value, "value must not be null");
+		return new UniqueId(this, separator, value);
+	}
+
+	/**
+	 * Get the parent of this ID, i.e. this ID without its last segment.
+	 *
+	 * @return the parent; empty if this ID is a root
+	 */
+	public Optional<UniqueId> getParent() {
+		return Optional.ofNullable(this.parent);
+	}
+
+	/**
+	 * Determine if this ID consists of a single segment.
+	 */
+	public boolean isRoot() {
+		return this.parent == null;
+	}
+
+	/**
+	 * Get the root segment of this ID.
+	 */
+	public UniqueId getRoot() {
+		UniqueId current = this;
+		while (current.parent != null) {
+			current = current.parent;
+		}
+		return current;
+	}
+
+	/**
+	 * Get the separator that introduces the last segment of this ID.
+	 *
+	 * @return the separator; {@code '\0'} if this ID is a root
+	 */
+	public char getSeparator() {
+		return this.separator;
+	}
+
+	/**
+	 * Get the value of the last segment of this ID, excluding its separator.
+	 */
+	public String getValue() {
+		return this.value;
+	}
+
+	/**
+	 * Determine if the supplied ID is this ID or one of its ancestors.
+	 *
+	 * <p>Only segment boundaries of this ID are considered, which makes this
+	 * check independent of the total length of the IDs.
+	 */
+	public boolean hasPrefix(UniqueId prefix) {
+		Preconditions.notNull(prefix, "prefix must not be null");
+		UniqueId current = this;
+		while (current != null && current.length > prefix.length) {
+			current = current.parent;
+		}
+		return current != null && current.equals(prefix);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof UniqueId)) {
+			return false;
+		}
+		UniqueId that = (UniqueId) obj;
+		if (this.hash != that.hash || this.length != that.length) {
+			return false;
+		}
+		UniqueId left = this;
+		UniqueId right = that;
+		while (left != null && right != null && left.length == right.length && left.separator == right.separator
+				&& left.value.equals(right.value)) {
+			left = left.parent;
+			right = right.parent;
+			if (left == right) {
+				return true;
+			}
+		}
+		// Segment boundaries differ, e.g. when comparing to an ID created via of(String)
+		return toString().equals(that.toString());
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hash;
+	}
+
+	@Override
+	public String toString() {
+		String result = this.stringForm;
+		if (result == null) {
+			char[] chars = new char[this.length];
+			for (UniqueId current = this; current != null; current = current.parent) {
+				int valueStart = current.length - current.value.length();
+				current.value.getChars(0, current.value.length(), chars, valueStart);
+				if (current.parent != null) {
+					chars[valueStart - 1] = current.separator;
+				}
+			}
+			result = new String(chars);
+			this.stringForm = result;
+		}
+		return result;
+	}
+
+	private static int pow31(int exponent) {
+		int result = 1;
+		int base = 31;
+		while (exponent > 0) {
+			if ((exponent & 1) != 0) {
+				result *= base;
+			}
+			base *= base;
+			exponent >>= 1;
+		}
+		return result;
+	}
+
+}
@@ -13,7 +13,9 @@ package org.junit.gen5.engine.discovery;
 import static org.junit.gen5.commons.meta.API.Usage.Experimental;
 
 import org.junit.gen5.commons.meta.API;
+import org.junit.gen5.commons.util.Preconditions;
 import org.junit.gen5.engine.DiscoverySelector;
+import org.junit.gen5.engine.UniqueId;
 
 /**
  * @since 5.0
@@ -22,16 +24,20 @@ import org.junit.gen5.engine.DiscoverySelector;
 public class UniqueIdSelector implements DiscoverySelector {
 
 	public static UniqueIdSelector forUniqueId(String uniqueId) {
-		return new UniqueIdSelector(uniqueId);
+		return new UniqueIdSelector(UniqueId.of(uniqueId));
 	}
 
-	private final String uniqueId;
+	public static UniqueIdSelector forUniqueId(UniqueId uniqueId) {
+		return new UniqueIdSelector(Preconditions.notNull(uniqueId, "uniqueId must not be null"));
+	}
+
+	private final UniqueId uniqueId;
 
-	private UniqueIdSelector(String uniqueId) {
+	private UniqueIdSelector(UniqueId uniqueId) {
 		this.uniqueId = uniqueId;
 	}
 
-	public String getUniqueId() {
+	public UniqueId getUniqueId() {
 		return uniqueId;
 	}
 
@@ -13,10 +13,14 @@ package org.junit.gen5.engine.support.descriptor;
 import static java.util.Collections.emptySet;
 import static org.junit.gen5.commons.meta.API.Usage.Experimental;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.gen5.commons.JUnitException;
 import org.junit.gen5.commons.meta.API;
@@ -24,6 +28,7 @@ import org.junit.gen5.commons.util.Preconditions;
 import org.junit.gen5.engine.TestDescriptor;
 import org.junit.gen5.engine.TestSource;
 import org.junit.gen5.engine.TestTag;
+import org.junit.gen5.engine.UniqueId;
 
 /**
  * @since 5.0
@@ -31,7 +36,7 @@ import org.junit.gen5.engine.TestTag;
 @API(Experimental)
 public abstract class AbstractTestDescriptor implements TestDescriptor {
 
-	private final String uniqueId;
+	private final UniqueId uniqueId;
 
 	private TestDescriptor parent;
 
@@ -39,12 +44,46 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 
 	private final Set<TestDescriptor> children = new LinkedHashSet<>();
 
+	/**
+	 * Index of all descendants by unique ID; {@code null} unless enabled
+	 * via {@link #enableUniqueIdIndex()}.
+	 */
+	private Map<UniqueId, TestDescriptor> descendantsByUniqueId;
+
+	protected AbstractTestDescriptor(UniqueId uniqueId) {
+		this.uniqueId = Preconditions.notNull(uniqueId, "uniqueId must not be null");
+	}
+
+	/**
+	 * Create a descriptor whose unique ID is the supplied string, treated as
+	 * a single opaque segment.
+	 *
+	 * @see UniqueId#of(String)
+	 */
 	protected AbstractTestDescriptor(String uniqueId) {
-		this.uniqueId = Preconditions.notBlank(uniqueId, "uniqueId must not be null or empty");
+		this(UniqueId.of(uniqueId));
+	}
+
+	/**
+	 * Enable an index of all descendants of this descriptor by their unique
+	 * IDs, allowing {@link #findByUniqueId(UniqueId)} to answer in constant
+	 * time instead of walking the subtree.
+	 *
+	 * <p>The index is kept up to date as descriptors are added to or removed
+	 * from any part of the subtree. It should be enabled by the root of a
+	 * hierarchy &mdash; typically the {@link EngineDescriptor} &mdash; before
+	 * children are added.
+	 */
+	protected final void enableUniqueIdIndex() {
+		if (this.descendantsByUniqueId == null) {
+			this.descendantsByUniqueId = new ConcurrentHashMap<>();
+			this.children.forEach(child -> collectSubtree(child, new ArrayList<>()).forEach(
+				descendant -> this.descendantsByUniqueId.putIfAbsent(descendant.getUniqueId(), descendant)));
+		}
 	}
 
 	@Override
-	public final String getUniqueId() {
+	public final UniqueId getUniqueId() {
 		return this.uniqueId;
 	}
 
@@ -60,7 +99,9 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 
 	@Override
 	public void removeChild(TestDescriptor child) {
-		this.children.remove(child);
+		if (this.children.remove(child)) {
+			updateIndexes(child, false);
+		}
 		child.setParent(null);
 	}
 
@@ -70,13 +111,19 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		}
 		this.parent.removeChild(this);
 		this.children.clear();
+		if (this.descendantsByUniqueId != null) {
+			this.descendantsByUniqueId.clear();
+		}
 	}
 
 	@Override
-	public Optional<? extends TestDescriptor> findByUniqueId(String uniqueId) {
+	public Optional<? extends TestDescriptor> findByUniqueId(UniqueId uniqueId) {
 		if (getUniqueId().equals(uniqueId)) {
 			return Optional.of(this);
 		}
+		if (this.descendantsByUniqueId != null) {
+			return Optional.ofNullable(this.descendantsByUniqueId.get(uniqueId));
+		}
 		for (TestDescriptor child : this.children) {
 			Optional<? extends TestDescriptor> result = child.findByUniqueId(uniqueId);
 			if (result.isPresent()) {
@@ -90,7 +137,42 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 	public void addChild(TestDescriptor child) {
 		Preconditions.notNull(child, "child must not be null");
 		child.setParent(this);
-		this.children.add(child);
+		if (this.children.add(child)) {
+			updateIndexes(child, true);
+		}
+	}
+
+	/**
+	 * Register or unregister the subtree rooted at {@code child} with every
+	 * indexing descriptor on the path from this descriptor up to the root.
+	 */
+	private void updateIndexes(TestDescriptor child, boolean register) {
+		List<TestDescriptor> subtree = null;
+		TestDescriptor current = this;
+		while (current instanceof AbstractTestDescriptor) {
+			AbstractTestDescriptor ancestor = (AbstractTestDescriptor) current;
+			Map<UniqueId, TestDescriptor> index = ancestor.descendantsByUniqueId;
+			if (index != null) {
+				if (subtree == null) {
+					subtree = collectSubtree(child, new ArrayList<>());
+				}
+				for (TestDescriptor descriptor : subtree) {
+					if (register) {
+						index.putIfAbsent(descriptor.getUniqueId(), descriptor);
+					}
+					else {
+						index.remove(descriptor.getUniqueId(), descriptor);
+					}
+				}
+			}
+			current = ancestor.parent;
+		}
+	}
+
+	private static List<TestDescriptor> collectSubtree(TestDescriptor root, List<TestDescriptor> collector) {
+		collector.add(root);
+		root.getChildren().forEach(child -> collectSubtree(child, collector));
+		return collector;
 	}
 
 	@Override
@@ -106,7 +188,12 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 	public void accept(Visitor visitor) {
 		Runnable remove = this::removeFromHierarchy;
 		visitor.visit(this, remove);
-		new LinkedHashSet<>(getChildren()).forEach(child -> child.accept(visitor));
+		if (!this.children.isEmpty()) {
+			// Copy to an array since the visitor may remove children while iterating
+			for (TestDescriptor child : this.children.toArray(new TestDescriptor[this.children.size()])) {
+				child.accept(visitor);
+			}
+		}
 	}
 
 	@Override
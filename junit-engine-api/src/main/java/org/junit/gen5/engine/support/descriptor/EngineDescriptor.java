@@ -13,8 +13,15 @@ package org.junit.gen5.engine.support.descriptor;
 import static org.junit.gen5.commons.meta.API.Usage.Experimental;
 
 import org.junit.gen5.commons.meta.API;
+import org.junit.gen5.engine.UniqueId;
 
 /**
+ * Root of the {@link org.junit.gen5.engine.TestDescriptor} hierarchy of an
+ * engine.
+ *
+ * <p>Maintains an index of all descendants by unique ID so that
+ * {@link #findByUniqueId(UniqueId)} does not need to walk the tree.
+ *
  * @since 5.0
  */
 @API(Experimental)
@@ -22,9 +29,20 @@ public class EngineDescriptor extends AbstractTestDescriptor {
 
 	private final String displayName;
 
-	public EngineDescriptor(String uniqueId, String displayName) {
+	public EngineDescriptor(UniqueId uniqueId, String displayName) {
 		super(uniqueId);
 		this.displayName = displayName;
+		enableUniqueIdIndex();
+	}
+
+	/**
+	 * Create an engine descriptor whose unique ID is the root ID for the
+	 * supplied engine ID.
+	 *
+	 * @see UniqueId#forEngine(String)
+	 */
+	public EngineDescriptor(String engineId, String displayName) {
+		this(UniqueId.forEngine(engineId), displayName);
 	}
 
 	@Override
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.support.hierarchical;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import java.util.Objects;
+
+import org.junit.gen5.commons.meta.API;
+import org.junit.gen5.commons.util.Preconditions;
+
+/**
+ * An exclusive resource identified by a key with a lock mode that is used
+ * to synchronize access to shared resources when executing nodes in parallel.
+ *
+ * <p>Nodes that declare the same key with {@link LockMode#READ} may be
+ * executed concurrently; a node that declares a key with
+ * {@link LockMode#READ_WRITE} is never executed concurrently with any
+ * other node that declares the same key.
+ *
+ * @since 5.0
+ * @see Node#getExclusiveResources()
+ */
+@API(Experimental)
+public class ExclusiveResource {
+
+	private final String key;
+	private final LockMode lockMode;
+
+	public ExclusiveResource(String key, LockMode lockMode) {
+		this.key = Preconditions.notBlank(key, "key must not be blank");
+		this.lockMode = Preconditions.notNull(lockMode, "lockMode must not be null");
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public LockMode getLockMode() {
+		return lockMode;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ExclusiveResource that = (ExclusiveResource) obj;
+		return this.key.equals(that.key) && this.lockMode == that.lockMode;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(key, lockMode);
+	}
+
+	@Override
+	public String toString() {
+		return "ExclusiveResource [key = '" + key + "', lockMode = " + lockMode + "]";
+	}
+
+	public enum LockMode {
+
+		READ,
+
+		READ_WRITE
+
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.support.hierarchical;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.gen5.commons.meta.API;
+import org.junit.gen5.commons.util.ExceptionUtils;
+import org.junit.gen5.commons.util.Preconditions;
+
+/**
+ * {@link HierarchicalTestExecutorService} that executes tasks concurrently
+ * using an arbitrary {@link ExecutorService}, e.g. a bounded thread pool or
+ * an executor that starts a new virtual thread per task.
+ *
+ * <p>The calling thread executes the first of the supplied tasks itself
+ * and afterwards every task that has not been picked up by the executor
+ * yet. Nested invocations therefore never wait for threads that are not
+ * available, even if the executor is bounded.
+ *
+ * @since 5.0
+ */
+@API(Experimental)
+public class ExecutorServiceHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	private final ExecutorService executorService;
+
+	private final boolean shutdownOnClose;
+
+	/**
+	 * Create a new service that uses the supplied {@link ExecutorService}
+	 * and shuts it down when it is {@linkplain #close() closed}.
+	 */
+	public ExecutorServiceHierarchicalTestExecutorService(ExecutorService executorService) {
+		this(executorService, true);
+	}
+
+	public ExecutorServiceHierarchicalTestExecutorService(ExecutorService executorService, boolean shutdownOnClose) {
+		this.executorService = Preconditions.notNull(executorService, "ExecutorService must not be null");
+		this.shutdownOnClose = shutdownOnClose;
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> tasks) {
+		List<FutureTask<Void>> futures = new ArrayList<>(tasks.size());
+		for (TestTask task : tasks) {
+			futures.add(new FutureTask<>(task::execute, null));
+		}
+		for (int i = 1; i < futures.size(); i++) {
+			try {
+				executorService.execute(futures.get(i));
+			}
+			catch (RejectedExecutionException ex) {
+				// executed by the calling thread below
+			}
+		}
+		Throwable throwable = null;
+		for (FutureTask<Void> future : futures) {
+			// no-op unless the task has not been started by the executor yet
+			future.run();
+			try {
+				getUninterruptibly(future);
+			}
+			catch (ExecutionException ex) {
+				if (throwable == null) {
+					throwable = ex.getCause();
+				}
+			}
+		}
+		if (throwable != null) {
+			throw ExceptionUtils.throwAsUncheckedException(throwable);
+		}
+	}
+
+	private static void getUninterruptibly(FutureTask<Void> future) throws ExecutionException {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					future.get();
+					return;
+				}
+				catch (InterruptedException ex) {
+					interrupted = true;
+				}
+			}
+		}
+		finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		if (shutdownOnClose) {
+			executorService.shutdownNow();
+		}
+	}
+
+}
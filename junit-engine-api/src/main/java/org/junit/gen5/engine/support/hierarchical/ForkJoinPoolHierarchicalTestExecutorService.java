@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.support.hierarchical;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.junit.gen5.commons.meta.API;
+import org.junit.gen5.commons.util.ExceptionUtils;
+import org.junit.gen5.commons.util.Preconditions;
+
+/**
+ * {@link HierarchicalTestExecutorService} that executes tasks concurrently
+ * as fork/join tasks in a dedicated, work-stealing {@link ForkJoinPool}.
+ *
+ * <p>Threads waiting for nested tasks help executing pending tasks instead
+ * of blocking, which makes this service well suited for CPU-bound suites.
+ *
+ * @since 5.0
+ */
+@API(Experimental)
+public class ForkJoinPoolHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	private final ForkJoinPool forkJoinPool;
+
+	public ForkJoinPoolHierarchicalTestExecutorService(int parallelism) {
+		Preconditions.condition(parallelism > 0, "parallelism must be greater than zero");
+		this.forkJoinPool = new ForkJoinPool(parallelism);
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> tasks) {
+		List<TestTaskAction> actions = new ArrayList<>(tasks.size());
+		for (TestTask task : tasks) {
+			actions.add(new TestTaskAction(task));
+		}
+		if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == forkJoinPool) {
+			ForkJoinTask.invokeAll(actions);
+		}
+		else {
+			forkJoinPool.invoke(new RecursiveAction() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected void compute() {
+					ForkJoinTask.invokeAll(actions);
+				}
+			});
+		}
+		for (TestTaskAction action : actions) {
+			action.rethrowIfFailed();
+		}
+	}
+
+	@Override
+	public void close() {
+		forkJoinPool.shutdownNow();
+	}
+
+	/**
+	 * Tasks only let blacklisted exceptions escape. They are recorded
+	 * instead of being thrown from {@link #compute()} so that the fork/join
+	 * framework neither cancels sibling tasks nor replaces them with a copy,
+	 * and are rethrown as is by the thread that awaits the task.
+	 */
+	@SuppressWarnings("serial")
+	private static class TestTaskAction extends RecursiveAction {
+
+		private final TestTask task;
+
+		private volatile Throwable throwable;
+
+		TestTaskAction(TestTask task) {
+			this.task = task;
+		}
+
+		@Override
+		protected void compute() {
+			try {
+				task.execute();
+			}
+			catch (Throwable t) {
+				this.throwable = t;
+			}
+		}
+
+		void rethrowIfFailed() {
+			if (throwable != null) {
+				throw ExceptionUtils.throwAsUncheckedException(throwable);
+			}
+		}
+	}
+
+}
@@ -32,9 +32,53 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 
 	@Override
 	public final void execute(ExecutionRequest request) {
-		new HierarchicalTestExecutor<>(request, createExecutionContext(request)).execute();
+		try (HierarchicalTestExecutorService executorService = createExecutorService(request)) {
+			new HierarchicalTestExecutor<>(request, createExecutionContext(request), executorService).execute();
+		}
 	}
 
 	protected abstract C createExecutionContext(ExecutionRequest request);
 
+	/**
+	 * Create the {@link HierarchicalTestExecutorService} used to execute the
+	 * tests of the supplied {@link ExecutionRequest}.
+	 *
+	 * <p>The default implementation executes all nodes in the calling thread
+	 * if {@link #getParallelism} returns {@code 1} and uses a work-stealing
+	 * {@link ForkJoinPoolHierarchicalTestExecutorService} otherwise. Engines
+	 * may override this method to supply a different strategy, e.g. an
+	 * {@link ExecutorServiceHierarchicalTestExecutorService} backed by
+	 * virtual threads for IO-bound suites. The service is
+	 * {@linkplain HierarchicalTestExecutorService#close() closed} once
+	 * the execution has finished.
+	 *
+	 * @param request the request to be executed
+	 * @return the executor service to use; never {@code null}
+	 */
+	protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+		int parallelism = getParallelism(request);
+		if (parallelism == 1) {
+			return new SameThreadHierarchicalTestExecutorService();
+		}
+		return new ForkJoinPoolHierarchicalTestExecutorService(parallelism);
+	}
+
+	/**
+	 * Determine the number of threads used to execute the tests of the
+	 * supplied {@link ExecutionRequest} by the default
+	 * {@linkplain #createExecutorService executor service}.
+	 *
+	 * <p>The default implementation returns {@code 1}, i.e. all nodes are
+	 * executed sequentially in the calling thread. Engines that execute
+	 * their nodes concurrently must ensure that their {@link EngineExecutionContext} can be
+	 * shared by sibling nodes and that their nodes do not depend on the
+	 * order in which siblings are executed.
+	 *
+	 * @param request the request to be executed
+	 * @return the parallelism level; must be greater than zero
+	 */
+	protected int getParallelism(ExecutionRequest request) {
+		return 1;
+	}
+
 }
@@ -10,13 +10,23 @@
 
 package org.junit.gen5.engine.support.hierarchical;
 
+import static java.util.Collections.singletonList;
 import static org.junit.gen5.engine.support.hierarchical.BlacklistedExceptions.rethrowIfBlacklisted;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.gen5.commons.util.Preconditions;
 import org.junit.gen5.engine.EngineExecutionListener;
 import org.junit.gen5.engine.ExecutionRequest;
 import org.junit.gen5.engine.TestDescriptor;
 import org.junit.gen5.engine.TestEngine;
 import org.junit.gen5.engine.TestExecutionResult;
+import org.junit.gen5.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.gen5.engine.support.hierarchical.LockManager.AcquiredLocks;
+import org.junit.gen5.engine.support.hierarchical.Node.ExecutionMode;
 import org.junit.gen5.engine.support.hierarchical.Node.SkipResult;
 
 /**
@@ -29,6 +39,25 @@ import org.junit.gen5.engine.support.hierarchical.Node.SkipResult;
  * calling containers and leaves in the appropriate order as well as
  * firing the necessary events in the {@link EngineExecutionListener}.
  *
+ * <p>The root node and the children of each node are handed to a
+ * {@link HierarchicalTestExecutorService} which may execute them
+ * concurrently. In that case the context returned by
+ * {@link Container#beforeAll} is handed to all children of the container
+ * at the same time and must therefore not be mutated by them.
+ *
+ * <p>Nodes that declare {@linkplain Node#getExclusiveResources exclusive
+ * resources} are only executed once the locks for their own resources and
+ * those of all of their descendants have been acquired. Their descendants
+ * are then executed sequentially in the same thread.
+ *
+ * <p>Children whose {@linkplain Node#getExecutionMode execution mode} is
+ * {@link ExecutionMode#SAME_THREAD SAME_THREAD} are executed one after
+ * another as the first task passed to the executor service, i.e. in the
+ * thread of their parent if supported by the service. If the service does
+ * not {@linkplain HierarchicalTestExecutorService#supportsConcurrentExecution
+ * support concurrent execution}, all children are executed in their
+ * declared order instead.
+ *
  * @param <C> the type of {@code EngineExecutionContext} used by the {@code HierarchicalTestEngine}
  * @since 5.0
  */
@@ -44,17 +73,27 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 
 	private final C rootContext;
 
+	private final HierarchicalTestExecutorService executorService;
+
+	private final LockManager lockManager = new LockManager();
+
 	HierarchicalTestExecutor(ExecutionRequest request, C rootContext) {
+		this(request, rootContext, new SameThreadHierarchicalTestExecutorService());
+	}
+
+	HierarchicalTestExecutor(ExecutionRequest request, C rootContext, HierarchicalTestExecutorService executorService) {
 		this.rootTestDescriptor = request.getRootTestDescriptor();
 		this.listener = request.getEngineExecutionListener();
 		this.rootContext = rootContext;
+		this.executorService = Preconditions.notNull(executorService, "executorService must not be null");
 	}
 
 	void execute() {
-		executeAll(rootTestDescriptor, rootContext);
+		boolean concurrently = executorService.supportsConcurrentExecution();
+		executorService.invokeAll(singletonList(() -> executeAll(rootTestDescriptor, rootContext, concurrently)));
 	}
 
-	private void executeAll(TestDescriptor testDescriptor, C parentContext) {
+	private void executeAll(TestDescriptor testDescriptor, C parentContext, boolean concurrently) {
 
 		C preparedContext;
 		try {
@@ -74,20 +113,75 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 			return;
 		}
 
+		if (!concurrently || adapter.asNode(testDescriptor).getExclusiveResources().isEmpty()) {
+			execute(testDescriptor, preparedContext, concurrently);
+			return;
+		}
+
+		AcquiredLocks locks;
+		try {
+			locks = lockManager.acquire(collectExclusiveResources(testDescriptor));
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			listener.executionStarted(testDescriptor);
+			listener.executionFinished(testDescriptor, TestExecutionResult.failed(ex));
+			return;
+		}
+		try {
+			execute(testDescriptor, preparedContext, false);
+		}
+		finally {
+			locks.release();
+		}
+	}
+
+	private void execute(TestDescriptor testDescriptor, C preparedContext, boolean concurrently) {
 		listener.executionStarted(testDescriptor);
 
 		TestExecutionResult result = singleTestExecutor.executeSafely(() -> {
 			C context = adapter.asContainer(testDescriptor).beforeAll(preparedContext);
 			context = adapter.asLeaf(testDescriptor).execute(context);
 
-			for (TestDescriptor child : testDescriptor.getChildren()) {
-				executeAll(child, context);
-			}
+			executeChildren(testDescriptor, context, concurrently);
 			context = adapter.asContainer(testDescriptor).afterAll(context);
 		});
 		listener.executionFinished(testDescriptor, result);
 	}
 
+	private void executeChildren(TestDescriptor testDescriptor, C context, boolean concurrently) {
+		if (!concurrently) {
+			for (TestDescriptor child : testDescriptor.getChildren()) {
+				executeAll(child, context, false);
+			}
+			return;
+		}
+		List<TestDescriptor> sameThreadChildren = new ArrayList<>();
+		List<TestTask> tasks = new ArrayList<>();
+		tasks.add(() -> {
+			for (TestDescriptor child : sameThreadChildren) {
+				executeAll(child, context, true);
+			}
+		});
+		for (TestDescriptor child : testDescriptor.getChildren()) {
+			if (adapter.asNode(child).getExecutionMode() == ExecutionMode.SAME_THREAD) {
+				sameThreadChildren.add(child);
+			}
+			else {
+				tasks.add(() -> executeAll(child, context, true));
+			}
+		}
+		executorService.invokeAll(sameThreadChildren.isEmpty() ? tasks.subList(1, tasks.size()) : tasks);
+	}
+
+	private Set<ExclusiveResource> collectExclusiveResources(TestDescriptor testDescriptor) {
+		Set<ExclusiveResource> resources = new HashSet<>(adapter.asNode(testDescriptor).getExclusiveResources());
+		for (TestDescriptor descendant : testDescriptor.allDescendants()) {
+			resources.addAll(adapter.asNode(descendant).getExclusiveResources());
+		}
+		return resources;
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private static class MixinAdapter<C extends EngineExecutionContext> {
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.support.hierarchical;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import java.util.List;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * Strategy used by a {@link HierarchicalTestEngine} to execute the
+ * {@linkplain TestTask tasks} that make up a hierarchy of {@link Node Nodes}.
+ *
+ * <p>The executor hands the task for the root node as well as the tasks
+ * for the children of each node to {@link #invokeAll}. Implementations
+ * decide whether those tasks are executed sequentially in the calling
+ * thread or concurrently, e.g. in a work-stealing pool or on cheap
+ * threads provided by an arbitrary {@link java.util.concurrent.ExecutorService}.
+ *
+ * <p>Implementations should execute the first of the supplied tasks in the
+ * calling thread; the executor passes children that must be executed in
+ * the thread of their parent as the first task.
+ *
+ * <p>Tasks invoke {@code invokeAll} recursively for their own children.
+ * Implementations must therefore make progress even if all of their
+ * threads are waiting for nested tasks.
+ *
+ * @since 5.0
+ * @see SameThreadHierarchicalTestExecutorService
+ * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @see ExecutorServiceHierarchicalTestExecutorService
+ */
+@API(Experimental)
+public interface HierarchicalTestExecutorService extends AutoCloseable {
+
+	/**
+	 * Execute the supplied tasks and wait for all of them to complete.
+	 *
+	 * <p>Tasks only throw exceptions that must abort the entire execution,
+	 * e.g. an {@link OutOfMemoryError}. If one or more tasks throw such an
+	 * exception, one of them must be rethrown <em>as is</em> once all tasks
+	 * have completed or have been cancelled.
+	 *
+	 * @param tasks the tasks to execute; never {@code null}
+	 */
+	void invokeAll(List<? extends TestTask> tasks);
+
+	/**
+	 * Determine whether this service may execute the tasks passed to
+	 * {@link #invokeAll} concurrently.
+	 *
+	 * <p>If not, the executor runs all nodes sequentially in their declared
+	 * order and ignores their {@linkplain Node#getExecutionMode execution
+	 * modes} and {@linkplain Node#getExclusiveResources exclusive resources}.
+	 *
+	 * <p>Defaults to {@code true}.
+	 */
+	default boolean supportsConcurrentExecution() {
+		return true;
+	}
+
+	/**
+	 * Release all resources held by this service, e.g. the threads of an
+	 * underlying pool.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * A unit of work that executes a single {@link Node} including all
+	 * of its descendants.
+	 */
+	@FunctionalInterface
+	interface TestTask {
+
+		void execute();
+
+	}
+
+}
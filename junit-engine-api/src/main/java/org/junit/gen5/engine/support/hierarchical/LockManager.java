@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.support.hierarchical;
+
+import static org.junit.gen5.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.gen5.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.gen5.engine.support.hierarchical.ExclusiveResource.LockMode;
+
+/**
+ * Hands out read/write locks for {@linkplain ExclusiveResource exclusive resources}.
+ *
+ * <p>The locks for a set of resources are always acquired in the natural
+ * order of their keys. Since a thread never acquires further locks while
+ * holding the locks of a node, this global order prevents deadlocks.
+ *
+ * @since 5.0
+ */
+class LockManager {
+
+	private final Map<String, ReadWriteLock> locksByKey = new ConcurrentHashMap<>();
+
+	/**
+	 * Acquire the locks for the supplied resources, blocking until all of
+	 * them are available. If the same key is declared more than once, the
+	 * strongest {@linkplain LockMode lock mode} is used.
+	 */
+	AcquiredLocks acquire(Collection<ExclusiveResource> resources) throws InterruptedException {
+		List<Lock> locks = getLocks(resources);
+		for (int i = 0; i < locks.size(); i++) {
+			try {
+				ForkJoinPool.managedBlock(new LockBlocker(locks.get(i)));
+			}
+			catch (InterruptedException ex) {
+				new AcquiredLocks(locks.subList(0, i)).release();
+				throw ex;
+			}
+		}
+		return new AcquiredLocks(locks);
+	}
+
+	List<Lock> getLocks(Collection<ExclusiveResource> resources) {
+		Map<String, LockMode> lockModesByKey = new TreeMap<>();
+		for (ExclusiveResource resource : resources) {
+			lockModesByKey.merge(resource.getKey(), resource.getLockMode(),
+				(mode1, mode2) -> mode1 == READ_WRITE || mode2 == READ_WRITE ? READ_WRITE : READ);
+		}
+		List<Lock> locks = new ArrayList<>(lockModesByKey.size());
+		lockModesByKey.forEach((key, lockMode) -> {
+			ReadWriteLock readWriteLock = locksByKey.computeIfAbsent(key, k -> new ReentrantReadWriteLock());
+			locks.add(lockMode == READ ? readWriteLock.readLock() : readWriteLock.writeLock());
+		});
+		return locks;
+	}
+
+	static class AcquiredLocks {
+
+		private final List<Lock> locks;
+
+		private AcquiredLocks(List<Lock> locks) {
+			this.locks = locks;
+		}
+
+		void release() {
+			for (int i = locks.size() - 1; i >= 0; i--) {
+				locks.get(i).unlock();
+			}
+		}
+	}
+
+	/**
+	 * Lets a {@link ForkJoinPool} compensate for the blocked worker thread
+	 * while waiting for a lock; simply blocks if called by any other thread.
+	 */
+	private static class LockBlocker implements ForkJoinPool.ManagedBlocker {
+
+		private final Lock lock;
+
+		private boolean acquired;
+
+		LockBlocker(Lock lock) {
+			this.lock = lock;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			if (!acquired) {
+				lock.lockInterruptibly();
+				acquired = true;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return acquired || (acquired = lock.tryLock());
+		}
+	}
+
+}
@@ -10,9 +10,11 @@
 
 package org.junit.gen5.engine.support.hierarchical;
 
+import static java.util.Collections.emptySet;
 import static org.junit.gen5.commons.meta.API.Usage.Experimental;
 
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.gen5.commons.meta.API;
 
@@ -36,6 +38,51 @@ public interface Node<C extends EngineExecutionContext> {
 		return SkipResult.dontSkip();
 	}
 
+	/**
+	 * Get the shared resources this node requires exclusive access to.
+	 *
+	 * <p>When nodes are executed concurrently, the {@link HierarchicalTestEngine}
+	 * acquires the locks for these resources, as well as for the resources
+	 * required by all descendants of this node, before the execution of
+	 * this node starts and releases them after it has finished. The
+	 * descendants of such a node are executed in the same thread.
+	 *
+	 * @return the set of exclusive resources; never {@code null}
+	 */
+	default Set<ExclusiveResource> getExclusiveResources() {
+		return emptySet();
+	}
+
+	/**
+	 * Get the {@linkplain ExecutionMode execution mode} of this node.
+	 *
+	 * <p>Only relevant if the {@link HierarchicalTestEngine} executes nodes
+	 * concurrently. Defaults to {@link ExecutionMode#CONCURRENT CONCURRENT}.
+	 *
+	 * @return the execution mode; never {@code null}
+	 */
+	default ExecutionMode getExecutionMode() {
+		return ExecutionMode.CONCURRENT;
+	}
+
+	/**
+	 * Supported execution modes of a {@link Node}.
+	 */
+	enum ExecutionMode {
+
+		/**
+		 * The node may be executed concurrently with its siblings.
+		 */
+		CONCURRENT,
+
+		/**
+		 * The node is executed sequentially with all of its siblings that
+		 * declare the same mode, in the thread of its parent if possible.
+		 */
+		SAME_THREAD
+
+	}
+
 	class SkipResult {
 
 		private final boolean skipped;
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.support.hierarchical;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import java.util.List;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * {@link HierarchicalTestExecutorService} that executes all tasks
+ * sequentially in the calling thread.
+ *
+ * @since 5.0
+ */
+@API(Experimental)
+public class SameThreadHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	@Override
+	public void invokeAll(List<? extends TestTask> tasks) {
+		for (TestTask task : tasks) {
+			task.execute();
+		}
+	}
+
+	@Override
+	public boolean supportsConcurrentExecution() {
+		return false;
+	}
+
+	@Override
+	public void close() {
+		// nothing to do
+	}
+
+}
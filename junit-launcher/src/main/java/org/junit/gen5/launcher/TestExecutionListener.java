@@ -38,6 +38,13 @@ import org.junit.gen5.engine.reporting.ReportEntry;
  * comply with this contract, there is no way to guarantee this for third-party
  * engines.
  *
+ * <p>Engines may execute tests concurrently, in which case the methods of
+ * a listener are invoked by multiple threads at the same time and must be
+ * thread-safe. For each identifier, {@link #executionStarted} is still
+ * called before {@link #executionFinished}, and the events of all children
+ * of a container are reported between the container's own start and
+ * finish events.
+ *
  * @since 5.0
  * @see Launcher
  * @see TestPlan
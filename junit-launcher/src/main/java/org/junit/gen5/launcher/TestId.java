@@ -17,10 +17,15 @@ import java.util.Objects;
 
 import org.junit.gen5.commons.meta.API;
 import org.junit.gen5.commons.util.Preconditions;
+import org.junit.gen5.engine.UniqueId;
 
 /**
  * Immutable value object representing a unique test ID.
  *
+ * <p>A {@code TestId} is a thin wrapper around the {@link UniqueId} of the
+ * corresponding {@link org.junit.gen5.engine.TestDescriptor}; it neither
+ * copies nor re-parses its string form.
+ *
  * @since 5.0
  */
 @API(Experimental)
@@ -28,10 +33,21 @@ public final class TestId implements Serializable {
 
 	private static final long serialVersionUID = 1L;
 
-	private final String uniqueId;
+	private final UniqueId uniqueId;
+
+	public TestId(UniqueId uniqueId) {
+		this.uniqueId = Preconditions.notNull(uniqueId, "uniqueId must not be null");
+	}
 
 	public TestId(String uniqueId) {
-		this.uniqueId = Preconditions.notBlank(uniqueId, "uniqueId must not be null or empty");
+		this(UniqueId.of(uniqueId));
+	}
+
+	/**
+	 * Get the {@link UniqueId} wrapped by this {@code TestId}.
+	 */
+	public UniqueId toUniqueId() {
+		return this.uniqueId;
 	}
 
 	@Override
@@ -50,6 +66,6 @@ public final class TestId implements Serializable {
 
 	@Override
 	public String toString() {
-		return this.uniqueId;
+		return this.uniqueId.toString();
 	}
 }
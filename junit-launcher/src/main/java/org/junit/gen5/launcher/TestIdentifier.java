@@ -46,7 +46,6 @@ public final class TestIdentifier implements Serializable {
 	private final TestId parentId;
 
 	public static TestIdentifier from(TestDescriptor testDescriptor) {
-		// TODO Use Flyweight Pattern for TestId?
 		TestId uniqueId = new TestId(testDescriptor.getUniqueId());
 		String name = testDescriptor.getName();
 		String displayName = testDescriptor.getDisplayName();
@@ -15,11 +15,11 @@ import static java.util.Collections.unmodifiableSet;
 import static org.junit.gen5.commons.meta.API.Usage.Experimental;
 
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.junit.gen5.commons.meta.API;
@@ -45,6 +45,10 @@ import org.junit.gen5.engine.TestDescriptor.Visitor;
  * test is registered at runtime, it is added to the original test plan and
  * reported to {@link TestExecutionListener} implementations.
  *
+ * <p>This class is thread-safe: identifiers may be added while tests are
+ * being executed concurrently. Methods that return sets of identifiers
+ * return unmodifiable snapshots.
+ *
  * @since 5.0
  * @see Launcher
  * @see TestExecutionListener
@@ -53,8 +57,8 @@ import org.junit.gen5.engine.TestDescriptor.Visitor;
 public final class TestPlan {
 
 	private final Set<TestIdentifier> roots = new LinkedHashSet<>();
-	private final Map<TestId, LinkedHashSet<TestIdentifier>> children = new LinkedHashMap<>();
-	private final Map<TestId, TestIdentifier> allIdentifiers = new LinkedHashMap<>();
+	private final Map<TestId, Set<TestIdentifier>> children = new ConcurrentHashMap<>();
+	private final Map<TestId, TestIdentifier> allIdentifiers = new ConcurrentHashMap<>();
 
 	public static TestPlan from(Collection<TestDescriptor> engineDescriptors) {
 		TestPlan testPlan = new TestPlan();
@@ -76,10 +80,14 @@ public final class TestPlan {
 		if (testIdentifier.getParentId().isPresent()) {
 			TestId parentId = testIdentifier.getParentId().get();
 			Set<TestIdentifier> directChildren = children.computeIfAbsent(parentId, key -> new LinkedHashSet<>());
-			directChildren.add(testIdentifier);
+			synchronized (directChildren) {
+				directChildren.add(testIdentifier);
+			}
 		}
 		else {
-			roots.add(testIdentifier);
+			synchronized (roots) {
+				roots.add(testIdentifier);
+			}
 		}
 	}
 
@@ -89,7 +97,7 @@ public final class TestPlan {
 	 * @return an unmodifiable set of the root identifiers
 	 */
 	public Set<TestIdentifier> getRoots() {
-		return unmodifiableSet(roots);
+		return snapshot(roots);
 	}
 
 	/**
@@ -125,7 +133,14 @@ public final class TestPlan {
 	 * @see #getChildren(TestIdentifier)
 	 */
 	public Set<TestIdentifier> getChildren(TestId parentId) {
-		return children.containsKey(parentId) ? unmodifiableSet(children.get(parentId)) : emptySet();
+		Set<TestIdentifier> directChildren = children.get(parentId);
+		return directChildren != null ? snapshot(directChildren) : emptySet();
+	}
+
+	private static Set<TestIdentifier> snapshot(Set<TestIdentifier> identifiers) {
+		synchronized (identifiers) {
+			return unmodifiableSet(new LinkedHashSet<>(identifiers));
+		}
 	}
 
 	/**
@@ -137,9 +152,10 @@ public final class TestPlan {
 	 * with the specified unique ID is present in this test plan
 	 */
 	public TestIdentifier getTestIdentifier(TestId testId) throws PreconditionViolationException {
-		Preconditions.condition(allIdentifiers.containsKey(testId),
+		TestIdentifier testIdentifier = allIdentifiers.get(testId);
+		Preconditions.condition(testIdentifier != null,
 			() -> "No TestIdentifier with this TestId has been added to this TestPlan: " + testId);
-		return allIdentifiers.get(testId);
+		return testIdentifier;
 	}
 
 	/**
@@ -28,14 +28,16 @@ import org.junit.gen5.launcher.TestPlan;
  * Simple {@link TestExecutionListener} that generates a
  * {@linkplain TestExecutionSummary summary} of the test execution.
  *
+ * <p>This listener is thread-safe and may be notified concurrently.
+ *
  * @since 5.0
  * @see #getSummary()
  */
 @API(Experimental)
 public class SummaryGeneratingListener implements TestExecutionListener {
 
-	private TestPlan testPlan;
-	private TestExecutionSummary summary;
+	private volatile TestPlan testPlan;
+	private volatile TestExecutionSummary summary;
 
 	/**
 	 * Get the summary generated by this listener.
@@ -16,6 +16,7 @@ import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -26,7 +27,7 @@ import org.junit.gen5.launcher.TestPlan;
 /**
  * @since 5.0
  */
-// TODO Design a real interface for TestExecutionSummary and make it threadsafe.
+// TODO Design a real interface for TestExecutionSummary.
 @API(Experimental)
 public class TestExecutionSummary {
 
@@ -37,12 +38,12 @@ public class TestExecutionSummary {
 	final AtomicLong testsSucceeded = new AtomicLong();
 	final AtomicLong testsFailed = new AtomicLong();
 
-	long timeStarted;
-	long timeFinished;
+	volatile long timeStarted;
+	volatile long timeFinished;
 
 	private final TestPlan testPlan;
-	private String message;
-	private List<Failure> failures = new ArrayList<>();
+	private volatile String message;
+	private final List<Failure> failures = new CopyOnWriteArrayList<>();
 
 	public TestExecutionSummary(TestPlan testPlan) {
 		this.testPlan = testPlan;
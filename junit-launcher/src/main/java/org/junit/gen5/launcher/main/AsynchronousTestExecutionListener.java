@@ -0,0 +1,317 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.launcher.main;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.gen5.commons.util.Preconditions;
+import org.junit.gen5.engine.TestExecutionResult;
+import org.junit.gen5.engine.reporting.ReportEntry;
+import org.junit.gen5.launcher.TestExecutionListener;
+import org.junit.gen5.launcher.TestIdentifier;
+import org.junit.gen5.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that dispatches all events to a delegate
+ * listener in a single consumer thread.
+ *
+ * <p>Events are handed over through a ring buffer of preallocated, reusable
+ * slots. If the buffer is full, the notifying thread blocks until the
+ * consumer has caught up. Events are delivered in the order in which they
+ * were published. {@link #testPlanExecutionFinished} returns only after
+ * all events, including itself, have been delivered. If the execution of
+ * the test plan is aborted before, {@link #shutdown} delivers all events
+ * published so far and terminates the consumer thread.
+ *
+ * <p>Exceptions thrown by the delegate are logged and do not affect the
+ * execution of tests. An {@link Error} thrown by the delegate terminates the
+ * consumer thread and is rethrown to every thread that subsequently
+ * publishes or waits for an event.
+ *
+ * @since 5.0
+ */
+class AsynchronousTestExecutionListener implements TestExecutionListener {
+
+	private static final Logger LOG = Logger.getLogger(AsynchronousTestExecutionListener.class.getName());
+
+	static final int DEFAULT_BUFFER_SIZE = 1024;
+
+	private final TestExecutionListener delegate;
+
+	private final Event[] buffer;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+	private final Condition drained = lock.newCondition();
+
+	// guarded by lock
+	private Thread consumer;
+	private boolean stopping;
+	private int head;
+	private int size;
+	private long published;
+	private long delivered;
+	private Error failure;
+
+	AsynchronousTestExecutionListener(TestExecutionListener delegate) {
+		this(delegate, DEFAULT_BUFFER_SIZE);
+	}
+
+	AsynchronousTestExecutionListener(TestExecutionListener delegate, int bufferSize) {
+		Preconditions.condition(bufferSize > 0, "bufferSize must be greater than zero");
+		this.delegate = delegate;
+		this.buffer = new Event[bufferSize];
+		for (int i = 0; i < bufferSize; i++) {
+			this.buffer[i] = new Event();
+		}
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		lock.lock();
+		try {
+			consumer = new Thread(this::consumeEvents, "junit-listener-dispatcher");
+			consumer.setDaemon(true);
+			consumer.start();
+		}
+		finally {
+			lock.unlock();
+		}
+		publish(EventType.TEST_PLAN_EXECUTION_STARTED, testPlan, null, null, null, null);
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		long sequence = publish(EventType.TEST_PLAN_EXECUTION_FINISHED, testPlan, null, null, null, null);
+		awaitDelivery(sequence);
+	}
+
+	/**
+	 * Deliver all events published so far and terminate the consumer thread
+	 * unless {@link #testPlanExecutionFinished} has already been published.
+	 *
+	 * <p>Does nothing if the execution of the test plan has not been started.
+	 */
+	void shutdown() {
+		long sequence;
+		lock.lock();
+		try {
+			if (consumer == null) {
+				return;
+			}
+			sequence = (stopping ? published : publish(EventType.SHUTDOWN, null, null, null, null, null));
+		}
+		finally {
+			lock.unlock();
+		}
+		awaitDelivery(sequence);
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		publish(EventType.DYNAMIC_TEST_REGISTERED, null, testIdentifier, null, null, null);
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		publish(EventType.EXECUTION_SKIPPED, null, testIdentifier, reason, null, null);
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		publish(EventType.EXECUTION_STARTED, null, testIdentifier, null, null, null);
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		publish(EventType.EXECUTION_FINISHED, null, testIdentifier, null, testExecutionResult, null);
+	}
+
+	@Override
+	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		publish(EventType.REPORTING_ENTRY_PUBLISHED, null, testIdentifier, null, null, entry);
+	}
+
+	private long publish(EventType type, TestPlan testPlan, TestIdentifier testIdentifier, String reason,
+			TestExecutionResult result, ReportEntry entry) {
+		lock.lock();
+		try {
+			while (size == buffer.length && failure == null) {
+				notFull.awaitUninterruptibly();
+			}
+			if (failure != null) {
+				throw failure;
+			}
+			buffer[(head + size) % buffer.length].set(type, testPlan, testIdentifier, reason, result, entry);
+			size++;
+			if (type == EventType.TEST_PLAN_EXECUTION_FINISHED || type == EventType.SHUTDOWN) {
+				stopping = true;
+			}
+			notEmpty.signal();
+			return ++published;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void awaitDelivery(long sequence) {
+		lock.lock();
+		try {
+			while (delivered < sequence && failure == null) {
+				drained.awaitUninterruptibly();
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void consumeEvents() {
+		Event event = new Event();
+		while (true) {
+			lock.lock();
+			try {
+				while (size == 0) {
+					notEmpty.awaitUninterruptibly();
+				}
+				Event slot = buffer[head];
+				event.copyFrom(slot);
+				slot.clear();
+				head = (head + 1) % buffer.length;
+				size--;
+				notFull.signal();
+			}
+			finally {
+				lock.unlock();
+			}
+
+			Error error = null;
+			try {
+				dispatch(event);
+			}
+			catch (Error e) {
+				error = e;
+			}
+			boolean finished = (event.type == EventType.TEST_PLAN_EXECUTION_FINISHED
+					|| event.type == EventType.SHUTDOWN);
+			event.clear();
+
+			lock.lock();
+			try {
+				delivered++;
+				if (error != null) {
+					failure = error;
+					notFull.signalAll();
+				}
+				drained.signalAll();
+			}
+			finally {
+				lock.unlock();
+			}
+			if (finished || error != null) {
+				return;
+			}
+		}
+	}
+
+	private void dispatch(Event event) {
+		try {
+			switch (event.type) {
+				case TEST_PLAN_EXECUTION_STARTED:
+					delegate.testPlanExecutionStarted(event.testPlan);
+					break;
+				case TEST_PLAN_EXECUTION_FINISHED:
+					delegate.testPlanExecutionFinished(event.testPlan);
+					break;
+				case DYNAMIC_TEST_REGISTERED:
+					delegate.dynamicTestRegistered(event.testIdentifier);
+					break;
+				case EXECUTION_SKIPPED:
+					delegate.executionSkipped(event.testIdentifier, event.reason);
+					break;
+				case EXECUTION_STARTED:
+					delegate.executionStarted(event.testIdentifier);
+					break;
+				case EXECUTION_FINISHED:
+					delegate.executionFinished(event.testIdentifier, event.result);
+					break;
+				case REPORTING_ENTRY_PUBLISHED:
+					delegate.reportingEntryPublished(event.testIdentifier, event.entry);
+					break;
+				case SHUTDOWN:
+					break;
+			}
+		}
+		catch (Exception e) {
+			LOG.log(Level.WARNING, e, () -> "TestExecutionListener failed to process event " + event.type);
+		}
+	}
+
+	private enum EventType {
+
+		TEST_PLAN_EXECUTION_STARTED,
+
+		TEST_PLAN_EXECUTION_FINISHED,
+
+		DYNAMIC_TEST_REGISTERED,
+
+		EXECUTION_SKIPPED,
+
+		EXECUTION_STARTED,
+
+		EXECUTION_FINISHED,
+
+		REPORTING_ENTRY_PUBLISHED,
+
+		SHUTDOWN
+
+	}
+
+	/**
+	 * Mutable slot of the ring buffer.
+	 */
+	private static class Event {
+
+		EventType type;
+		TestPlan testPlan;
+		TestIdentifier testIdentifier;
+		String reason;
+		TestExecutionResult result;
+		ReportEntry entry;
+
+		void set(EventType type, TestPlan testPlan, TestIdentifier testIdentifier, String reason,
+				TestExecutionResult result, ReportEntry entry) {
+			this.type = type;
+			this.testPlan = testPlan;
+			this.testIdentifier = testIdentifier;
+			this.reason = reason;
+			this.result = result;
+			this.entry = entry;
+		}
+
+		void copyFrom(Event other) {
+			set(other.type, other.testPlan, other.testIdentifier, other.reason, other.result, other.entry);
+		}
+
+		void clear() {
+			set(null, null, null, null, null, null);
+		}
+	}
+
+}
@@ -39,9 +39,15 @@ class DefaultLauncher implements Launcher {
 
 	private final TestExecutionListenerRegistry listenerRegistry = new TestExecutionListenerRegistry();
 	private final Iterable<TestEngine> testEngines;
+	private final boolean asynchronousListenerDispatch;
 
 	DefaultLauncher(Iterable<TestEngine> testEngines) {
+		this(testEngines, false);
+	}
+
+	DefaultLauncher(Iterable<TestEngine> testEngines, boolean asynchronousListenerDispatch) {
 		this.testEngines = testEngines;
+		this.asynchronousListenerDispatch = asynchronousListenerDispatch;
 	}
 
 	@Override
@@ -84,14 +90,28 @@ class DefaultLauncher implements Launcher {
 			TestDescriptor engineRoot = testEngine.discover(discoveryRequest);
 			root.add(testEngine, engineRoot);
 		}
-		root.applyPostDiscoveryFilters(discoveryRequest);
-		root.prune();
+		root.applyPostDiscoveryFiltersAndPrune(discoveryRequest);
 		return root;
 	}
 
 	private void execute(Root root) {
 		TestPlan testPlan = TestPlan.from(root.getEngineDescriptors());
-		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeTestExecutionListener();
+		if (asynchronousListenerDispatch) {
+			AsynchronousTestExecutionListener listener = listenerRegistry.getAsynchronousCompositeTestExecutionListener();
+			try {
+				execute(root, testPlan, listener);
+			}
+			finally {
+				// Flush pending events and stop the dispatcher thread if an engine failed
+				listener.shutdown();
+			}
+		}
+		else {
+			execute(root, testPlan, listenerRegistry.getCompositeTestExecutionListener());
+		}
+	}
+
+	private void execute(Root root, TestPlan testPlan, TestExecutionListener testExecutionListener) {
 		testExecutionListener.testPlanExecutionStarted(testPlan);
 		ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(testPlan,
 			testExecutionListener);
@@ -25,18 +25,31 @@ import org.junit.gen5.launcher.Launcher;
  * of the implementation class of the {@link org.junit.gen5.engine.TestEngine}
  * interface is stated.
  *
+ * <p>If the system property {@value #ASYNC_LISTENER_DISPATCH_PROPERTY_NAME}
+ * is set to {@code true}, registered
+ * {@link org.junit.gen5.launcher.TestExecutionListener TestExecutionListeners}
+ * are notified asynchronously in a dedicated thread instead of the threads
+ * executing the tests.
+ *
  * @since 5.0
  * @see Launcher
  */
 @API(Experimental)
 public class LauncherFactory {
 
+	/**
+	 * Name of the system property that enables asynchronous dispatch of
+	 * test execution events to registered listeners.
+	 */
+	public static final String ASYNC_LISTENER_DISPATCH_PROPERTY_NAME = "junit.launcher.listeners.async";
+
 	/**
 	 * Factory method for creating a new instance of {@link Launcher} using dynamically
 	 * registered test engines.
 	 */
 	public static Launcher create() {
-		return new DefaultLauncher(new ServiceLoaderTestEngineRegistry().loadTestEngines());
+		return new DefaultLauncher(new ServiceLoaderTestEngineRegistry().loadTestEngines(),
+			Boolean.getBoolean(ASYNC_LISTENER_DISPATCH_PROPERTY_NAME));
 	}
 
 }
@@ -10,8 +10,10 @@
 
 package org.junit.gen5.launcher.main;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.gen5.engine.*;
@@ -43,42 +45,65 @@ class Root {
 		return testEngineDescriptors.get(testEngine);
 	}
 
-	void applyPostDiscoveryFilters(TestDiscoveryRequest discoveryRequest) {
-		TestDescriptor.Visitor filteringVisitor = (descriptor, remove) -> {
-			if (!descriptor.isTest())
-				return;
-
-			if (isExcluded(discoveryRequest, descriptor)) {
-				remove.run();
-			}
-		};
-		acceptInAllTestEngines(filteringVisitor);
-	}
-
 	/**
-	 * Prune all branches in the tree of {@link TestDescriptor} that do not have executable tests.
+	 * Apply all {@link PostDiscoveryFilter}s of the {@code discoveryRequest} to the tests and prune all
+	 * branches in the tree of {@link TestDescriptor} that do not have executable tests afterwards.
 	 * If a {@link TestEngine} ends up with no {@link TestDescriptor}s after pruning, it will be removed.
+	 *
+	 * <p>Filtering and pruning happen in a single post-order traversal of each engine's tree.
 	 */
-	void prune() {
-		TestDescriptor.Visitor pruningVisitor = (descriptor, remove) -> {
-			if (descriptor.isRoot() || descriptor.hasTests())
-				return;
-			remove.run();
-		};
-		acceptInAllTestEngines(pruningVisitor);
+	void applyPostDiscoveryFiltersAndPrune(TestDiscoveryRequest discoveryRequest) {
+		List<PostDiscoveryFilter> filters = discoveryRequest.getPostDiscoveryFilters();
+		testEngineDescriptors.values().forEach(engineDescriptor -> filterAndPruneChildren(engineDescriptor, filters));
 		pruneEmptyTestEngines();
 	}
 
-	private boolean isExcluded(TestDiscoveryRequest discoveryRequest, TestDescriptor descriptor) {
-		// @formatter:off
-		return discoveryRequest.getPostDiscoveryFilters().stream()
-				.map(filter -> filter.filter(descriptor))
-				.anyMatch(FilterResult::excluded);
-		// @formatter:on
+	/**
+	 * Filter and prune the children of {@code descriptor} bottom-up.
+	 *
+	 * @return {@code true} if at least one test remains below {@code descriptor}
+	 */
+	private boolean filterAndPruneChildren(TestDescriptor descriptor, List<PostDiscoveryFilter> filters) {
+		boolean hasTests = false;
+		List<TestDescriptor> removals = null;
+		for (TestDescriptor child : descriptor.getChildren()) {
+			if (filterAndPrune(child, filters)) {
+				hasTests = true;
+			}
+			else {
+				if (removals == null) {
+					removals = new ArrayList<>();
+				}
+				removals.add(child);
+			}
+		}
+		if (removals != null) {
+			removals.forEach(descriptor::removeChild);
+		}
+		return hasTests;
+	}
+
+	/**
+	 * @return {@code true} if {@code descriptor} should be retained
+	 */
+	private boolean filterAndPrune(TestDescriptor descriptor, List<PostDiscoveryFilter> filters) {
+		if (descriptor.isTest()) {
+			if (isExcluded(filters, descriptor)) {
+				return false;
+			}
+			filterAndPruneChildren(descriptor, filters);
+			return true;
+		}
+		return filterAndPruneChildren(descriptor, filters);
 	}
 
-	private void acceptInAllTestEngines(TestDescriptor.Visitor visitor) {
-		testEngineDescriptors.values().stream().forEach(testEngine -> testEngine.accept(visitor));
+	private boolean isExcluded(List<PostDiscoveryFilter> filters, TestDescriptor descriptor) {
+		for (PostDiscoveryFilter filter : filters) {
+			if (filter.filter(descriptor).excluded()) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	private void pruneEmptyTestEngines() {
@@ -10,8 +10,8 @@
 
 package org.junit.gen5.launcher.main;
 
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 import org.junit.gen5.engine.TestExecutionResult;
@@ -21,11 +21,24 @@ import org.junit.gen5.launcher.TestIdentifier;
 import org.junit.gen5.launcher.TestPlan;
 
 /**
+ * Registry of {@link TestExecutionListener TestExecutionListeners} that
+ * provides a composite listener notifying all registered listeners.
+ *
+ * <p>The composite listener may be invoked concurrently by engines that
+ * execute tests in parallel. Events are dispatched in the calling thread
+ * without any locking, so the ordering of events for a single test as well
+ * as between a container and its children is the one established by the
+ * engine. The registered listeners must be thread-safe in that case.
+ *
+ * <p>Alternatively, the {@linkplain #getAsynchronousCompositeTestExecutionListener
+ * asynchronous composite listener} hands all events to a single consumer
+ * thread so that slow listeners do not delay the execution of tests.
+ *
  * @since 5.0
  */
 class TestExecutionListenerRegistry {
 
-	private final List<TestExecutionListener> testExecutionListeners = new LinkedList<>();
+	private final List<TestExecutionListener> testExecutionListeners = new CopyOnWriteArrayList<>();
 
 	void registerListener(TestExecutionListener... listeners) {
 		for (TestExecutionListener listener : listeners) {
@@ -41,6 +54,17 @@ class TestExecutionListenerRegistry {
 		return new CompositeTestExecutionListener();
 	}
 
+	/**
+	 * Get a composite listener that notifies all registered listeners in a
+	 * dedicated thread that is started when the execution of the test plan
+	 * starts and terminates once all events have been delivered.
+	 *
+	 * @see AsynchronousTestExecutionListener
+	 */
+	AsynchronousTestExecutionListener getAsynchronousCompositeTestExecutionListener() {
+		return new AsynchronousTestExecutionListener(new CompositeTestExecutionListener());
+	}
+
 	private class CompositeTestExecutionListener implements TestExecutionListener {
 
 		@Override
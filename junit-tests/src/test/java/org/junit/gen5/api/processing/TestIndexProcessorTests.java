@@ -0,0 +1,261 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api.processing;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.FileObject;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.gen5.api.AfterEach;
+import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.Test;
+
+class TestIndexProcessorTests {
+
+	private Path sourceDirectory;
+	private Path outputDirectory;
+
+	@BeforeEach
+	void createDirectories() throws IOException {
+		this.sourceDirectory = Files.createTempDirectory("sources");
+		this.outputDirectory = Files.createTempDirectory("classes");
+	}
+
+	@AfterEach
+	void deleteDirectories() throws IOException {
+		delete(this.sourceDirectory);
+		delete(this.outputDirectory);
+	}
+
+	@Test
+	void indexesClassesThatMayContainTests() throws IOException {
+		source("DirectTests", "public class DirectTests { @org.junit.gen5.api.Test void test() {} }");
+		source("InheritedTests", "public class InheritedTests extends DirectTests {}");
+		source("NestedTests", "public class NestedTests { @org.junit.gen5.api.Nested class Inner { " //
+				+ "@org.junit.gen5.api.Test void test() {} } }");
+		source("Fast", "@org.junit.gen5.api.Tag(\"fast\") @java.lang.annotation.Retention(" //
+				+ "java.lang.annotation.RetentionPolicy.RUNTIME) public @interface Fast {}");
+		source("MetaAnnotatedTests", "@Fast public class MetaAnnotatedTests {}");
+		source("Production", "public class Production { void run() {} }");
+
+		compile("DirectTests", "InheritedTests", "NestedTests", "Fast", "MetaAnnotatedTests", "Production");
+
+		assertEquals(asList("DirectTests", "InheritedTests", "MetaAnnotatedTests", "NestedTests",
+			"NestedTests$Inner"), readIndex());
+	}
+
+	@Test
+	void mergesIndexesOfIncrementalCompilations() throws IOException {
+		source("FirstTests", "public class FirstTests { @org.junit.gen5.api.Test void test() {} }");
+		compile("FirstTests");
+		source("SecondTests", "public class SecondTests { @org.junit.gen5.api.Test void test() {} }");
+		compile("SecondTests");
+
+		assertEquals(asList("FirstTests", "SecondTests"), readIndex());
+	}
+
+	@Test
+	void listsCompiledClassesWithoutTests() throws IOException {
+		source("DirectTests", "public class DirectTests { @org.junit.gen5.api.Test void test() {} }");
+		source("Production", "public class Production { class Inner {} }");
+		compile("DirectTests", "Production");
+		source("Service", "public interface Service {}");
+		compile("Service");
+
+		assertEquals(asList("DirectTests"), readIndex());
+		assertEquals(asList("Production", "Service"), readCompiledClasses());
+	}
+
+	@Test
+	void deletesOutdatedIndexIfNewIndexCannotBeWritten() throws IOException {
+		source("FirstTests", "public class FirstTests { @org.junit.gen5.api.Test void test() {} }");
+		compile("FirstTests");
+		source("SecondTests", "public class SecondTests { @org.junit.gen5.api.Test void test() {} }");
+
+		compile(new FailingTestIndexProcessor(), "SecondTests");
+
+		assertTrue(Files.notExists(this.outputDirectory.resolve(TestIndexProcessor.INDEX_RESOURCE_NAME)));
+	}
+
+	@Test
+	void writesNoIndexWithoutTests() throws IOException {
+		source("Production", "public class Production { void run() {} }");
+
+		compile("Production");
+
+		assertTrue(Files.notExists(this.outputDirectory.resolve(TestIndexProcessor.INDEX_RESOURCE_NAME)));
+	}
+
+	private void source(String className, String code) throws IOException {
+		Files.write(this.sourceDirectory.resolve(className + ".java"), code.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void compile(String... classNames) throws IOException {
+		compile(new TestIndexProcessor(), classNames);
+	}
+
+	private void compile(TestIndexProcessor processor, String... classNames) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+			fileManager.setLocation(StandardLocation.CLASS_OUTPUT, asList(this.outputDirectory.toFile()));
+			File[] sources = Stream.of(classNames).map(
+				className -> this.sourceDirectory.resolve(className + ".java").toFile()).toArray(File[]::new);
+			Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects(sources);
+			List<String> options = asList("-classpath",
+				System.getProperty("java.class.path") + File.pathSeparator + this.outputDirectory);
+			CompilationTask task = compiler.getTask(null, fileManager, null, options, null, compilationUnits);
+			task.setProcessors(asList(processor));
+			assertTrue(task.call(), "compilation failed");
+		}
+	}
+
+	private List<String> readIndex() throws IOException {
+		List<String> lines = Files.readAllLines(this.outputDirectory.resolve(TestIndexProcessor.INDEX_RESOURCE_NAME),
+			StandardCharsets.UTF_8);
+		assertTrue(lines.get(0).startsWith("#"));
+		// @formatter:off
+		return lines.stream()
+				.skip(1)
+				.filter(line -> !line.startsWith(TestIndexProcessor.COMPILED_CLASS_PREFIX))
+				.collect(toList());
+		// @formatter:on
+	}
+
+	private List<String> readCompiledClasses() throws IOException {
+		List<String> lines = Files.readAllLines(this.outputDirectory.resolve(TestIndexProcessor.INDEX_RESOURCE_NAME),
+			StandardCharsets.UTF_8);
+		// @formatter:off
+		return lines.stream()
+				.filter(line -> line.startsWith(TestIndexProcessor.COMPILED_CLASS_PREFIX))
+				.map(line -> line.substring(TestIndexProcessor.COMPILED_CLASS_PREFIX.length()))
+				.collect(toList());
+		// @formatter:on
+	}
+
+	private static void delete(Path directory) throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	@SupportedAnnotationTypes("*")
+	private static class FailingTestIndexProcessor extends TestIndexProcessor {
+
+		@Override
+		public synchronized void init(ProcessingEnvironment processingEnvironment) {
+			super.init(new FailingResourceCreationEnvironment(processingEnvironment));
+		}
+	}
+
+	/**
+	 * Delegates to the environment of the compiler but fails to create
+	 * resources, e.g. as if the output directory were read-only.
+	 */
+	private static class FailingResourceCreationEnvironment implements ProcessingEnvironment {
+
+		private final ProcessingEnvironment delegate;
+
+		FailingResourceCreationEnvironment(ProcessingEnvironment delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Filer getFiler() {
+			Filer filer = this.delegate.getFiler();
+			return new Filer() {
+
+				@Override
+				public JavaFileObject createSourceFile(CharSequence name, Element... originatingElements)
+						throws IOException {
+					return filer.createSourceFile(name, originatingElements);
+				}
+
+				@Override
+				public JavaFileObject createClassFile(CharSequence name, Element... originatingElements)
+						throws IOException {
+					return filer.createClassFile(name, originatingElements);
+				}
+
+				@Override
+				public FileObject createResource(Location location, CharSequence pkg, CharSequence relativeName,
+						Element... originatingElements) throws IOException {
+					throw new IOException("read-only");
+				}
+
+				@Override
+				public FileObject getResource(Location location, CharSequence pkg, CharSequence relativeName)
+						throws IOException {
+					return filer.getResource(location, pkg, relativeName);
+				}
+			};
+		}
+
+		@Override
+		public Map<String, String> getOptions() {
+			return this.delegate.getOptions();
+		}
+
+		@Override
+		public Messager getMessager() {
+			return this.delegate.getMessager();
+		}
+
+		@Override
+		public Elements getElementUtils() {
+			return this.delegate.getElementUtils();
+		}
+
+		@Override
+		public Types getTypeUtils() {
+			return this.delegate.getTypeUtils();
+		}
+
+		@Override
+		public SourceVersion getSourceVersion() {
+			return this.delegate.getSourceVersion();
+		}
+
+		@Override
+		public Locale getLocale() {
+			return this.delegate.getLocale();
+		}
+	}
+
+}
@@ -108,6 +108,26 @@ public final class AnnotationUtilsTests {
 		assertTagsFound(ContainerAfterComposedTaggedClass.class, "fast", "a", "b", "c");
 	}
 
+	@Test
+	public void findAnnotationFavorsAnnotationsDirectlyPresentOnMetaAnnotations() throws Exception {
+		assertEquals("fast", findAnnotation(FastAndSmokyTaggedClass.class, Tag.class).get().value());
+		assertEquals("direct", findAnnotation(DirectlyTaggedFastClass.class, Tag.class).get().value());
+	}
+
+	@Test
+	public void findAnnotationWithCyclicMetaAnnotations() throws Exception {
+		assertTrue(findAnnotation(CyclicallyAnnotatedClass.class, Annotation1.class).isPresent());
+		assertFalse(findAnnotation(CyclicallyAnnotatedClass.class, Annotation2.class).isPresent());
+		assertFalse(findAnnotation(CyclicallyAnnotatedClass.class, Annotation2.class).isPresent());
+	}
+
+	@Test
+	public void findRepeatableAnnotationsReturnsModifiableCopies() throws Exception {
+		findRepeatableAnnotations(MultiTaggedClass.class, Tag.class).clear();
+
+		assertTagsFound(MultiTaggedClass.class, "a", "b", "c");
+	}
+
 	private void assertTagsFound(Class<?> clazz, String... tags) throws Exception {
 		assertEquals(asList(tags),
 			findRepeatableAnnotations(clazz, Tag.class).stream().map(Tag::value).collect(toList()),
@@ -167,6 +187,23 @@ public final class AnnotationUtilsTests {
 	@interface FastAndSmoky {
 	}
 
+	@Retention(RetentionPolicy.RUNTIME)
+	@Fast
+	@Tag("direct")
+	@interface DirectlyTaggedFast {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@CyclicAnnotation2
+	@interface CyclicAnnotation1 {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@CyclicAnnotation1
+	@Annotation1
+	@interface CyclicAnnotation2 {
+	}
+
 	@Annotation1
 	static class Annotation1Class {
 	}
@@ -213,6 +250,14 @@ public final class AnnotationUtilsTests {
 	static class MultiComposedTaggedClass {
 	}
 
+	@DirectlyTaggedFast
+	static class DirectlyTaggedFastClass {
+	}
+
+	@CyclicAnnotation1
+	static class CyclicallyAnnotatedClass {
+	}
+
 	@FastAndSmoky
 	static class FastAndSmokyTaggedClass {
 	}
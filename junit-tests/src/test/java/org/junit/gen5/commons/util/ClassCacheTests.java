@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertNotSame;
+import static org.junit.gen5.api.Assertions.assertSame;
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.gen5.api.Test;
+
+/**
+ * Unit tests for {@link ClassCache}.
+ *
+ * @since 5.0
+ */
+public class ClassCacheTests {
+
+	@Test
+	public void computesValueOncePerClass() {
+		AtomicInteger computations = new AtomicInteger();
+		ClassCache<String> cache = new ClassCache<>("test", 10, type -> {
+			computations.incrementAndGet();
+			return type.getName();
+		});
+
+		assertEquals(ClassCacheTests.class.getName(), cache.get(ClassCacheTests.class));
+		assertEquals(ClassCacheTests.class.getName(), cache.get(ClassCacheTests.class));
+		assertEquals(String.class.getName(), cache.get(String.class));
+		assertEquals(String.class.getName(), cache.get(String.class));
+
+		assertEquals(2, computations.get());
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(2L, statistics.getSize());
+		assertEquals(2L, statistics.getHitCount());
+		assertEquals(2L, statistics.getMissCount());
+		assertEquals(0.5, statistics.getHitRate());
+	}
+
+	@Test
+	public void valuesNotAttachedToTheirClassesAreBounded() {
+		ClassCache<Object> cache = new ClassCache<>("test", 2, type -> new Object());
+
+		Object value = cache.get(String.class);
+		cache.get(Integer.class);
+		cache.get(Long.class);
+
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(2L, statistics.getSize());
+		assertEquals(1L, statistics.getEvictionCount());
+		assertNotSame(value, cache.get(String.class));
+	}
+
+	@Test
+	public void valuesOfUnloadedClassesAreEvicted() throws Exception {
+		ClassCache<String> cache = new ClassCache<>("test", 10, Class::getName);
+		String value = cache.get(new IsolatingClassLoader().loadClass(LoadedByIsolatingClassLoader.class.getName()));
+		assertEquals(LoadedByIsolatingClassLoader.class.getName(), value);
+
+		for (int i = 0; i < 50 && cache.getStatistics().getEvictionCount() == 0; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+
+		assertEquals(1L, cache.getStatistics().getEvictionCount());
+		assertEquals(0L, cache.getStatistics().getSize());
+	}
+
+	@Test
+	public void classesOfOtherClassLoadersWithTheSameNameGetTheirOwnValues() throws Exception {
+		ClassCache<Class<?>> cache = new ClassCache<>("test", 10, type -> type);
+		Class<?> isolatedClass = new IsolatingClassLoader().loadClass(LoadedByIsolatingClassLoader.class.getName());
+
+		assertSame(isolatedClass, cache.get(isolatedClass));
+		assertSame(LoadedByIsolatingClassLoader.class, cache.get(LoadedByIsolatingClassLoader.class));
+		assertTrue(ClassCache.isVisible(getClass().getClassLoader(), isolatedClass));
+	}
+
+	static class LoadedByIsolatingClassLoader {
+	}
+
+	/**
+	 * Defines {@link LoadedByIsolatingClassLoader} itself instead of
+	 * delegating to its parent.
+	 */
+	private static class IsolatingClassLoader extends ClassLoader {
+
+		IsolatingClassLoader() {
+			super(ClassCacheTests.class.getClassLoader());
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!name.equals(LoadedByIsolatingClassLoader.class.getName())) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> loadedClass = findLoadedClass(name);
+				if (loadedClass != null) {
+					return loadedClass;
+				}
+				try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+					byte[] bytes = ClassFileFilter.readFully(in);
+					return defineClass(name, bytes, 0, bytes.length);
+				}
+				catch (Exception e) {
+					throw new ClassNotFoundException(name, e);
+				}
+			}
+		}
+	}
+
+}
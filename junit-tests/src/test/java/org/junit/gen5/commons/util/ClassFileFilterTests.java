@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static org.junit.gen5.api.Assertions.assertFalse;
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import org.junit.gen5.api.Test;
+import org.junit.gen5.commons.util.ClassFileFilter.ClassFileSource;
+
+/**
+ * Unit tests for {@link ClassFileFilter}.
+ *
+ * @since 5.0
+ */
+public class ClassFileFilterTests {
+
+	private final ClassFileFilter filter = ClassFileFilter.referencingAnyOf(Marker.class.getName());
+
+	@Test
+	public void acceptsClassAnnotatedWithMarker() {
+		assertTrue(accepts(MarkedClass.class));
+	}
+
+	@Test
+	public void acceptsClassWithMethodAnnotatedWithMarker() {
+		assertTrue(accepts(ClassWithMarkedMethod.class));
+	}
+
+	@Test
+	public void rejectsClassWithoutReferenceToMarker() {
+		assertFalse(accepts(UnmarkedClass.class));
+	}
+
+	@Test
+	public void acceptsSubclassOfClassReferencingMarker() {
+		assertTrue(accepts(SubclassOfClassWithMarkedMethod.class));
+	}
+
+	@Test
+	public void acceptsClassAnnotatedWithMetaAnnotatedAnnotation() {
+		assertTrue(accepts(ClassWithComposedAnnotation.class));
+	}
+
+	@Test
+	public void acceptsClassWithMemberClassReferencingMarker() {
+		assertTrue(accepts(ClassWithMarkedMemberClass.class));
+	}
+
+	@Test
+	public void acceptsUnparseableClassFile() {
+		assertTrue(filter.startEvaluation(getClass().getClassLoader()).accepts(() -> new byte[] { 1, 2, 3 }));
+	}
+
+	@Test
+	public void acceptAllNeverReadsClassFiles() {
+		ClassFileSource failingSource = () -> {
+			throw new AssertionError("must not be read");
+		};
+		assertTrue(ClassFileFilter.ACCEPT_ALL.startEvaluation(getClass().getClassLoader()).accepts(failingSource));
+	}
+
+	private boolean accepts(Class<?> clazz) {
+		ClassLoader classLoader = getClass().getClassLoader();
+		String resourceName = clazz.getName().replace('.', '/') + ".class";
+		return filter.startEvaluation(classLoader).accepts(
+			() -> ClassFileFilter.readFully(classLoader.getResourceAsStream(resourceName)));
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Marker {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Marker
+	@interface ComposedAnnotation {
+	}
+
+	@Marker
+	static class MarkedClass {
+	}
+
+	static class ClassWithMarkedMethod {
+
+		@Marker
+		void method() {
+		}
+	}
+
+	static class SubclassOfClassWithMarkedMethod extends ClassWithMarkedMethod {
+	}
+
+	@ComposedAnnotation
+	static class ClassWithComposedAnnotation {
+	}
+
+	static class UnmarkedClass {
+
+		void method() {
+		}
+	}
+
+	static class ClassWithMarkedMemberClass {
+
+		static class MemberClass {
+
+			@Marker
+			void method() {
+			}
+		}
+	}
+
+}
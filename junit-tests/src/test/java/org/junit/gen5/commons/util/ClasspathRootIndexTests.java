@@ -0,0 +1,230 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.commons.util;
+
+import static java.util.Arrays.asList;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertFalse;
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.security.auth.Destroyable;
+
+import org.junit.gen5.api.AfterEach;
+import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.Test;
+
+/**
+ * Unit tests for {@link ClasspathRootIndex} as used by {@link ClasspathScanner}.
+ *
+ * @since 5.0
+ */
+public class ClasspathRootIndexTests {
+
+	private final ClassFileFilter classFileFilter = ClassFileFilter.referencingAnyOf(Marker.class.getName());
+
+	private final Set<String> loadedClasses = new ConcurrentSkipListSet<>();
+
+	private Path root;
+	private Path indexDirectory;
+
+	@BeforeEach
+	public void createRootAndIndexDirectory() throws Exception {
+		root = Files.createTempDirectory("classes");
+		indexDirectory = Files.createTempDirectory("index");
+		for (Class<?> clazz : asList(Marker.class, MarkedTestCase.class, SubclassOfMarkedTestCase.class,
+			UnmarkedClass.class)) {
+			copyClassFile(clazz);
+		}
+	}
+
+	@AfterEach
+	public void deleteRootAndIndexDirectory() throws Exception {
+		deleteRecursively(root);
+		deleteRecursively(indexDirectory);
+	}
+
+	@Test
+	public void warmScanReusesVerdictsOfUnchangedClasses() {
+		List<Class<?>> coldScanResult = scan(new AcceptsMarkedTestCase());
+		assertEquals(names(Marker.class, MarkedTestCase.class, SubclassOfMarkedTestCase.class), loadedClasses);
+
+		loadedClasses.clear();
+		List<Class<?>> warmScanResult = scan(new AcceptsMarkedTestCase());
+
+		assertEquals(Collections.singletonList(MarkedTestCase.class), coldScanResult);
+		assertEquals(coldScanResult, warmScanResult);
+		assertEquals(names(MarkedTestCase.class), loadedClasses, "only classes with positive verdicts are loaded");
+	}
+
+	@Test
+	public void changedClassesAndTheirDependentsAreReevaluated() throws Exception {
+		scan(new AcceptsMarkedTestCase());
+		Path classFile = classFile(MarkedTestCase.class);
+		Files.setLastModifiedTime(classFile,
+			FileTime.fromMillis(Files.getLastModifiedTime(classFile).toMillis() + 2000));
+
+		loadedClasses.clear();
+		scan(new AcceptsMarkedTestCase());
+
+		assertEquals(names(MarkedTestCase.class, SubclassOfMarkedTestCase.class), loadedClasses);
+	}
+
+	@Test
+	public void verdictsOfClassesDependingOnPlatformTypesAreReused() throws Exception {
+		copyClassFile(DestroyableMarkedClass.class);
+		scan(new AcceptsMarkedTestCase());
+		assertTrue(loadedClasses.contains(DestroyableMarkedClass.class.getName()));
+
+		loadedClasses.clear();
+		scan(new AcceptsMarkedTestCase());
+
+		assertEquals(names(MarkedTestCase.class), loadedClasses);
+	}
+
+	@Test
+	public void scansWithoutScanIndexKeyAreNotIndexed() throws Exception {
+		scan(classFileFilter, new AcceptsMarkedTestCase());
+
+		try (Stream<Path> files = Files.list(indexDirectory)) {
+			assertFalse(files.findAny().isPresent());
+		}
+	}
+
+	@Test
+	public void differentlyConfiguredClassTestersWithDifferentKeysDoNotShareVerdicts() {
+		scan(classFileFilter.withScanIndexKey("first"), new AcceptsMarkedTestCase());
+
+		List<Class<?>> result = scan(classFileFilter.withScanIndexKey("second"),
+			new AcceptsSubclassOfMarkedTestCase());
+
+		assertEquals(Collections.singletonList(SubclassOfMarkedTestCase.class), result);
+	}
+
+	@Test
+	public void indexIsStoredPerScanIndexKey() throws Exception {
+		scan(new AcceptsMarkedTestCase());
+		scan(new AcceptsNothing());
+
+		try (Stream<Path> files = Files.list(indexDirectory)) {
+			assertEquals(2L, files.count());
+		}
+		loadedClasses.clear();
+		assertTrue(scan(new AcceptsNothing()).isEmpty());
+		assertTrue(loadedClasses.isEmpty());
+	}
+
+	private List<Class<?>> scan(Predicate<Class<?>> classTester) {
+		return scan(classFileFilter.withScanIndexKey(classTester.getClass().getName()), classTester);
+	}
+
+	private List<Class<?>> scan(ClassFileFilter classFileFilter, Predicate<Class<?>> classTester) {
+		ClasspathScanner scanner = new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
+			(name, classLoader) -> {
+				loadedClasses.add(name);
+				return ReflectionUtils.loadClass(name, classLoader);
+			}, false, indexDirectory);
+		return scanner.scanForClassesInClasspathRoots(Collections.singletonList(root.toFile()), classFileFilter,
+			classTester);
+	}
+
+	private static Set<String> names(Class<?>... classes) {
+		return Stream.of(classes).map(Class::getName).collect(Collectors.toCollection(TreeSet::new));
+	}
+
+	private void copyClassFile(Class<?> clazz) throws IOException {
+		Path target = classFile(clazz);
+		Files.createDirectories(target.getParent());
+		try (InputStream in = getClass().getClassLoader().getResourceAsStream(classFileName(clazz))) {
+			Files.copy(in, target);
+		}
+	}
+
+	private Path classFile(Class<?> clazz) {
+		return root.resolve(classFileName(clazz));
+	}
+
+	private static String classFileName(Class<?> clazz) {
+		return clazz.getName().replace('.', '/') + ".class";
+	}
+
+	private static void deleteRecursively(Path directory) throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path file : files.sorted(Collections.reverseOrder()).collect(Collectors.toList())) {
+				Files.delete(file);
+			}
+		}
+	}
+
+	static class AcceptsMarkedTestCase implements Predicate<Class<?>> {
+
+		@Override
+		public boolean test(Class<?> candidate) {
+			return candidate == MarkedTestCase.class;
+		}
+	}
+
+	static class AcceptsSubclassOfMarkedTestCase implements Predicate<Class<?>> {
+
+		@Override
+		public boolean test(Class<?> candidate) {
+			return candidate == SubclassOfMarkedTestCase.class;
+		}
+	}
+
+	static class AcceptsNothing implements Predicate<Class<?>> {
+
+		@Override
+		public boolean test(Class<?> candidate) {
+			return false;
+		}
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Marker {
+	}
+
+	static class MarkedTestCase {
+
+		@Marker
+		void test() {
+		}
+	}
+
+	static class SubclassOfMarkedTestCase extends MarkedTestCase {
+	}
+
+	static class UnmarkedClass {
+	}
+
+	static class DestroyableMarkedClass implements Destroyable {
+
+		@Marker
+		void test() {
+		}
+	}
+
+}
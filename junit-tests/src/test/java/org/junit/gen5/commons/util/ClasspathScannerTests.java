@@ -14,15 +14,29 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.gen5.api.Assertions.*;
 
 import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
 
 import org.junit.gen5.api.BeforeEach;
 import org.junit.gen5.api.Test;
 
 public class ClasspathScannerTests {
 
+	private static final String TEST_INDEX = "META-INF/test-index";
+
 	private ClasspathScanner classpathScanner;
 
 	@BeforeEach
@@ -68,6 +82,210 @@ public class ClasspathScannerTests {
 		assertTrue(classes.contains(ClasspathScannerTests.class));
 	}
 
+	@Test
+	public void parallelScanFindsSameClassesInSameOrder() throws Exception {
+		File root = getTestClasspathRoot();
+		ClasspathScanner parallelScanner = new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
+			ReflectionUtils::loadClass, true);
+
+		List<Class<?>> sequentiallyScanned = classpathScanner.scanForClassesInClasspathRoot(root, clazz -> true);
+		List<Class<?>> parallelScanned = parallelScanner.scanForClassesInClasspathRoot(root, clazz -> true);
+
+		assertEquals(sequentiallyScanned, parallelScanned);
+	}
+
+	@Test
+	public void findAllClassesInMultipleClasspathRootsInOrderOfRoots() throws Exception {
+		File root = getTestClasspathRoot();
+		ClasspathScanner parallelScanner = new ClasspathScanner(ReflectionUtils::getDefaultClassLoader,
+			ReflectionUtils::loadClass, true);
+		Predicate<Class<?>> thisClassOnly = clazz -> clazz == ClasspathScannerTests.class;
+
+		List<Class<?>> classes = parallelScanner.scanForClassesInClasspathRoots(Arrays.asList(root, root),
+			thisClassOnly);
+
+		assertEquals(Arrays.asList(ClasspathScannerTests.class, ClasspathScannerTests.class), classes);
+	}
+
+	@Test
+	public void findAllClassesInJarFile() throws Exception {
+		Path jarFile = createJarWithNestedClassToBeFound();
+		try {
+			List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(jarFile.toFile(), clazz -> true);
+
+			assertEquals(Collections.singletonList(NestedClassToBeFound.class), classes);
+		}
+		finally {
+			Files.delete(jarFile);
+		}
+	}
+
+	@Test
+	public void classFileFilterRejectsClassesInJarFileBeforeLoading() throws Exception {
+		Path jarFile = createJarWithNestedClassToBeFound();
+		try {
+			ClassFileFilter classFileFilter = ClassFileFilter.referencingAnyOf(Test.class.getName());
+			List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoots(
+				Collections.singletonList(jarFile.toFile()), classFileFilter, clazz -> true);
+
+			assertTrue(classes.isEmpty());
+		}
+		finally {
+			Files.delete(jarFile);
+		}
+	}
+
+	@Test
+	public void findAllClassesInPackageWithinJarFile() throws Exception {
+		Path jarFile = createJarWithNestedClassToBeFound();
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarFile.toUri().toURL() }, null)) {
+			ClasspathScanner jarScanner = new ClasspathScanner(() -> classLoader, ReflectionUtils::loadClass);
+
+			List<Class<?>> classes = jarScanner.scanForClassesInPackage("org.junit.gen5.commons", clazz -> true);
+
+			assertEquals(1, classes.size());
+			assertEquals(NestedClassToBeFound.class.getName(), classes.get(0).getName());
+			assertSame(classLoader, classes.get(0).getClassLoader());
+		}
+		finally {
+			Files.delete(jarFile);
+		}
+	}
+
+	@Test
+	public void testIndexReplacesScanOfJarFile() throws Exception {
+		Path jarFile = createJarWithNestedClassToBeFound("# comment", MemberClassToBeFound.class.getName(), "");
+		try {
+			ClassFileFilter classFileFilter = ClassFileFilter.ACCEPT_ALL.withIndex(TEST_INDEX);
+			List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoots(
+				Collections.singletonList(jarFile.toFile()), classFileFilter, clazz -> true);
+
+			assertEquals(Collections.singletonList(MemberClassToBeFound.class), classes);
+		}
+		finally {
+			Files.delete(jarFile);
+		}
+	}
+
+	@Test
+	public void testIndexIsFilteredByPackage() throws Exception {
+		Path jarFile = createJarWithNestedClassToBeFound(MemberClassToBeFound.class.getName(),
+			"org.junit.gen5.api.Test");
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarFile.toUri().toURL() }, null)) {
+			ClasspathScanner jarScanner = new ClasspathScanner(() -> classLoader,
+				(className, loader) -> ReflectionUtils.loadClass(className));
+			ClassFileFilter classFileFilter = ClassFileFilter.ACCEPT_ALL.withIndex(TEST_INDEX);
+
+			List<Class<?>> classes = jarScanner.scanForClassesInPackage("org.junit.gen5.commons", classFileFilter,
+				clazz -> true);
+
+			assertEquals(Collections.singletonList(MemberClassToBeFound.class), classes);
+		}
+		finally {
+			Files.delete(jarFile);
+		}
+	}
+
+	@Test
+	public void jarFileIsScannedIfTestIndexIsIgnored() throws Exception {
+		Path jarFile = createJarWithNestedClassToBeFound(MemberClassToBeFound.class.getName());
+		try {
+			ClassFileFilter classFileFilter = ClassFileFilter.ACCEPT_ALL.withIndex(TEST_INDEX).withoutIndex();
+			List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoots(
+				Collections.singletonList(jarFile.toFile()), classFileFilter, clazz -> true);
+
+			assertEquals(Collections.singletonList(NestedClassToBeFound.class), classes);
+		}
+		finally {
+			Files.delete(jarFile);
+		}
+	}
+
+	@Test
+	public void testIndexReplacesScanOfDirectoryIfItListsAllClassFiles() throws Exception {
+		Path directory = createDirectoryWithNestedClassToBeFound(MemberClassToBeFound.class.getName(),
+			"-" + ClasspathScannerTests.class.getName());
+		try {
+			ClassFileFilter classFileFilter = ClassFileFilter.ACCEPT_ALL.withIndex(TEST_INDEX);
+			List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoots(
+				Collections.singletonList(directory.toFile()), classFileFilter, clazz -> true);
+
+			assertEquals(Collections.singletonList(MemberClassToBeFound.class), classes);
+		}
+		finally {
+			delete(directory);
+		}
+	}
+
+	@Test
+	public void directoryIsScannedIfTestIndexDoesNotListAllClassFiles() throws Exception {
+		Path directory = createDirectoryWithNestedClassToBeFound(MemberClassToBeFound.class.getName());
+		try {
+			ClassFileFilter classFileFilter = ClassFileFilter.ACCEPT_ALL.withIndex(TEST_INDEX);
+			List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoots(
+				Collections.singletonList(directory.toFile()), classFileFilter, clazz -> true);
+
+			assertEquals(Collections.singletonList(NestedClassToBeFound.class), classes);
+		}
+		finally {
+			delete(directory);
+		}
+	}
+
+	private Path createDirectoryWithNestedClassToBeFound(String... testIndexLines) throws Exception {
+		Path directory = Files.createTempDirectory("classes");
+		String classFileName = NestedClassToBeFound.class.getName().replace('.', '/') + ".class";
+		Path classFile = directory.resolve(classFileName);
+		Files.createDirectories(classFile.getParent());
+		try (InputStream in = getClass().getClassLoader().getResourceAsStream(classFileName)) {
+			Files.copy(in, classFile);
+		}
+		// Must not be required to be listed in the index
+		Files.createFile(classFile.resolveSibling("package-info.class"));
+		Path testIndex = directory.resolve(TEST_INDEX);
+		Files.createDirectories(testIndex.getParent());
+		Files.write(testIndex, Arrays.asList(testIndexLines), StandardCharsets.UTF_8);
+		return directory;
+	}
+
+	private static void delete(Path directory) throws Exception {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	private Path createJarWithNestedClassToBeFound(String... testIndexLines) throws Exception {
+		Path jarFile = Files.createTempFile("tests", ".jar");
+		String classFileName = NestedClassToBeFound.class.getName().replace('.', '/') + ".class";
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			for (String directory : Arrays.asList("org/", "org/junit/", "org/junit/gen5/", "org/junit/gen5/commons/",
+				"org/junit/gen5/commons/util/")) {
+				out.putNextEntry(new JarEntry(directory));
+			}
+			out.putNextEntry(new JarEntry(classFileName));
+			try (InputStream in = getClass().getClassLoader().getResourceAsStream(classFileName)) {
+				copy(in, out);
+			}
+			// Neither of these can be loaded as a class and must be skipped
+			out.putNextEntry(new JarEntry("org/junit/gen5/commons/util/package-info.class"));
+			out.putNextEntry(new JarEntry("lib/library.jar"));
+			out.write(new byte[] { 1, 2, 3 });
+			if (testIndexLines.length > 0) {
+				out.putNextEntry(new JarEntry(TEST_INDEX));
+				out.write(String.join("\n", testIndexLines).getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		return jarFile;
+	}
+
+	private static void copy(InputStream in, OutputStream out) throws Exception {
+		byte[] buffer = new byte[4096];
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+	}
+
 	private File getTestClasspathRoot() throws Exception {
 		URL location = getClass().getProtectionDomain().getCodeSource().getLocation();
 		return new File(location.toURI());
@@ -11,9 +11,19 @@
 package org.junit.gen5.commons.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertNull;
+import static org.junit.gen5.api.Assertions.assertSame;
 import static org.junit.gen5.api.Assertions.assertThrows;
 import static org.junit.gen5.api.Assertions.assertTrue;
-
+import static org.junit.gen5.api.Assertions.expectThrows;
+import static org.junit.gen5.commons.util.ReflectionUtils.MethodSortOrder.HierarchyDown;
+import static org.junit.gen5.commons.util.ReflectionUtils.MethodSortOrder.HierarchyUp;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -92,4 +102,142 @@ public class ReflectionUtilsTests {
 		assertThat(value).isEmpty();
 	}
 
+	interface WithDefaultMethod {
+
+		default void defaultMethod() {
+		}
+	}
+
+	static class SuperclassWithMethods {
+
+		void inherited() {
+		}
+
+		void shadowed() {
+		}
+	}
+
+	static class ClassWithMethods extends SuperclassWithMethods implements WithDefaultMethod {
+
+		@Override
+		void shadowed() {
+		}
+
+		void local() {
+		}
+	}
+
+	@Test
+	void findAllMethodsInHierarchyDown() throws Exception {
+		List<Method> methods = ReflectionUtils.findAllMethodsInHierarchy(ClassWithMethods.class, HierarchyDown);
+
+		assertEquals(4, methods.size());
+		assertEquals(SuperclassWithMethods.class.getDeclaredMethod("inherited"), methods.get(0));
+		assertEquals(WithDefaultMethod.class.getDeclaredMethod("defaultMethod"), methods.get(1));
+		assertTrue(methods.contains(ClassWithMethods.class.getDeclaredMethod("shadowed")));
+		assertTrue(methods.contains(ClassWithMethods.class.getDeclaredMethod("local")));
+	}
+
+	@Test
+	void findAllMethodsInHierarchyUp() throws Exception {
+		List<Method> methods = ReflectionUtils.findAllMethodsInHierarchy(ClassWithMethods.class, HierarchyUp);
+
+		assertEquals(4, methods.size());
+		assertTrue(methods.subList(0, 2).contains(ClassWithMethods.class.getDeclaredMethod("shadowed")));
+		assertTrue(methods.subList(0, 2).contains(ClassWithMethods.class.getDeclaredMethod("local")));
+		assertEquals(WithDefaultMethod.class.getDeclaredMethod("defaultMethod"), methods.get(2));
+		assertEquals(SuperclassWithMethods.class.getDeclaredMethod("inherited"), methods.get(3));
+	}
+
+	@Test
+	void findAllMethodsInHierarchyReturnsModifiableCopies() {
+		List<Method> methods = ReflectionUtils.findAllMethodsInHierarchy(ClassWithMethods.class, HierarchyDown);
+		methods.clear();
+
+		assertEquals(4, ReflectionUtils.findAllMethodsInHierarchy(ClassWithMethods.class, HierarchyDown).size());
+	}
+
+	@Test
+	void findMethodsOfInterface() throws Exception {
+		List<Method> methods = ReflectionUtils.findMethods(WithDefaultMethod.class, method -> true);
+
+		assertEquals(Collections.singletonList(WithDefaultMethod.class.getDeclaredMethod("defaultMethod")), methods);
+	}
+
+	static class CompiledMethodTarget {
+
+		private String concat(String a, long b) {
+			return a + b;
+		}
+
+		static void fail() throws Exception {
+			throw new IOException("checked");
+		}
+	}
+
+	@Test
+	void compileMethodInvokesPrivateInstanceMethod() throws Exception {
+		Method method = CompiledMethodTarget.class.getDeclaredMethod("concat", String.class, long.class);
+		CompiledMethod compiledMethod = ReflectionUtils.compileMethod(method);
+
+		assertSame(compiledMethod, ReflectionUtils.compileMethod(method));
+		assertEquals("a1", compiledMethod.invoke(new CompiledMethodTarget(), "a", 1L));
+		// Widening conversions are supported like with Method.invoke()
+		assertEquals("a2", compiledMethod.invoke(new CompiledMethodTarget(), "a", 2));
+	}
+
+	@Test
+	void compileMethodKeepsSemanticsOfInvokeMethod() throws Exception {
+		Method fail = CompiledMethodTarget.class.getDeclaredMethod("fail");
+		Method concat = CompiledMethodTarget.class.getDeclaredMethod("concat", String.class, long.class);
+
+		IOException exception = expectThrows(IOException.class,
+			() -> ReflectionUtils.compileMethod(fail).invoke(null));
+		assertEquals("checked", exception.getMessage());
+		assertThrows(IllegalArgumentException.class,
+			() -> ReflectionUtils.compileMethod(concat).invoke(new CompiledMethodTarget(), "a", null));
+		assertThrows(IllegalArgumentException.class,
+			() -> ReflectionUtils.compileMethod(concat).invoke(new CompiledMethodTarget(), "a"));
+		assertThrows(PreconditionViolationException.class,
+			() -> ReflectionUtils.compileMethod(concat).invoke(null, "a", 1L));
+	}
+
+	@Test
+	void compileMethodReturnsNullForVoidMethods() throws Exception {
+		Method method = WithDefaultMethod.class.getDeclaredMethod("defaultMethod");
+
+		assertNull(ReflectionUtils.compileMethod(method).invoke(new ClassWithMethods()));
+	}
+
+	class InnerClass {
+
+		final ReflectionUtilsTests outer = ReflectionUtilsTests.this;
+	}
+
+	static class FailingConstructor {
+
+		FailingConstructor() throws IOException {
+			throw new IOException("checked");
+		}
+	}
+
+	@Test
+	void compileConstructorOfInnerClass() {
+		CompiledConstructor<InnerClass> constructor = ReflectionUtils.compileConstructor(InnerClass.class,
+			ReflectionUtilsTests.class);
+
+		assertSame(constructor, ReflectionUtils.compileConstructor(InnerClass.class, ReflectionUtilsTests.class));
+		assertSame(this, constructor.newInstance(this).outer);
+	}
+
+	@Test
+	void compileConstructorKeepsSemanticsOfNewInstance() {
+		IOException exception = expectThrows(IOException.class,
+			() -> ReflectionUtils.compileConstructor(FailingConstructor.class).newInstance());
+		assertEquals("checked", exception.getMessage());
+		assertThrows(NoSuchMethodException.class, () -> ReflectionUtils.compileConstructor(C.class, Integer.class));
+		assertThrows(IllegalArgumentException.class,
+			() -> ReflectionUtils.compileConstructor(C.class, String.class, String.class).newInstance("one"));
+	}
+
 }
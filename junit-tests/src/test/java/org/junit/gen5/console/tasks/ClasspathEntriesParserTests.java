@@ -19,7 +19,10 @@ import static org.junit.gen5.api.Assertions.assertEquals;
 import java.io.File;
 import java.net.URL;
 import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Set;
 
 import org.junit.gen5.api.Test;
 
@@ -70,6 +73,24 @@ public class ClasspathEntriesParserTests {
 		assertEquals(path2.toUri().toURL(), urls[1]);
 	}
 
+	@Test
+	public void toClasspathRootsKeepsDirectoriesAndJarFiles() throws Exception {
+		Path directory = Files.createTempDirectory("classes");
+		Path jarFile = Files.createTempFile("tests", ".jar");
+		Path textFile = Files.createTempFile("readme", ".txt");
+		try {
+			Set<File> roots = new ClasspathEntriesParser().toClasspathRoots(
+				asList(directory.toString(), jarFile.toString(), textFile.toString(), "does-not-exist.jar"));
+
+			assertEquals(asList(directory.toFile(), jarFile.toFile()), new ArrayList<>(roots));
+		}
+		finally {
+			Files.delete(textFile);
+			Files.delete(jarFile);
+			Files.delete(directory);
+		}
+	}
+
 	private Path getFileSystemRoot() {
 		return FileSystems.getDefault().getRootDirectories().iterator().next();
 	}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine;
+
+import static org.junit.gen5.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.gen5.api.Test;
+
+public class UniqueIdTests {
+
+	private final UniqueId methodId = UniqueId.forEngine("junit5").append(':', "com.example.MyTests").append('#',
+		"test()");
+
+	@Test
+	public void stringFormIsConcatenationOfSegments() {
+		assertEquals("junit5:com.example.MyTests#test()", methodId.toString());
+		assertEquals('#', methodId.getSeparator());
+		assertEquals("test()", methodId.getValue());
+		assertEquals("junit5:com.example.MyTests", methodId.getParent().get().toString());
+		assertEquals("junit5", methodId.getRoot().toString());
+		assertTrue(methodId.getRoot().isRoot());
+	}
+
+	@Test
+	public void hashCodeMatchesHashCodeOfStringForm() {
+		assertEquals("junit5:com.example.MyTests#test()".hashCode(), methodId.hashCode());
+		assertEquals("junit5".hashCode(), methodId.getRoot().hashCode());
+	}
+
+	@Test
+	public void equalsIdsWithSameStringFormRegardlessOfStructure() {
+		UniqueId opaque = UniqueId.of("junit5:com.example.MyTests#test()");
+		UniqueId parsed = UniqueId.parse("junit5:com.example.MyTests#test()", ":#");
+
+		assertEquals(methodId, opaque);
+		assertEquals(opaque, methodId);
+		assertEquals(methodId, parsed);
+		assertEquals(methodId.hashCode(), opaque.hashCode());
+		assertNotEquals(methodId, UniqueId.of("junit5:com.example.MyTests#other()"));
+		assertNotEquals(methodId, methodId.getParent().get());
+	}
+
+	@Test
+	public void parseSplitsAtSeparators() {
+		UniqueId parsed = UniqueId.parse("junit5:com.example.MyTests@Nested#test()", ":@#");
+
+		assertEquals("test()", parsed.getValue());
+		assertEquals('@', parsed.getParent().get().getSeparator());
+		assertEquals("Nested", parsed.getParent().get().getValue());
+		assertEquals("junit5", parsed.getRoot().getValue());
+	}
+
+	@Test
+	public void hasPrefixOnlyConsidersSegmentBoundaries() {
+		UniqueId classId = UniqueId.forEngine("junit5").append(':', "com.example.MyTests");
+
+		assertTrue(methodId.hasPrefix(methodId));
+		assertTrue(methodId.hasPrefix(classId));
+		assertTrue(methodId.hasPrefix(UniqueId.forEngine("junit5")));
+		assertFalse(methodId.hasPrefix(UniqueId.of("junit5:com.example.My")));
+		assertFalse(classId.hasPrefix(methodId));
+	}
+
+	@Test
+	public void serializationPreservesEquality() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(methodId);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			UniqueId deserialized = (UniqueId) in.readObject();
+
+			assertEquals(methodId, deserialized);
+			assertEquals(methodId.toString(), deserialized.toString());
+			assertEquals("junit5:com.example.MyTests", deserialized.getParent().get().toString());
+		}
+	}
+
+}
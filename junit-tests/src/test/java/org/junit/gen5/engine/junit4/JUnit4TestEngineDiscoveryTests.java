@@ -92,7 +92,7 @@ class JUnit4TestEngineDiscoveryTests {
 		assertFalse(runnerDescriptor.isContainer());
 		assertTrue(runnerDescriptor.isTest());
 		assertEquals(testClass.getName(), runnerDescriptor.getDisplayName());
-		assertEquals("junit4:" + testClass.getName(), runnerDescriptor.getUniqueId());
+		assertEquals("junit4:" + testClass.getName(), runnerDescriptor.getUniqueId().toString());
 		assertThat(runnerDescriptor.getChildren()).isEmpty();
 	}
 
@@ -178,13 +178,13 @@ class JUnit4TestEngineDiscoveryTests {
 		TestDescriptor testMethodDescriptor = testMethodDescriptors.get(0);
 		assertEquals("theory", testMethodDescriptor.getDisplayName());
 		assertEquals("junit4:" + testClass.getName() + "/theory" + "(" + testClass.getName() + ")[0]",
-			testMethodDescriptor.getUniqueId());
+			testMethodDescriptor.getUniqueId().toString());
 		assertClassSource(testClass, testMethodDescriptor);
 
 		testMethodDescriptor = testMethodDescriptors.get(1);
 		assertEquals("theory", testMethodDescriptor.getDisplayName());
 		assertEquals("junit4:" + testClass.getName() + "/theory" + "(" + testClass.getName() + ")[1]",
-			testMethodDescriptor.getUniqueId());
+			testMethodDescriptor.getUniqueId().toString());
 		assertClassSource(testClass, testMethodDescriptor);
 	}
 
@@ -540,7 +540,7 @@ class JUnit4TestEngineDiscoveryTests {
 
 		TestDescriptor runnerDescriptor = getOnlyElement(engineDescriptor.getChildren());
 		assertEquals(testClass.getName(), runnerDescriptor.getDisplayName());
-		assertEquals("junit4:" + testClass.getName(), runnerDescriptor.getUniqueId());
+		assertEquals("junit4:" + testClass.getName(), runnerDescriptor.getUniqueId().toString());
 		assertThat(runnerDescriptor.getChildren()).isEmpty();
 	}
 
@@ -556,8 +556,8 @@ class JUnit4TestEngineDiscoveryTests {
 
 		TestDescriptor childDescriptor = getOnlyElement(runnerDescriptor.getChildren());
 		String prefix = "junit4:" + testClass.getName() + "/";
-		assertThat(childDescriptor.getUniqueId()).startsWith(prefix);
-		String suffix = childDescriptor.getUniqueId().substring(prefix.length());
+		assertThat(childDescriptor.getUniqueId().toString()).startsWith(prefix);
+		String suffix = childDescriptor.getUniqueId().toString().substring(prefix.length());
 		assertNotNull(Base64.getDecoder().decode(suffix.getBytes(StandardCharsets.UTF_8)),
 			"is a valid Base64 encoding scheme");
 	}
@@ -601,7 +601,8 @@ class JUnit4TestEngineDiscoveryTests {
 		assertFalse(testMethodDescriptor.isContainer());
 		assertEquals(methodName, testMethodDescriptor.getDisplayName());
 		assertEquals(methodName + "(" + testClass.getName() + ")", testMethodDescriptor.getName());
-		assertEquals(uniqueIdPrefix + methodName + "(" + testClass.getName() + ")", testMethodDescriptor.getUniqueId());
+		assertEquals(uniqueIdPrefix + methodName + "(" + testClass.getName() + ")",
+			testMethodDescriptor.getUniqueId().toString());
 		assertThat(testMethodDescriptor.getChildren()).isEmpty();
 		assertMethodSource(testClass.getMethod(methodName), testMethodDescriptor);
 	}
@@ -612,7 +613,7 @@ class JUnit4TestEngineDiscoveryTests {
 		assertFalse(containerDescriptor.isTest());
 		assertEquals(testClass.getName(), containerDescriptor.getDisplayName());
 		assertEquals(testClass.getName(), containerDescriptor.getName());
-		assertEquals(uniqueIdPrefix + testClass.getName(), containerDescriptor.getUniqueId());
+		assertEquals(uniqueIdPrefix + testClass.getName(), containerDescriptor.getUniqueId().toString());
 		assertClassSource(testClass, containerDescriptor);
 	}
 
@@ -622,7 +623,7 @@ class JUnit4TestEngineDiscoveryTests {
 		assertFalse(testDescriptor.isContainer());
 		assertEquals("initializationError", testDescriptor.getDisplayName());
 		assertEquals(uniqueIdPrefix + "initializationError" + "(" + failingClass.getName() + ")",
-			testDescriptor.getUniqueId());
+			testDescriptor.getUniqueId().toString());
 		assertThat(testDescriptor.getChildren()).isEmpty();
 		assertClassSource(failingClass, testDescriptor);
 	}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.junit5;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertTrue;
+import static org.junit.gen5.engine.ExecutionEvent.Type.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.gen5.engine.ExecutionEvent.byType;
+
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.gen5.api.AfterEach;
+import org.junit.gen5.api.Benchmark;
+import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.api.extension.ExtendWith;
+import org.junit.gen5.api.extension.ExtensionContext;
+import org.junit.gen5.api.extension.MethodInvocationContext;
+import org.junit.gen5.api.extension.MethodParameterResolver;
+import org.junit.gen5.engine.ExecutionEventRecorder;
+import org.junit.gen5.engine.TestExecutionResult;
+import org.junit.gen5.engine.reporting.ReportEntry;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Integration tests that verify support for {@link Benchmark @Benchmark}
+ * methods in the {@link JUnit5TestEngine}.
+ *
+ * @since 5.0
+ */
+public class BenchmarkTests extends AbstractJUnit5TestEngineTests {
+
+	@BeforeEach
+	void resetCounters() {
+		BenchmarkTestCase.invocations = 0;
+		BenchmarkTestCase.beforeEachCount = 0;
+		BenchmarkTestCase.afterEachCount = 0;
+		CountingParameterResolver.resolveCount = 0;
+	}
+
+	@Test
+	public void benchmarkMethodIsInvokedForWarmupAndMeasuredIterations() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(BenchmarkTestCase.class);
+
+		assertEquals(1L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals((2 + 3) * 4, BenchmarkTestCase.invocations, "# invocations");
+		assertEquals(1, BenchmarkTestCase.beforeEachCount, "# before each");
+		assertEquals(1, BenchmarkTestCase.afterEachCount, "# after each");
+	}
+
+	@Test
+	public void parametersAreResolvedOnlyOnceForAllInvocations() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(ParameterizedBenchmarkTestCase.class);
+
+		assertEquals(1L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(1, CountingParameterResolver.resolveCount, "# parameters resolved");
+	}
+
+	@Test
+	public void benchmarkStatisticsArePublishedAsReportEntry() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(BenchmarkTestCase.class);
+
+		// @formatter:off
+		List<ReportEntry> reportEntries = eventRecorder.eventStream()
+				.filter(byType(REPORTING_ENTRY_PUBLISHED))
+				.map(event -> event.getPayload(ReportEntry.class).get())
+				.collect(Collectors.toList());
+		// @formatter:on
+
+		assertEquals(1, reportEntries.size(), "# report entries");
+		Map<String, String> values = reportEntries.get(0).getValues();
+		assertTrue(values.containsKey("benchmark.meanNanos"), () -> "values: " + values);
+		assertTrue(values.containsKey("benchmark.p50Nanos"), () -> "values: " + values);
+		assertTrue(values.containsKey("benchmark.p90Nanos"), () -> "values: " + values);
+		assertTrue(values.containsKey("benchmark.p99Nanos"), () -> "values: " + values);
+		assertTrue(values.containsKey("benchmark.opsPerSecond"), () -> "values: " + values);
+	}
+
+	@Test
+	public void benchmarkFailsWhenThresholdIsMissed() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(ThresholdTestCase.class);
+
+		assertEquals(1L, eventRecorder.getTestFailedCount(), "# tests failed");
+		assertEquals(1L, eventRecorder.getReportingEntryPublishedCount(), "# report entries");
+		// @formatter:off
+		Throwable throwable = eventRecorder.getFailedTestFinishedEvents().get(0)
+				.getPayload(TestExecutionResult.class)
+				.flatMap(TestExecutionResult::getThrowable)
+				.get();
+		// @formatter:on
+		assertTrue(throwable instanceof AssertionFailedError, throwable::toString);
+		assertTrue(throwable.getMessage().contains("exceeds the maximum"), throwable::getMessage);
+	}
+
+	@Test
+	public void benchmarkWithInvalidConfigurationFails() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(InvalidConfigurationTestCase.class);
+
+		assertEquals(1L, eventRecorder.getTestFailedCount(), "# tests failed");
+		assertEquals(0L, eventRecorder.getReportingEntryPublishedCount(), "# report entries");
+	}
+
+	// -------------------------------------------------------------------
+
+	private static class BenchmarkTestCase {
+
+		static int invocations;
+		static int beforeEachCount;
+		static int afterEachCount;
+
+		@BeforeEach
+		void beforeEach() {
+			beforeEachCount++;
+		}
+
+		@AfterEach
+		void afterEach() {
+			afterEachCount++;
+		}
+
+		@Benchmark(warmupIterations = 2, iterations = 3, invocationsPerIteration = 4)
+		int benchmark() {
+			return ++invocations;
+		}
+	}
+
+	@ExtendWith(CountingParameterResolver.class)
+	private static class ParameterizedBenchmarkTestCase {
+
+		@Benchmark(warmupIterations = 1, iterations = 2, invocationsPerIteration = 3)
+		int benchmark(Integer value) {
+			return value;
+		}
+	}
+
+	private static class CountingParameterResolver implements MethodParameterResolver {
+
+		static int resolveCount;
+
+		@Override
+		public boolean supports(Parameter parameter, MethodInvocationContext methodInvocationContext,
+				ExtensionContext extensionContext) {
+			return parameter.getType() == Integer.class;
+		}
+
+		@Override
+		public Object resolve(Parameter parameter, MethodInvocationContext methodInvocationContext,
+				ExtensionContext extensionContext) {
+			return ++resolveCount;
+		}
+	}
+
+	private static class ThresholdTestCase {
+
+		@Benchmark(warmupIterations = 0, iterations = 1, invocationsPerIteration = 1, maxMeanNanos = 1)
+		void benchmark() throws InterruptedException {
+			Thread.sleep(1);
+		}
+	}
+
+	private static class InvalidConfigurationTestCase {
+
+		@Benchmark(iterations = 0)
+		void benchmark() {
+		}
+	}
+
+}
@@ -47,7 +47,7 @@ class DiscoveryFilterApplierTests {
 		applier.applyAllFilters(request, engineDescriptor);
 
 		List<String> includedDescriptors = engineDescriptor.allDescendants().stream().map(
-			TestDescriptor::getUniqueId).collect(Collectors.toList());
+			descriptor -> descriptor.getUniqueId().toString()).collect(Collectors.toList());
 		Assertions.assertEquals(1, includedDescriptors.size());
 		Assertions.assertTrue(includedDescriptors.contains("matching"));
 	}
@@ -68,7 +68,7 @@ class DiscoveryFilterApplierTests {
 		applier.applyAllFilters(request, engineDescriptor);
 
 		List<String> includedDescriptors = engineDescriptor.allDescendants().stream().map(
-			TestDescriptor::getUniqueId).collect(Collectors.toList());
+			descriptor -> descriptor.getUniqueId().toString()).collect(Collectors.toList());
 		Assertions.assertEquals(2, includedDescriptors.size());
 		Assertions.assertTrue(includedDescriptors.contains("matching"));
 		Assertions.assertTrue(includedDescriptors.contains("nested"));
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.junit5;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.gen5.api.AfterEach;
+import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.Execution;
+import org.junit.gen5.api.ExecutionMode;
+import org.junit.gen5.api.ResourceLock;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.engine.ExecutionEventRecorder;
+
+/**
+ * Integration tests that verify support for parallel execution,
+ * {@link Execution @Execution}, and {@link ResourceLock @ResourceLock}
+ * in the {@link JUnit5TestEngine}.
+ *
+ * @since 5.0
+ */
+public class ParallelExecutionTests extends AbstractJUnit5TestEngineTests {
+
+	private static CountDownLatch latch;
+	private static final AtomicInteger activeTests = new AtomicInteger();
+	private static final AtomicInteger maxActiveTests = new AtomicInteger();
+
+	@BeforeEach
+	void enableParallelExecution() {
+		System.setProperty(JUnit5TestEngine.PARALLELISM_PROPERTY_NAME, "4");
+		latch = new CountDownLatch(2);
+		activeTests.set(0);
+		maxActiveTests.set(0);
+	}
+
+	@AfterEach
+	void disableParallelExecution() {
+		System.clearProperty(JUnit5TestEngine.PARALLELISM_PROPERTY_NAME);
+	}
+
+	@Test
+	public void methodsOfConcurrentTestClassAreExecutedConcurrently() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(ConcurrentTestCase.class);
+
+		assertEquals(2L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+	}
+
+	@Test
+	public void methodsOfTestClassWithoutExecutionModeAreExecutedSequentially() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(SequentialTestCase.class);
+
+		assertEquals(3L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(1, maxActiveTests.get(), "max # concurrently executed tests");
+	}
+
+	@Test
+	public void methodsSharingAResourceLockAreNotExecutedConcurrently() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(ResourceLockTestCase.class);
+
+		assertEquals(3L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(1, maxActiveTests.get(), "max # concurrently executed tests");
+	}
+
+	// -------------------------------------------------------------------
+
+	private static void awaitConcurrentTest() throws InterruptedException {
+		latch.countDown();
+		assertTrue(latch.await(5, TimeUnit.SECONDS), "other test was not executed concurrently");
+	}
+
+	private static void recordConcurrency() throws InterruptedException {
+		maxActiveTests.accumulateAndGet(activeTests.incrementAndGet(), Math::max);
+		Thread.sleep(20);
+		activeTests.decrementAndGet();
+	}
+
+	@Execution(ExecutionMode.CONCURRENT)
+	private static class ConcurrentTestCase {
+
+		@Test
+		void test1() throws InterruptedException {
+			awaitConcurrentTest();
+		}
+
+		@Test
+		void test2() throws InterruptedException {
+			awaitConcurrentTest();
+		}
+	}
+
+	private static class SequentialTestCase {
+
+		@Test
+		void test1() throws InterruptedException {
+			recordConcurrency();
+		}
+
+		@Test
+		void test2() throws InterruptedException {
+			recordConcurrency();
+		}
+
+		@Test
+		void test3() throws InterruptedException {
+			recordConcurrency();
+		}
+	}
+
+	@Execution(ExecutionMode.CONCURRENT)
+	private static class ResourceLockTestCase {
+
+		@Test
+		@ResourceLock("shared")
+		void test1() throws InterruptedException {
+			recordConcurrency();
+		}
+
+		@Test
+		@ResourceLock("shared")
+		void test2() throws InterruptedException {
+			recordConcurrency();
+		}
+
+		@Test
+		@ResourceLock("shared")
+		void test3() throws InterruptedException {
+			recordConcurrency();
+		}
+	}
+
+}
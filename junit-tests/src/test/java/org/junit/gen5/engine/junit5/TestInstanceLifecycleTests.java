@@ -0,0 +1,294 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.junit5;
+
+import static java.util.Arrays.asList;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertFalse;
+import static org.junit.gen5.api.Assertions.assertNotNull;
+import static org.junit.gen5.api.Assertions.assertNull;
+import static org.junit.gen5.api.Assertions.assertSame;
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.gen5.api.AfterAll;
+import org.junit.gen5.api.BeforeAll;
+import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.Nested;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.api.TestInstance;
+import org.junit.gen5.api.TestInstance.Lifecycle;
+import org.junit.gen5.api.extension.ExtendWith;
+import org.junit.gen5.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.gen5.api.extension.InstancePostProcessor;
+import org.junit.gen5.api.extension.TestExtensionContext;
+import org.junit.gen5.engine.ExecutionEventRecorder;
+
+/**
+ * Integration tests that verify support for {@link TestInstance @TestInstance}
+ * in the {@link JUnit5TestEngine}.
+ *
+ * @since 5.0
+ */
+public class TestInstanceLifecycleTests extends AbstractJUnit5TestEngineTests {
+
+	private static final List<Object> instances = new ArrayList<>();
+
+	private static final List<String> events = new ArrayList<>();
+
+	@BeforeEach
+	void clearInstances() {
+		instances.clear();
+		events.clear();
+	}
+
+	@Test
+	public void instancePerMethodByDefault() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(PerMethodTestCase.class);
+
+		assertEquals(2L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(2, instances.size(), "# instances");
+	}
+
+	@Test
+	public void instancePerClassIsSharedByAllMethods() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(PerClassTestCase.class);
+
+		assertEquals(2L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(4, instances.size(), () -> "recorded instances: " + instances);
+		instances.forEach(instance -> assertSame(instances.get(0), instance));
+	}
+
+	@Test
+	public void instancePerClassIsEnclosingInstanceOfNestedClasses() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(PerClassWithNestedTestCase.class);
+
+		assertEquals(3L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(3, instances.size(), () -> "recorded instances: " + instances);
+		instances.forEach(instance -> assertSame(instances.get(0), instance));
+	}
+
+	@Test
+	public void instancePerClassIsPostProcessedOnceBeforeBeforeAllMethods() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(PerClassPostProcessedTestCase.class);
+
+		assertEquals(2L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(asList("postProcess", "beforeAll", "test", "test"), events);
+	}
+
+	@Test
+	public void resourcesStoredWhilePostProcessingInstancePerClassAreClosedAfterAfterAllMethods() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(PerClassWithResourceTestCase.class);
+
+		assertEquals(1L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(asList("postProcess", "test", "afterAll", "close"), events);
+	}
+
+	@Test
+	public void methodLevelInstancePostProcessorsAreAppliedToInstancePerClass() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(PerClassMethodLevelPostProcessorTestCase.class);
+
+		assertEquals(1L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(asList("postProcessMethod", "test"), events);
+	}
+
+	@Test
+	public void nonStaticBeforeAllMethodsRequirePerClassLifecycle() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(NonStaticBeforeAllPerMethodTestCase.class);
+
+		assertEquals(0L, eventRecorder.getTestStartedCount(), "# tests started");
+		assertEquals(0, instances.size(), "# instances");
+	}
+
+	// -------------------------------------------------------------------
+
+	private static class PerMethodTestCase {
+
+		PerMethodTestCase() {
+			instances.add(this);
+		}
+
+		@Test
+		void test1() {
+		}
+
+		@Test
+		void test2() {
+		}
+	}
+
+	@TestInstance(Lifecycle.PER_CLASS)
+	private static class PerClassTestCase {
+
+		@BeforeAll
+		void beforeAll() {
+			instances.add(this);
+		}
+
+		@Test
+		void test1() {
+			instances.add(this);
+		}
+
+		@Test
+		void test2() {
+			instances.add(this);
+		}
+
+		@AfterAll
+		void afterAll() {
+			instances.add(this);
+		}
+	}
+
+	@TestInstance(Lifecycle.PER_CLASS)
+	private static class PerClassWithNestedTestCase {
+
+		PerClassWithNestedTestCase() {
+			instances.add(this);
+		}
+
+		@Test
+		void test() {
+			instances.add(this);
+		}
+
+		@Nested
+		class NestedTestCase {
+
+			@Test
+			void nestedTest() {
+				instances.add(PerClassWithNestedTestCase.this);
+			}
+
+			@Test
+			void otherNestedTest() {
+				// a second test to ensure that the outer instance is not re-created
+			}
+		}
+	}
+
+	@TestInstance(Lifecycle.PER_CLASS)
+	@ExtendWith(RecordingInstancePostProcessor.class)
+	private static class PerClassPostProcessedTestCase {
+
+		boolean postProcessed;
+
+		@BeforeAll
+		void beforeAll() {
+			assertTrue(postProcessed, "post-processed before @BeforeAll");
+			events.add("beforeAll");
+		}
+
+		@Test
+		void test1() {
+			events.add("test");
+		}
+
+		@Test
+		void test2() {
+			events.add("test");
+		}
+	}
+
+	private static class RecordingInstancePostProcessor implements InstancePostProcessor {
+
+		@Override
+		public void postProcessTestInstance(TestExtensionContext context) {
+			assertNull(context.getTestMethod());
+			((PerClassPostProcessedTestCase) context.getTestInstance()).postProcessed = true;
+			events.add("postProcess");
+		}
+	}
+
+	@TestInstance(Lifecycle.PER_CLASS)
+	@ExtendWith(ResourceInjectingInstancePostProcessor.class)
+	private static class PerClassWithResourceTestCase {
+
+		RecordingResource resource;
+
+		@Test
+		void test() {
+			assertNotNull(resource);
+			assertFalse(resource.closed, "resource closed before test");
+			events.add("test");
+		}
+
+		@AfterAll
+		void afterAll() {
+			assertFalse(resource.closed, "resource closed before @AfterAll");
+			events.add("afterAll");
+		}
+	}
+
+	private static class ResourceInjectingInstancePostProcessor implements InstancePostProcessor {
+
+		@Override
+		public void postProcessTestInstance(TestExtensionContext context) {
+			RecordingResource resource = new RecordingResource();
+			context.getStore().put("resource", resource);
+			((PerClassWithResourceTestCase) context.getTestInstance()).resource = resource;
+			events.add("postProcess");
+		}
+	}
+
+	private static class RecordingResource implements CloseableResource {
+
+		boolean closed;
+
+		@Override
+		public void close() {
+			closed = true;
+			events.add("close");
+		}
+	}
+
+	@TestInstance(Lifecycle.PER_CLASS)
+	private static class PerClassMethodLevelPostProcessorTestCase {
+
+		boolean postProcessed;
+
+		@Test
+		@ExtendWith(MethodLevelInstancePostProcessor.class)
+		void test() {
+			assertTrue(postProcessed, "post-processed by extension of method");
+			events.add("test");
+		}
+	}
+
+	private static class MethodLevelInstancePostProcessor implements InstancePostProcessor {
+
+		@Override
+		public void postProcessTestInstance(TestExtensionContext context) {
+			assertNotNull(context.getTestMethod());
+			((PerClassMethodLevelPostProcessorTestCase) context.getTestInstance()).postProcessed = true;
+			events.add("postProcessMethod");
+		}
+	}
+
+	private static class NonStaticBeforeAllPerMethodTestCase {
+
+		NonStaticBeforeAllPerMethodTestCase() {
+			instances.add(this);
+		}
+
+		@BeforeAll
+		void beforeAll() {
+		}
+
+		@Test
+		void test() {
+		}
+	}
+
+}
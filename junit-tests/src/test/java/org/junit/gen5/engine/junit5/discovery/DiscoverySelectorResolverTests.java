@@ -25,6 +25,7 @@ import org.junit.gen5.api.Test;
 import org.junit.gen5.commons.util.PreconditionViolationException;
 import org.junit.gen5.engine.EngineDiscoveryRequest;
 import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.UniqueId;
 import org.junit.gen5.engine.discovery.ClassSelector;
 import org.junit.gen5.engine.discovery.MethodSelector;
 import org.junit.gen5.engine.discovery.PackageSelector;
@@ -32,7 +33,8 @@ import org.junit.gen5.engine.discovery.UniqueIdSelector;
 
 public class DiscoverySelectorResolverTests {
 
-	private final JUnit5EngineDescriptor engineDescriptor = new JUnit5EngineDescriptor("ENGINE_ID");
+	private final JUnit5EngineDescriptor engineDescriptor = new JUnit5EngineDescriptor(
+		UniqueId.forEngine("ENGINE_ID"));
 	private DiscoverySelectorResolver resolver = new DiscoverySelectorResolver(engineDescriptor);
 
 	@Test
@@ -56,8 +58,7 @@ public class DiscoverySelectorResolverTests {
 		resolver.resolveSelectors(request().select(selector1, selector2).build());
 
 		assertEquals(6, engineDescriptor.allDescendants().size());
-		List<String> uniqueIds = engineDescriptor.allDescendants().stream().map(d -> d.getUniqueId()).collect(
-			Collectors.toList());
+		List<String> uniqueIds = uniqueIds();
 		assertTrue(uniqueIds.contains("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.MyTestClass"));
 		assertTrue(uniqueIds.contains("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.MyTestClass#test1()"));
 		assertTrue(uniqueIds.contains("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.MyTestClass#test2()"));
@@ -73,8 +74,7 @@ public class DiscoverySelectorResolverTests {
 		resolver.resolveSelectors(request().select(selector).build());
 
 		assertEquals(3, engineDescriptor.allDescendants().size());
-		List<String> uniqueIds = engineDescriptor.allDescendants().stream().map(d -> d.getUniqueId()).collect(
-			Collectors.toList());
+		List<String> uniqueIds = uniqueIds();
 		assertTrue(
 			uniqueIds.contains("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.OtherTestClass$NestedTestClass"));
 		assertTrue(uniqueIds.contains(
@@ -291,8 +291,7 @@ public class DiscoverySelectorResolverTests {
 
 		// engineDescriptor.allDescendants().stream().forEach(d -> System.out.println(d));
 
-		List<String> uniqueIds = engineDescriptor.allDescendants().stream().map(d -> d.getUniqueId()).collect(
-			Collectors.toList());
+		List<String> uniqueIds = uniqueIds();
 		assertEquals(6, uniqueIds.size());
 
 		assertTrue(uniqueIds.contains("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.TestCaseWithNesting"));
@@ -313,8 +312,7 @@ public class DiscoverySelectorResolverTests {
 
 		resolver.resolveSelectors(request().select(selector).build());
 
-		List<String> uniqueIds = engineDescriptor.allDescendants().stream().map(d -> d.getUniqueId()).collect(
-			Collectors.toList());
+		List<String> uniqueIds = uniqueIds();
 		assertEquals(5, uniqueIds.size());
 
 		assertTrue(uniqueIds.contains("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.TestCaseWithNesting"));
@@ -335,8 +333,7 @@ public class DiscoverySelectorResolverTests {
 
 		resolver.resolveSelectors(request().select(selector).build());
 
-		List<String> uniqueIds = engineDescriptor.allDescendants().stream().map(d -> d.getUniqueId()).collect(
-			Collectors.toList());
+		List<String> uniqueIds = uniqueIds();
 		assertEquals(4, uniqueIds.size());
 
 		assertTrue(uniqueIds.contains("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.TestCaseWithNesting"));
@@ -354,8 +351,7 @@ public class DiscoverySelectorResolverTests {
 
 		resolver.resolveSelectors(request().select(selector).build());
 
-		List<String> uniqueIds = engineDescriptor.allDescendants().stream().map(d -> d.getUniqueId()).collect(
-			Collectors.toList());
+		List<String> uniqueIds = uniqueIds();
 		assertEquals(4, uniqueIds.size());
 
 		assertTrue(uniqueIds.contains("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.TestCaseWithNesting"));
@@ -374,8 +370,7 @@ public class DiscoverySelectorResolverTests {
 
 		resolver.resolveSelectors(request().select(selector).build());
 
-		List<String> uniqueIds = engineDescriptor.allDescendants().stream().map(d -> d.getUniqueId()).collect(
-			Collectors.toList());
+		List<String> uniqueIds = uniqueIds();
 		assertEquals(3, uniqueIds.size());
 
 		assertTrue(uniqueIds.contains("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.TestCaseWithNesting"));
@@ -386,11 +381,20 @@ public class DiscoverySelectorResolverTests {
 	}
 
 	private TestDescriptor descriptorByUniqueId(String id) {
-		return engineDescriptor.allDescendants().stream().filter(d -> d.getUniqueId().equals(id)).findFirst().get();
+		// @formatter:off
+		return engineDescriptor.allDescendants().stream()
+				.filter(d -> d.getUniqueId().toString().equals(id))
+				.findFirst()
+				.get();
+		// @formatter:on
 	}
 
 	private List<String> uniqueIds() {
-		return engineDescriptor.allDescendants().stream().map(d -> d.getUniqueId()).collect(Collectors.toList());
+		// @formatter:off
+		return engineDescriptor.allDescendants().stream()
+				.map(d -> d.getUniqueId().toString())
+				.collect(Collectors.toList());
+		// @formatter:on
 	}
 
 }
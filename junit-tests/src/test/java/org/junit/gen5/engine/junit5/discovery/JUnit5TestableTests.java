@@ -17,6 +17,7 @@ import java.lang.reflect.Method;
 import java.math.BigDecimal;
 
 import org.junit.gen5.api.Test;
+import org.junit.gen5.engine.UniqueId;
 import org.junit.gen5.engine.support.descriptor.EngineDescriptor;
 
 public class JUnit5TestableTests {
@@ -27,8 +28,9 @@ public class JUnit5TestableTests {
 	public void fromUniqueIdForTopLevelClass() {
 
 		JUnit5Class testable = (JUnit5Class) JUnit5Testable.fromUniqueId(
-			"ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass", engineDescriptor.getUniqueId());
-		assertEquals("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass", testable.getUniqueId());
+			UniqueId.of("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass"),
+			engineDescriptor.getUniqueId());
+		assertEquals("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass", testable.getUniqueId().toString());
 		assertSame(ATestClass.class, testable.getJavaClass());
 	}
 
@@ -36,10 +38,10 @@ public class JUnit5TestableTests {
 	public void fromUniqueIdForNestedClass() {
 
 		JUnit5Class testable = (JUnit5Class) JUnit5Testable.fromUniqueId(
-			"ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass$AnInnerTestClass",
+			UniqueId.of("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass$AnInnerTestClass"),
 			engineDescriptor.getUniqueId());
 		assertEquals("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass$AnInnerTestClass",
-			testable.getUniqueId());
+			testable.getUniqueId().toString());
 		assertSame(ATestClass.AnInnerTestClass.class, testable.getJavaClass());
 	}
 
@@ -47,10 +49,10 @@ public class JUnit5TestableTests {
 	public void fromUniqueIdForDoubleNestedClass() {
 
 		JUnit5Class testable = (JUnit5Class) JUnit5Testable.fromUniqueId(
-			"ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass$AnInnerTestClass$InnerInnerTestClass",
+			UniqueId.of("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass$AnInnerTestClass$InnerInnerTestClass"),
 			engineDescriptor.getUniqueId());
 		assertEquals("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass$AnInnerTestClass$InnerInnerTestClass",
-			testable.getUniqueId());
+			testable.getUniqueId().toString());
 		assertSame(ATestClass.AnInnerTestClass.InnerInnerTestClass.class, testable.getJavaClass());
 	}
 
@@ -58,8 +60,10 @@ public class JUnit5TestableTests {
 	public void fromUniqueIdForMethod() throws NoSuchMethodException {
 
 		JUnit5Method testable = (JUnit5Method) JUnit5Testable.fromUniqueId(
-			"ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass#test1()", engineDescriptor.getUniqueId());
-		assertEquals("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass#test1()", testable.getUniqueId());
+			UniqueId.of("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass#test1()"),
+			engineDescriptor.getUniqueId());
+		assertEquals("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass#test1()",
+			testable.getUniqueId().toString());
 		Method testMethod = ATestClass.class.getDeclaredMethod("test1");
 		assertEquals(testMethod, testable.getJavaMethod());
 	}
@@ -68,11 +72,11 @@ public class JUnit5TestableTests {
 	public void fromUniqueIdForMethodWithParameters() throws NoSuchMethodException {
 
 		JUnit5Method testable = (JUnit5Method) JUnit5Testable.fromUniqueId(
-			"ENGINE_ID:org.junit.gen5.engine.junit5.discovery.BTestClass#test4(java.lang.String, java.math.BigDecimal)",
+			UniqueId.of("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.BTestClass#test4(java.lang.String, java.math.BigDecimal)"),
 			engineDescriptor.getUniqueId());
 		assertEquals(
 			"ENGINE_ID:org.junit.gen5.engine.junit5.discovery.BTestClass#test4(java.lang.String, java.math.BigDecimal)",
-			testable.getUniqueId());
+			testable.getUniqueId().toString());
 		Method testMethod = BTestClass.class.getDeclaredMethod("test4", String.class, BigDecimal.class);
 		assertEquals(testMethod, testable.getJavaMethod());
 	}
@@ -81,10 +85,10 @@ public class JUnit5TestableTests {
 	public void fromUniqueIdForMethodInNestedClass() throws NoSuchMethodException {
 
 		JUnit5Method testable = (JUnit5Method) JUnit5Testable.fromUniqueId(
-			"ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass$AnInnerTestClass#test2()",
+			UniqueId.of("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass$AnInnerTestClass#test2()"),
 			engineDescriptor.getUniqueId());
 		assertEquals("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass$AnInnerTestClass#test2()",
-			testable.getUniqueId());
+			testable.getUniqueId().toString());
 		Method testMethod = ATestClass.AnInnerTestClass.class.getDeclaredMethod("test2");
 		assertEquals(testMethod, testable.getJavaMethod());
 	}
@@ -92,7 +96,7 @@ public class JUnit5TestableTests {
 	@Test
 	public void fromClass() throws NoSuchMethodException {
 		JUnit5Class testable = (JUnit5Class) JUnit5Testable.fromClass(ATestClass.class, engineDescriptor.getUniqueId());
-		assertEquals("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass", testable.getUniqueId());
+		assertEquals("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass", testable.getUniqueId().toString());
 		assertSame(ATestClass.class, testable.getJavaClass());
 	}
 
@@ -101,7 +105,7 @@ public class JUnit5TestableTests {
 		JUnit5Class testable = (JUnit5Class) JUnit5Testable.fromClass(ATestClass.AnInnerTestClass.class,
 			engineDescriptor.getUniqueId());
 		assertEquals("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass$AnInnerTestClass",
-			testable.getUniqueId());
+			testable.getUniqueId().toString());
 		assertSame(ATestClass.AnInnerTestClass.class, testable.getJavaClass());
 	}
 
@@ -110,7 +114,8 @@ public class JUnit5TestableTests {
 		Method testMethod = ATestClass.class.getDeclaredMethod("test1");
 		JUnit5Method testable = (JUnit5Method) JUnit5Testable.fromMethod(testMethod, ATestClass.class,
 			engineDescriptor.getUniqueId());
-		assertEquals("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass#test1()", testable.getUniqueId());
+		assertEquals("ENGINE_ID:org.junit.gen5.engine.junit5.discovery.ATestClass#test1()",
+			testable.getUniqueId().toString());
 		assertSame(testMethod, testable.getJavaMethod());
 		assertSame(ATestClass.class, testable.getContainerClass());
 	}
@@ -122,7 +127,7 @@ public class JUnit5TestableTests {
 			engineDescriptor.getUniqueId());
 		assertEquals(
 			"ENGINE_ID:org.junit.gen5.engine.junit5.discovery.BTestClass#test4(java.lang.String, java.math.BigDecimal)",
-			testable.getUniqueId());
+			testable.getUniqueId().toString());
 		assertSame(testMethod, testable.getJavaMethod());
 	}
 
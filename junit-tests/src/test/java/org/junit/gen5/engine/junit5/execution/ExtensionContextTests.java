@@ -22,10 +22,13 @@ import org.junit.gen5.api.Test;
 import org.junit.gen5.api.extension.ExtensionContext;
 import org.junit.gen5.engine.EngineExecutionListener;
 import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.UniqueId;
 import org.junit.gen5.engine.junit5.descriptor.ClassBasedContainerExtensionContext;
 import org.junit.gen5.engine.junit5.descriptor.ClassTestDescriptor;
+import org.junit.gen5.engine.junit5.descriptor.EngineExtensionContext;
 import org.junit.gen5.engine.junit5.descriptor.MethodBasedTestExtensionContext;
 import org.junit.gen5.engine.junit5.descriptor.MethodTestDescriptor;
+import org.junit.gen5.engine.junit5.discovery.JUnit5EngineDescriptor;
 import org.junit.gen5.engine.reporting.ReportEntry;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -56,6 +59,24 @@ public class ExtensionContextTests {
 		Assertions.assertSame(outerExtensionContext, nestedExtensionContext.getParent().get());
 	}
 
+	@Test
+	public void fromEngineDescriptor() {
+		JUnit5EngineDescriptor engineDescriptor = new JUnit5EngineDescriptor(UniqueId.forEngine("junit5"));
+		ClassTestDescriptor classTestDescriptor = outerClassDescriptor(null);
+
+		EngineExtensionContext engineExtensionContext = new EngineExtensionContext(null, engineDescriptor);
+		Assertions.assertAll("engineContext", //
+			() -> assertNull(engineExtensionContext.getTestClass()), //
+			() -> assertNull(engineExtensionContext.getElement()), //
+			() -> assertEquals(engineDescriptor.getDisplayName(), engineExtensionContext.getDisplayName()), //
+			() -> assertEquals(Optional.empty(), engineExtensionContext.getParent()) //
+		);
+
+		ClassBasedContainerExtensionContext classExtensionContext = new ClassBasedContainerExtensionContext(
+			engineExtensionContext, null, classTestDescriptor);
+		Assertions.assertSame(engineExtensionContext, classExtensionContext.getParent().get());
+	}
+
 	@Test
 	public void fromMethodTestDescriptor() {
 		MethodTestDescriptor methodTestDescriptor = methodDescriptor();
@@ -127,11 +148,12 @@ public class ExtensionContextTests {
 	}
 
 	private ClassTestDescriptor nestedClassDescriptor() {
-		return new ClassTestDescriptor("NestedClass", OuterClass.NestedClass.class);
+		return new ClassTestDescriptor(UniqueId.of("NestedClass"), OuterClass.NestedClass.class);
 	}
 
 	private ClassTestDescriptor outerClassDescriptor(TestDescriptor child) {
-		ClassTestDescriptor classTestDescriptor = new ClassTestDescriptor("OuterClass", OuterClass.class);
+		ClassTestDescriptor classTestDescriptor = new ClassTestDescriptor(UniqueId.of("OuterClass"),
+			OuterClass.class);
 		if (child != null)
 			classTestDescriptor.addChild(child);
 		return classTestDescriptor;
@@ -139,7 +161,8 @@ public class ExtensionContextTests {
 
 	private MethodTestDescriptor methodDescriptor() {
 		try {
-			return new MethodTestDescriptor("aMethod", OuterClass.class, OuterClass.class.getDeclaredMethod("aMethod"));
+			return new MethodTestDescriptor(UniqueId.of("aMethod"), OuterClass.class,
+				OuterClass.class.getDeclaredMethod("aMethod"));
 		}
 		catch (NoSuchMethodException e) {
 			throw new RuntimeException(e);
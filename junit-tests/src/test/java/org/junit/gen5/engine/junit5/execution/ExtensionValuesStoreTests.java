@@ -12,6 +12,14 @@ package org.junit.gen5.engine.junit5.execution;
 
 import static org.junit.gen5.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.gen5.api.BeforeEach;
 import org.junit.gen5.api.Nested;
 import org.junit.gen5.api.Test;
@@ -139,6 +147,96 @@ class ExtensionValuesStoreTests {
 
 	}
 
+	@Nested
+	class ConcurrentAccessTests {
+
+		@Test
+		void valueIsComputedOnlyOnceForConcurrentRequests() throws Exception {
+			int threads = 8;
+			AtomicInteger creatorInvocations = new AtomicInteger();
+			CountDownLatch start = new CountDownLatch(1);
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				List<Future<Object>> results = new ArrayList<>();
+				for (int i = 0; i < threads; i++) {
+					results.add(executor.submit(() -> {
+						start.await();
+						return store.getOrComputeIfAbsent(namespace, key, innerKey -> {
+							creatorInvocations.incrementAndGet();
+							return value;
+						});
+					}));
+				}
+				start.countDown();
+				for (Future<Object> result : results) {
+					assertSame(value, result.get());
+				}
+			}
+			finally {
+				executor.shutdownNow();
+			}
+			assertEquals(1, creatorInvocations.get());
+		}
+
+		@Test
+		void defaultCreatorCanUseStore() {
+			Object otherKey = createObject("other key");
+
+			Object computedValue = store.getOrComputeIfAbsent(namespace, key,
+				innerKey -> store.getOrComputeIfAbsent(namespace, otherKey, otherInnerKey -> value));
+
+			assertEquals(value, computedValue);
+			assertEquals(value, store.get(namespace, key));
+			assertEquals(value, store.get(namespace, otherKey));
+		}
+
+		@Test
+		void removeDoesNotWaitForValueBeingComputed() throws Exception {
+			AtomicInteger creatorInvocations = new AtomicInteger();
+			CountDownLatch computing = new CountDownLatch(1);
+			CountDownLatch removed = new CountDownLatch(1);
+			ExecutorService executor = Executors.newSingleThreadExecutor();
+			try {
+				Future<Object> result = executor.submit(() -> store.getOrComputeIfAbsent(namespace, key, innerKey -> {
+					creatorInvocations.incrementAndGet();
+					computing.countDown();
+					try {
+						removed.await();
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return value;
+				}));
+				computing.await();
+
+				assertNull(store.remove(namespace, key));
+				removed.countDown();
+
+				assertSame(value, result.get());
+			}
+			finally {
+				executor.shutdownNow();
+			}
+			assertEquals(1, creatorInvocations.get());
+			assertNull(store.get(namespace, key));
+		}
+
+		@Test
+		void failedComputationIsNotStored() {
+			RuntimeException failure = new RuntimeException("boom");
+
+			RuntimeException thrown = expectThrows(RuntimeException.class,
+				() -> store.getOrComputeIfAbsent(namespace, key, innerKey -> {
+					throw failure;
+				}));
+
+			assertSame(failure, thrown);
+			assertNull(store.get(namespace, key));
+			assertEquals(value, store.getOrComputeIfAbsent(namespace, key, innerKey -> value));
+		}
+	}
+
 	@Nested
 	class InheritedValuesTests {
 
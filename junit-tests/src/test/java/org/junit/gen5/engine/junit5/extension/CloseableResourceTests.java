@@ -0,0 +1,185 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.junit5.extension;
+
+import static java.util.Arrays.asList;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertTrue;
+import static org.junit.gen5.engine.ExecutionEvent.byPayload;
+import static org.junit.gen5.engine.ExecutionEvent.byTestDescriptor;
+import static org.junit.gen5.engine.ExecutionEvent.byType;
+import static org.junit.gen5.engine.discovery.ClassSelector.forClass;
+import static org.junit.gen5.launcher.main.TestDiscoveryRequestBuilder.request;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.api.extension.BeforeAllExtensionPoint;
+import org.junit.gen5.api.extension.ContainerExtensionContext;
+import org.junit.gen5.api.extension.ExtendWith;
+import org.junit.gen5.api.extension.ExtensionContext;
+import org.junit.gen5.api.extension.ExtensionContext.Namespace;
+import org.junit.gen5.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.gen5.engine.ExecutionEvent;
+import org.junit.gen5.engine.ExecutionEventRecorder;
+import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.TestExecutionResult;
+import org.junit.gen5.engine.junit5.AbstractJUnit5TestEngineTests;
+import org.junit.gen5.engine.junit5.JUnit5TestEngine;
+
+/**
+ * Integration tests that verify that {@link CloseableResource CloseableResources}
+ * stored in an {@link ExtensionContext.Store} are closed by the {@link JUnit5TestEngine}.
+ *
+ * @since 5.0
+ */
+public class CloseableResourceTests extends AbstractJUnit5TestEngineTests {
+
+	private static final List<String> callSequence = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void resetCallSequence() {
+		callSequence.clear();
+	}
+
+	@Test
+	public void resourceInEngineStoreIsSharedByAllTestClassesAndClosedAtTheEnd() {
+		ExecutionEventRecorder eventRecorder = executeTests(
+			request().select(forClass(FirstSharedResourceTestCase.class), forClass(
+				SecondSharedResourceTestCase.class)).build());
+
+		assertEquals(2L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(4, callSequence.size(), () -> "call sequence: " + callSequence);
+		assertEquals("created shared", callSequence.get(0));
+		assertTrue(callSequence.containsAll(asList("firstTest", "secondTest")));
+		assertEquals("closed shared", callSequence.get(3));
+	}
+
+	@Test
+	public void resourcesInClassStoreAreClosedInReverseOrderAfterTheClass() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(ClassResourcesTestCase.class);
+
+		assertEquals(1L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(asList("created first", "created second", "test", "closed second", "closed first"),
+			callSequence);
+	}
+
+	@Test
+	public void failureWhileClosingIsReportedForOwningContainer() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(FailingResourceTestCase.class);
+
+		assertEquals(1L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(asList("created failing", "test", "closed failing"), callSequence);
+
+		// @formatter:off
+		long failedContainers = eventRecorder.eventStream()
+				.filter(byType(ExecutionEvent.Type.FINISHED))
+				.filter(byTestDescriptor(TestDescriptor::isContainer))
+				.filter(byPayload(TestExecutionResult.class,
+					result -> result.getStatus() == TestExecutionResult.Status.FAILED))
+				.count();
+		// @formatter:on
+		assertEquals(1L, failedContainers, "# containers failed");
+	}
+
+	// -------------------------------------------------------------------
+
+	private static class Resource implements CloseableResource {
+
+		private final String name;
+
+		Resource(String name) {
+			this.name = name;
+			callSequence.add("created " + name);
+		}
+
+		@Override
+		public void close() throws Throwable {
+			callSequence.add("closed " + name);
+		}
+	}
+
+	private static class SharedResourceExtension implements BeforeAllExtensionPoint {
+
+		@Override
+		public void beforeAll(ContainerExtensionContext context) {
+			ExtensionContext engineContext = context;
+			while (engineContext.getParent().isPresent()) {
+				engineContext = engineContext.getParent().get();
+			}
+			engineContext.getStore(Namespace.of(SharedResourceExtension.class)).getOrComputeIfAbsent("resource",
+				key -> new Resource("shared"));
+		}
+	}
+
+	@ExtendWith(SharedResourceExtension.class)
+	private static class FirstSharedResourceTestCase {
+
+		@Test
+		void firstTest() {
+			callSequence.add("firstTest");
+		}
+	}
+
+	@ExtendWith(SharedResourceExtension.class)
+	private static class SecondSharedResourceTestCase {
+
+		@Test
+		void secondTest() {
+			callSequence.add("secondTest");
+		}
+	}
+
+	private static class ClassResourcesExtension implements BeforeAllExtensionPoint {
+
+		@Override
+		public void beforeAll(ContainerExtensionContext context) {
+			context.getStore().put("first", new Resource("first"));
+			context.getStore(Namespace.of("other")).put("second", new Resource("second"));
+		}
+	}
+
+	@ExtendWith(ClassResourcesExtension.class)
+	private static class ClassResourcesTestCase {
+
+		@Test
+		void test() {
+			callSequence.add("test");
+		}
+	}
+
+	private static class FailingResourceExtension implements BeforeAllExtensionPoint {
+
+		@Override
+		public void beforeAll(ContainerExtensionContext context) {
+			context.getStore().put("failing", new Resource("failing") {
+
+				@Override
+				public void close() throws Throwable {
+					super.close();
+					throw new IllegalStateException("closing failed");
+				}
+			});
+		}
+	}
+
+	@ExtendWith(FailingResourceExtension.class)
+	private static class FailingResourceTestCase {
+
+		@Test
+		void test() {
+			callSequence.add("test");
+		}
+	}
+
+}
@@ -11,8 +11,14 @@
 package org.junit.gen5.engine.junit5.extension;
 
 import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertNotSame;
+import static org.junit.gen5.api.Assertions.assertSame;
+import static org.junit.gen5.api.Assertions.assertThrows;
 import static org.junit.gen5.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -142,6 +148,43 @@ public class ExtensionRegistryTests {
 
 	}
 
+	@Test
+	public void extensionPointsAreSharedUntilNextRegistration() throws Exception {
+		ExtensionRegistry parent = new ExtensionRegistry();
+		parent.registerExtension(MyExtension.class);
+		registry = new ExtensionRegistry(parent);
+
+		List<RegisteredExtensionPoint<MyExtensionPoint>> extensionPoints = registry.getExtensionPoints(
+			MyExtensionPoint.class, ExtensionRegistry.ApplicationOrder.FORWARD);
+		assertEquals(1, extensionPoints.size());
+		assertSame(extensionPoints,
+			registry.getExtensionPoints(MyExtensionPoint.class, ExtensionRegistry.ApplicationOrder.FORWARD));
+		assertThrows(UnsupportedOperationException.class, () -> extensionPoints.remove(0));
+
+		parent.registerExtension(YourExtension.class);
+
+		List<RegisteredExtensionPoint<MyExtensionPoint>> updatedExtensionPoints = registry.getExtensionPoints(
+			MyExtensionPoint.class, ExtensionRegistry.ApplicationOrder.FORWARD);
+		assertNotSame(extensionPoints, updatedExtensionPoints);
+		assertEquals(2, updatedExtensionPoints.size());
+	}
+
+	@Test
+	public void backwardOrderIsReverseOfForwardOrder() throws Exception {
+		registry.registerExtension(MyExtension.class);
+		registry.registerExtension(MyPositionedExtensionRegistrar.class);
+
+		List<RegisteredExtensionPoint<MyExtensionPoint>> forward = new ArrayList<>(
+			registry.getExtensionPoints(MyExtensionPoint.class, ExtensionRegistry.ApplicationOrder.FORWARD));
+		List<RegisteredExtensionPoint<MyExtensionPoint>> backward = new ArrayList<>(
+			registry.getExtensionPoints(MyExtensionPoint.class, ExtensionRegistry.ApplicationOrder.BACKWARD));
+
+		assertEquals(Position.OUTERMOST, forward.get(0).getPosition());
+		assertEquals(Position.INNERMOST, forward.get(2).getPosition());
+		Collections.reverse(backward);
+		assertEquals(forward, backward);
+	}
+
 	@Test
 	public void registerExtensionPointFromLambdaExpression() throws Exception {
 		registry.registerExtensionPoint((MyExtensionPoint) test -> {
@@ -250,3 +293,15 @@ class MyExtensionRegistrar implements ExtensionRegistrar {
 	private void doNothing(String s) {
 	}
 }
+
+class MyPositionedExtensionRegistrar implements ExtensionRegistrar {
+
+	@Override
+	public void registerExtensions(ExtensionPointRegistry registry) {
+		registry.register((MyExtensionPoint) this::doNothing, Position.INNERMOST);
+		registry.register((MyExtensionPoint) this::doNothing, Position.OUTERMOST);
+	}
+
+	private void doNothing(String s) {
+	}
+}
@@ -12,6 +12,9 @@ package org.junit.gen5.engine.junit5.extension;
 
 import static org.junit.gen5.api.Assertions.*;
 
+import java.lang.reflect.Parameter;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.gen5.api.AfterAll;
 import org.junit.gen5.api.AfterEach;
 import org.junit.gen5.api.BeforeAll;
@@ -20,6 +23,8 @@ import org.junit.gen5.api.DisplayName;
 import org.junit.gen5.api.Test;
 import org.junit.gen5.api.TestInfo;
 import org.junit.gen5.api.extension.ExtendWith;
+import org.junit.gen5.api.extension.ExtensionContext;
+import org.junit.gen5.api.extension.MethodInvocationContext;
 import org.junit.gen5.api.extension.MethodParameterResolver;
 import org.junit.gen5.engine.ExecutionEventRecorder;
 import org.junit.gen5.engine.junit5.AbstractJUnit5TestEngineTests;
@@ -81,6 +86,17 @@ public class ParameterResolverTests extends AbstractJUnit5TestEngineTests {
 		assertEquals(0L, eventRecorder.getTestFailedCount(), "# tests failed");
 	}
 
+	@Test
+	public void resolversWithStableSupportAreOnlyAskedOncePerParameter() {
+		StableCustomTypeParameterResolver.supportsInvocations.set(0);
+
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(StableSupportTestCase.class);
+
+		assertEquals(3L, eventRecorder.getTestStartedCount(), "# tests started");
+		assertEquals(3L, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(2, StableCustomTypeParameterResolver.supportsInvocations.get(), "# supports invocations");
+	}
+
 	// -------------------------------------------------------------------
 
 	@ExtendWith({ CustomTypeParameterResolver.class, CustomAnnotationParameterResolver.class })
@@ -182,4 +198,44 @@ public class ParameterResolverTests extends AbstractJUnit5TestEngineTests {
 		}
 	}
 
+	@ExtendWith(StableCustomTypeParameterResolver.class)
+	private static class StableSupportTestCase {
+
+		@BeforeEach
+		void before(CustomType customType, TestInfo testInfo) {
+			assertNotNull(customType);
+			assertNotNull(testInfo);
+		}
+
+		@Test
+		void test1() {
+		}
+
+		@Test
+		void test2() {
+		}
+
+		@Test
+		void test3() {
+		}
+	}
+
+	private static class StableCustomTypeParameterResolver extends CustomTypeParameterResolver {
+
+		static final AtomicInteger supportsInvocations = new AtomicInteger();
+
+		@Override
+		public boolean supports(Parameter parameter, MethodInvocationContext methodInvocationContext,
+				ExtensionContext extensionContext) {
+
+			supportsInvocations.incrementAndGet();
+			return super.supports(parameter, methodInvocationContext, extensionContext);
+		}
+
+		@Override
+		public boolean hasStableSupport() {
+			return true;
+		}
+	}
+
 }
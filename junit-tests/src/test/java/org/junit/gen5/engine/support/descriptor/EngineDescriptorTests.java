@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.support.descriptor;
+
+import static org.junit.gen5.api.Assertions.*;
+
+import org.junit.gen5.api.Test;
+import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.TestDescriptorStub;
+
+public class EngineDescriptorTests {
+
+	private final EngineDescriptor engineDescriptor = new EngineDescriptor("engine", "Engine");
+
+	@Test
+	public void findsEngineDescriptorItself() {
+		assertSame(engineDescriptor, engineDescriptor.findByUniqueId("engine").get());
+	}
+
+	@Test
+	public void findsDescendantsAddedBeforeAndAfterAttachingToEngine() {
+		TestDescriptor container = new TestDescriptorStub("container");
+		TestDescriptor attachedBefore = new TestDescriptorStub("before");
+		container.addChild(attachedBefore);
+
+		engineDescriptor.addChild(container);
+		TestDescriptor attachedAfter = new TestDescriptorStub("after");
+		container.addChild(attachedAfter);
+
+		assertSame(container, engineDescriptor.findByUniqueId("container").get());
+		assertSame(attachedBefore, engineDescriptor.findByUniqueId("before").get());
+		assertSame(attachedAfter, engineDescriptor.findByUniqueId("after").get());
+		assertFalse(engineDescriptor.findByUniqueId("unknown").isPresent());
+	}
+
+	@Test
+	public void forgetsRemovedSubtrees() {
+		TestDescriptor container = new TestDescriptorStub("container");
+		TestDescriptor leaf = new TestDescriptorStub("leaf");
+		engineDescriptor.addChild(container);
+		container.addChild(leaf);
+
+		engineDescriptor.removeChild(container);
+
+		assertFalse(engineDescriptor.findByUniqueId("container").isPresent());
+		assertFalse(engineDescriptor.findByUniqueId("leaf").isPresent());
+		assertSame(leaf, container.findByUniqueId("leaf").get());
+	}
+
+	@Test
+	public void forgetsDescriptorsRemovedFromHierarchy() {
+		TestDescriptor container = new TestDescriptorStub("container");
+		TestDescriptor leaf = new TestDescriptorStub("leaf");
+		engineDescriptor.addChild(container);
+		container.addChild(leaf);
+
+		engineDescriptor.accept((descriptor, remove) -> {
+			if (descriptor.equals(leaf)) {
+				remove.run();
+			}
+		});
+
+		assertTrue(engineDescriptor.findByUniqueId("container").isPresent());
+		assertFalse(engineDescriptor.findByUniqueId("leaf").isPresent());
+	}
+
+}
@@ -57,13 +57,13 @@ public class AbstractTestDescriptorTests {
 	@Test
 	public void pruneLeaf() {
 		TestDescriptor.Visitor visitor = (TestDescriptor descriptor, Runnable delete) -> {
-			if (descriptor.getUniqueId().equals("leaf1-1"))
+			if (descriptor.getUniqueId().toString().equals("leaf1-1"))
 				delete.run();
 		};
 		engineDescriptor.accept(visitor);
 
 		List<String> visited = new ArrayList<>();
-		engineDescriptor.accept((descriptor, delete) -> visited.add(descriptor.getUniqueId()));
+		engineDescriptor.accept((descriptor, delete) -> visited.add(descriptor.getUniqueId().toString()));
 
 		assertEquals(7, visited.size());
 		assertTrue(visited.contains("group1"));
@@ -74,7 +74,7 @@ public class AbstractTestDescriptorTests {
 	public void pruneGroup() {
 		final AtomicInteger countVisited = new AtomicInteger();
 		TestDescriptor.Visitor visitor = (descriptor, delete) -> {
-			if (descriptor.getUniqueId().equals("group1"))
+			if (descriptor.getUniqueId().toString().equals("group1"))
 				delete.run();
 			countVisited.incrementAndGet();
 		};
@@ -83,7 +83,7 @@ public class AbstractTestDescriptorTests {
 		assertEquals(4, countVisited.get(), "Children of pruned element are not visited");
 
 		List<String> visited = new ArrayList<>();
-		engineDescriptor.accept((descriptor, delete) -> visited.add(descriptor.getUniqueId()));
+		engineDescriptor.accept((descriptor, delete) -> visited.add(descriptor.getUniqueId().toString()));
 
 		assertEquals(3, visited.size());
 		assertFalse(visited.contains("group1"));
@@ -99,7 +99,7 @@ class GroupDescriptor extends AbstractTestDescriptor {
 
 	@Override
 	public String getName() {
-		return getUniqueId();
+		return getUniqueId().toString();
 	}
 
 	@Override
@@ -126,7 +126,7 @@ class LeafDescriptor extends AbstractTestDescriptor {
 
 	@Override
 	public String getName() {
-		return getUniqueId();
+		return getUniqueId().toString();
 	}
 
 	@Override
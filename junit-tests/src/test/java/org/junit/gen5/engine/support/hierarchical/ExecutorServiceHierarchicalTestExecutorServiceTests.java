@@ -0,0 +1,63 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.support.hierarchical;
+
+import static java.util.Arrays.asList;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertSame;
+import static org.junit.gen5.api.Assertions.expectThrows;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.gen5.api.Test;
+import org.junit.gen5.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * Unit tests for {@link ExecutorServiceHierarchicalTestExecutorService}.
+ *
+ * @since 5.0
+ */
+class ExecutorServiceHierarchicalTestExecutorServiceTests {
+
+	@Test
+	void nestedInvocationsDoNotDeadlockOnBoundedExecutor() {
+		AtomicInteger executedTasks = new AtomicInteger();
+		TestTask leaf = executedTasks::incrementAndGet;
+
+		try (HierarchicalTestExecutorService service = new ExecutorServiceHierarchicalTestExecutorService(
+			Executors.newFixedThreadPool(1))) {
+			TestTask container = () -> service.invokeAll(asList(leaf, leaf, leaf));
+			service.invokeAll(asList(container, container, container));
+		}
+
+		assertEquals(9, executedTasks.get());
+	}
+
+	@Test
+	void blacklistedExceptionIsRethrownAfterAllTasksCompleted() {
+		AtomicInteger executedTasks = new AtomicInteger();
+		OutOfMemoryError outOfMemoryError = new OutOfMemoryError("in test");
+		TestTask failingTask = () -> {
+			throw outOfMemoryError;
+		};
+
+		try (HierarchicalTestExecutorService service = new ExecutorServiceHierarchicalTestExecutorService(
+			Executors.newFixedThreadPool(2))) {
+			Throwable actualException = expectThrows(OutOfMemoryError.class,
+				() -> service.invokeAll(asList(failingTask, executedTasks::incrementAndGet)));
+			assertSame(outOfMemoryError, actualException);
+		}
+
+		assertEquals(1, executedTasks.get());
+	}
+
+}
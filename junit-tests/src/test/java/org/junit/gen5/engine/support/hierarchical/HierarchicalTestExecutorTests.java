@@ -10,6 +10,8 @@
 
 package org.junit.gen5.engine.support.hierarchical;
 
+import static java.util.Collections.singleton;
+import static org.junit.gen5.api.Assertions.assertEquals;
 import static org.junit.gen5.api.Assertions.assertSame;
 import static org.junit.gen5.api.Assertions.assertTrue;
 import static org.junit.gen5.api.Assertions.expectThrows;
@@ -22,12 +24,18 @@ import static org.mockito.Mockito.stub;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.gen5.api.BeforeEach;
 import org.junit.gen5.api.Test;
 import org.junit.gen5.engine.EngineExecutionListener;
 import org.junit.gen5.engine.ExecutionRequest;
 import org.junit.gen5.engine.TestExecutionResult;
 import org.junit.gen5.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.gen5.engine.support.hierarchical.Node.ExecutionMode;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
@@ -349,6 +357,85 @@ public class HierarchicalTestExecutorTests {
 		assertSame(outOfMemoryError, actualException);
 	}
 
+	@Test
+	public void siblingsAreExecutedConcurrentlyIfParallelismIsGreaterThanOne() throws Exception {
+		CountDownLatch latch = new CountDownLatch(2);
+		MyLeaf child1 = spy(new AwaitingLeaf("leaf1", latch));
+		MyLeaf child2 = spy(new AwaitingLeaf("leaf2", latch));
+		root.addChild(child1);
+		root.addChild(child2);
+
+		try (HierarchicalTestExecutorService executorService = new ForkJoinPoolHierarchicalTestExecutorService(2)) {
+			new MyExecutor(new ExecutionRequest(root, listener), rootContext, executorService).execute();
+		}
+
+		ArgumentCaptor<TestExecutionResult> result1 = ArgumentCaptor.forClass(TestExecutionResult.class);
+		ArgumentCaptor<TestExecutionResult> result2 = ArgumentCaptor.forClass(TestExecutionResult.class);
+		verify(child1).execute(rootContext);
+		verify(child2).execute(rootContext);
+		verify(listener).executionFinished(eq(child1), result1.capture());
+		verify(listener).executionFinished(eq(child2), result2.capture());
+		assertTrue(result1.getValue().getStatus() == TestExecutionResult.Status.SUCCESSFUL);
+		assertTrue(result2.getValue().getStatus() == TestExecutionResult.Status.SUCCESSFUL);
+
+		InOrder inOrder = inOrder(listener, root);
+		inOrder.verify(listener).executionStarted(root);
+		inOrder.verify(root).afterAll(rootContext);
+		inOrder.verify(listener).executionFinished(eq(root), any(TestExecutionResult.class));
+	}
+
+	@Test
+	public void siblingsWithDifferentExecutionModesAreExecutedInDeclaredOrderBySameThreadService() throws Exception {
+		MyLeaf child1 = new ConcurrentLeaf("leaf1");
+		MyLeaf child2 = new MyLeaf("leaf2");
+		MyLeaf child3 = new ConcurrentLeaf("leaf3");
+		root.addChild(child1);
+		root.addChild(child2);
+		root.addChild(child3);
+
+		executor.execute();
+
+		InOrder inOrder = inOrder(listener);
+		inOrder.verify(listener).executionStarted(child1);
+		inOrder.verify(listener).executionStarted(child2);
+		inOrder.verify(listener).executionStarted(child3);
+	}
+
+	@Test
+	public void leavesSharingAnExclusiveResourceAreNotExecutedConcurrently() throws Exception {
+		AtomicInteger activeLeaves = new AtomicInteger();
+		AtomicInteger maxActiveLeaves = new AtomicInteger();
+		for (int i = 0; i < 4; i++) {
+			root.addChild(new LockingLeaf("leaf" + i, activeLeaves, maxActiveLeaves,
+				new ExclusiveResource("resource", ExclusiveResource.LockMode.READ_WRITE)));
+		}
+
+		try (HierarchicalTestExecutorService executorService = new ForkJoinPoolHierarchicalTestExecutorService(4)) {
+			new MyExecutor(new ExecutionRequest(root, listener), rootContext, executorService).execute();
+		}
+
+		assertEquals(1, maxActiveLeaves.get());
+	}
+
+	/**
+	 * Verifies support for blacklisted exceptions.
+	 */
+	@Test
+	public void outOfMemoryErrorInConcurrentLeafExecution() throws Exception {
+		MyLeaf child = spy(new MyLeaf("leaf"));
+		OutOfMemoryError outOfMemoryError = new OutOfMemoryError("in test");
+		stub(child.execute(rootContext)).toThrow(outOfMemoryError);
+		root.addChild(child);
+		root.addChild(new MyLeaf("sibling"));
+
+		try (HierarchicalTestExecutorService executorService = new ForkJoinPoolHierarchicalTestExecutorService(2)) {
+			executor = new MyExecutor(new ExecutionRequest(root, listener), rootContext, executorService);
+
+			Throwable actualException = expectThrows(OutOfMemoryError.class, () -> executor.execute());
+			assertSame(outOfMemoryError, actualException);
+		}
+	}
+
 	// -------------------------------------------------------------------
 
 	private static class MyEngineExecutionContext implements EngineExecutionContext {
@@ -362,12 +449,12 @@ public class HierarchicalTestExecutorTests {
 
 		@Override
 		public String getName() {
-			return getUniqueId();
+			return getUniqueId().toString();
 		}
 
 		@Override
 		public String getDisplayName() {
-			return getUniqueId();
+			return getUniqueId().toString();
 		}
 
 		@Override
@@ -395,12 +482,12 @@ public class HierarchicalTestExecutorTests {
 
 		@Override
 		public String getName() {
-			return getUniqueId();
+			return getUniqueId().toString();
 		}
 
 		@Override
 		public String getDisplayName() {
-			return getUniqueId();
+			return getUniqueId().toString();
 		}
 
 		@Override
@@ -414,11 +501,73 @@ public class HierarchicalTestExecutorTests {
 		}
 	}
 
+	private static class AwaitingLeaf extends MyLeaf {
+
+		private final CountDownLatch latch;
+
+		AwaitingLeaf(String uniqueId, CountDownLatch latch) {
+			super(uniqueId);
+			this.latch = latch;
+		}
+
+		@Override
+		public MyEngineExecutionContext execute(MyEngineExecutionContext context) throws Exception {
+			latch.countDown();
+			assertTrue(latch.await(5, TimeUnit.SECONDS), "sibling was not executed concurrently");
+			return context;
+		}
+	}
+
+	private static class ConcurrentLeaf extends MyLeaf {
+
+		ConcurrentLeaf(String uniqueId) {
+			super(uniqueId);
+		}
+
+		@Override
+		public ExecutionMode getExecutionMode() {
+			return ExecutionMode.CONCURRENT;
+		}
+	}
+
+	private static class LockingLeaf extends MyLeaf {
+
+		private final AtomicInteger activeLeaves;
+		private final AtomicInteger maxActiveLeaves;
+		private final Set<ExclusiveResource> exclusiveResources;
+
+		LockingLeaf(String uniqueId, AtomicInteger activeLeaves, AtomicInteger maxActiveLeaves,
+				ExclusiveResource exclusiveResource) {
+			super(uniqueId);
+			this.activeLeaves = activeLeaves;
+			this.maxActiveLeaves = maxActiveLeaves;
+			this.exclusiveResources = singleton(exclusiveResource);
+		}
+
+		@Override
+		public Set<ExclusiveResource> getExclusiveResources() {
+			return exclusiveResources;
+		}
+
+		@Override
+		public MyEngineExecutionContext execute(MyEngineExecutionContext context) throws Exception {
+			maxActiveLeaves.accumulateAndGet(activeLeaves.incrementAndGet(), Math::max);
+			Thread.sleep(20);
+			activeLeaves.decrementAndGet();
+			return context;
+		}
+	}
+
 	private static class MyExecutor extends HierarchicalTestExecutor<MyEngineExecutionContext> {
 
 		MyExecutor(ExecutionRequest request, MyEngineExecutionContext rootContext) {
 			super(request, rootContext);
 		}
+
+		MyExecutor(ExecutionRequest request, MyEngineExecutionContext rootContext,
+				HierarchicalTestExecutorService executorService) {
+			super(request, rootContext, executorService);
+		}
 	}
 
 }
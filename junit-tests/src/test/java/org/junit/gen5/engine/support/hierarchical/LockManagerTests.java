@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.support.hierarchical;
+
+import static java.util.Arrays.asList;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertFalse;
+import static org.junit.gen5.api.Assertions.assertSame;
+import static org.junit.gen5.api.Assertions.assertTrue;
+import static org.junit.gen5.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.gen5.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.gen5.api.Test;
+import org.junit.gen5.engine.support.hierarchical.LockManager.AcquiredLocks;
+
+/**
+ * Unit tests for {@link LockManager}.
+ *
+ * @since 5.0
+ */
+class LockManagerTests {
+
+	private final LockManager lockManager = new LockManager();
+
+	@Test
+	void locksAreOrderedByKeyAndUseStrongestMode() {
+		List<Lock> locks = lockManager.getLocks(asList(new ExclusiveResource("b", READ),
+			new ExclusiveResource("a", READ), new ExclusiveResource("b", READ_WRITE)));
+
+		assertEquals(2, locks.size());
+		assertTrue(locks.get(0) instanceof ReentrantReadWriteLock.ReadLock);
+		assertTrue(locks.get(1) instanceof ReentrantReadWriteLock.WriteLock);
+	}
+
+	@Test
+	void sameKeyYieldsSameLock() {
+		Lock lock1 = lockManager.getLocks(asList(new ExclusiveResource("key", READ_WRITE))).get(0);
+		Lock lock2 = lockManager.getLocks(asList(new ExclusiveResource("key", READ_WRITE))).get(0);
+
+		assertSame(lock1, lock2);
+	}
+
+	@Test
+	void acquiredLocksAreReleased() throws Exception {
+		ExclusiveResource resource = new ExclusiveResource("key", READ_WRITE);
+		ReentrantReadWriteLock.WriteLock lock = (ReentrantReadWriteLock.WriteLock) lockManager.getLocks(
+			asList(resource)).get(0);
+
+		AcquiredLocks acquiredLocks = lockManager.acquire(asList(resource));
+		assertTrue(lock.isHeldByCurrentThread());
+
+		acquiredLocks.release();
+		assertFalse(lock.isHeldByCurrentThread());
+	}
+
+}
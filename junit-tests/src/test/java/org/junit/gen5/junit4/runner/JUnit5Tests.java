@@ -103,8 +103,8 @@ class JUnit5Tests {
 
 			assertThat(request.getSelectors()).hasSize(2);
 			List<UniqueIdSelector> selectors = request.getSelectorsByType(UniqueIdSelector.class);
-			assertEquals("foo", selectors.get(0).getUniqueId());
-			assertEquals("bar", selectors.get(1).getUniqueId());
+			assertEquals("foo", selectors.get(0).getUniqueId().toString());
+			assertEquals("bar", selectors.get(1).getUniqueId().toString());
 		}
 
 		@Test
@@ -251,7 +251,7 @@ class JUnit5Tests {
 
 			TestDiscoveryRequest lastDiscoveryRequest = captor.getValue();
 			List<UniqueIdSelector> uniqueIdSelectors = lastDiscoveryRequest.getSelectorsByType(UniqueIdSelector.class);
-			assertEquals("leaf2b", getOnlyElement(uniqueIdSelectors).getUniqueId());
+			assertEquals("leaf2b", getOnlyElement(uniqueIdSelectors).getUniqueId().toString());
 
 			Description parentDescription = getOnlyElement(runner.getDescription().getChildren());
 			assertEquals(suiteDescription("parent2"), parentDescription);
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.launcher;
+
+import static java.util.Collections.singleton;
+import static org.junit.gen5.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.gen5.api.Test;
+import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.TestDescriptorStub;
+
+/**
+ * Unit tests for {@link TestPlan}.
+ *
+ * @since 5.0
+ */
+class TestPlanTests {
+
+	@Test
+	void childrenCanBeAddedConcurrently() throws Exception {
+		TestDescriptor engineDescriptor = new TestDescriptorStub("engine");
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestIdentifier root = testPlan.getRoots().iterator().next();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 1000; i++) {
+				TestDescriptorStub child = new TestDescriptorStub("engine:child" + i);
+				engineDescriptor.addChild(child);
+				futures.add(executorService.submit(() -> {
+					testPlan.add(TestIdentifier.from(child));
+					testPlan.getChildren(root).size();
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertEquals(1000, testPlan.getChildren(root).size());
+		assertEquals(1001L, testPlan.countTestIdentifiers(testIdentifier -> true));
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.launcher.main;
+
+import static java.util.Collections.emptyList;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertFalse;
+import static org.junit.gen5.api.Assertions.assertNotEquals;
+import static org.junit.gen5.api.Assertions.expectThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.gen5.api.Test;
+import org.junit.gen5.engine.TestDescriptorStub;
+import org.junit.gen5.engine.TestExecutionResult;
+import org.junit.gen5.launcher.TestExecutionListener;
+import org.junit.gen5.launcher.TestIdentifier;
+import org.junit.gen5.launcher.TestPlan;
+
+/**
+ * Unit tests for {@link AsynchronousTestExecutionListener}.
+ *
+ * @since 5.0
+ */
+class AsynchronousTestExecutionListenerTests {
+
+	@Test
+	void allEventsAreDeliveredInOrderInConsumerThreadBeforeTestPlanExecutionFinishedReturns() {
+		RecordingListener recordingListener = new RecordingListener();
+		TestExecutionListener listener = new AsynchronousTestExecutionListener(recordingListener, 2);
+		TestPlan testPlan = TestPlan.from(emptyList());
+
+		listener.testPlanExecutionStarted(testPlan);
+		for (int i = 0; i < 100; i++) {
+			TestIdentifier testIdentifier = TestIdentifier.from(new TestDescriptorStub("test" + i));
+			listener.executionStarted(testIdentifier);
+			listener.executionFinished(testIdentifier, TestExecutionResult.successful());
+		}
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertEquals(202, recordingListener.events.size());
+		assertEquals("testPlanExecutionStarted", recordingListener.events.get(0));
+		assertEquals("executionStarted:test0", recordingListener.events.get(1));
+		assertEquals("executionFinished:test0", recordingListener.events.get(2));
+		assertEquals("executionFinished:test99", recordingListener.events.get(200));
+		assertEquals("testPlanExecutionFinished", recordingListener.events.get(201));
+		assertNotEquals(Thread.currentThread(), recordingListener.thread);
+	}
+
+	@Test
+	void exceptionsThrownByListenersDoNotPreventDeliveryOfSubsequentEvents() {
+		RecordingListener recordingListener = new RecordingListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				throw new IllegalStateException("listener failure");
+			}
+		};
+		TestExecutionListener listener = new AsynchronousTestExecutionListener(recordingListener, 2);
+		TestPlan testPlan = TestPlan.from(emptyList());
+		TestIdentifier testIdentifier = TestIdentifier.from(new TestDescriptorStub("test"));
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(testIdentifier);
+		listener.executionFinished(testIdentifier, TestExecutionResult.successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertEquals(3, recordingListener.events.size());
+		assertEquals("executionFinished:test", recordingListener.events.get(1));
+	}
+
+	@Test
+	void shutdownDeliversPendingEventsAndTerminatesConsumerThread() throws Exception {
+		RecordingListener recordingListener = new RecordingListener();
+		AsynchronousTestExecutionListener listener = new AsynchronousTestExecutionListener(recordingListener, 2);
+		TestIdentifier testIdentifier = TestIdentifier.from(new TestDescriptorStub("test"));
+
+		listener.testPlanExecutionStarted(TestPlan.from(emptyList()));
+		listener.executionStarted(testIdentifier);
+		listener.shutdown();
+
+		assertEquals(2, recordingListener.events.size());
+		assertEquals("executionStarted:test", recordingListener.events.get(1));
+		recordingListener.thread.join(10_000);
+		assertFalse(recordingListener.thread.isAlive());
+	}
+
+	@Test
+	void errorsThrownByListenersAreRethrownToNotifyingThread() {
+		RecordingListener recordingListener = new RecordingListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				throw new AssertionError("listener error");
+			}
+		};
+		TestExecutionListener listener = new AsynchronousTestExecutionListener(recordingListener, 2);
+		TestPlan testPlan = TestPlan.from(emptyList());
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(TestIdentifier.from(new TestDescriptorStub("test")));
+		AssertionError error = expectThrows(AssertionError.class, () -> listener.testPlanExecutionFinished(testPlan));
+
+		assertEquals("listener error", error.getMessage());
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		final List<String> events = new ArrayList<>();
+		volatile Thread thread;
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			thread = Thread.currentThread();
+			events.add("testPlanExecutionStarted");
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			events.add("testPlanExecutionFinished");
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			events.add("executionStarted:" + testIdentifier.getUniqueId());
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			events.add("executionFinished:" + testIdentifier.getUniqueId());
+		}
+	}
+
+}
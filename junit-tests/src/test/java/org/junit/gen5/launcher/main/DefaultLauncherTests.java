@@ -10,6 +10,7 @@
 
 package org.junit.gen5.launcher.main;
 
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.gen5.api.Assertions.expectThrows;
 import static org.junit.gen5.engine.discovery.UniqueIdSelector.forUniqueId;
@@ -17,10 +18,19 @@ import static org.junit.gen5.launcher.EngineIdFilter.byEngineId;
 import static org.junit.gen5.launcher.main.LauncherFactoryForTestingPurposesOnly.createLauncher;
 import static org.junit.gen5.launcher.main.TestDiscoveryRequestBuilder.request;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.gen5.api.Test;
 import org.junit.gen5.commons.JUnitException;
+import org.junit.gen5.engine.EngineDiscoveryRequest;
+import org.junit.gen5.engine.ExecutionRequest;
 import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.TestDescriptorStub;
+import org.junit.gen5.engine.TestEngine;
+import org.junit.gen5.engine.support.descriptor.EngineDescriptor;
 import org.junit.gen5.engine.support.hierarchical.DummyTestEngine;
+import org.junit.gen5.launcher.TestExecutionListener;
 import org.junit.gen5.launcher.TestId;
 import org.junit.gen5.launcher.TestIdentifier;
 import org.junit.gen5.launcher.TestPlan;
@@ -109,6 +119,56 @@ class DefaultLauncherTests {
 		assertThat(testPlan.getChildren(new TestId("first"))).hasSize(1);
 	}
 
+	@Test
+	void eventsArePublishedAndDispatcherThreadTerminatesIfEngineFailsDuringAsynchronousDispatch()
+			throws Exception {
+		TestEngine failingEngine = new TestEngine() {
+
+			@Override
+			public String getId() {
+				return "failing";
+			}
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest) {
+				EngineDescriptor engineDescriptor = new EngineDescriptor(getId(), "Failing Engine");
+				engineDescriptor.addChild(new TestDescriptorStub("failing:test"));
+				return engineDescriptor;
+			}
+
+			@Override
+			public void execute(ExecutionRequest request) {
+				request.getEngineExecutionListener().executionStarted(request.getRootTestDescriptor());
+				throw new IllegalStateException("engine failure");
+			}
+		};
+		List<String> events = new ArrayList<>();
+		List<Thread> threads = new ArrayList<>();
+		DefaultLauncher launcher = new DefaultLauncher(singletonList(failingEngine), true);
+		launcher.registerTestExecutionListeners(new TestExecutionListener() {
+
+			@Override
+			public void testPlanExecutionStarted(TestPlan testPlan) {
+				threads.add(Thread.currentThread());
+				events.add("testPlanExecutionStarted");
+			}
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				events.add("executionStarted:" + testIdentifier.getUniqueId());
+			}
+		});
+
+		IllegalStateException exception = expectThrows(IllegalStateException.class,
+			() -> launcher.execute(request().build()));
+
+		assertThat(exception).hasMessage("engine failure");
+		assertThat(events).containsExactly("testPlanExecutionStarted", "executionStarted:failing");
+		assertThat(threads).hasSize(1);
+		threads.get(0).join(10_000);
+		assertThat(threads.get(0).isAlive()).isFalse();
+	}
+
 	private static Runnable noOp() {
 		return () -> {
 		};
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.launcher.main;
+
+import static org.junit.gen5.api.Assertions.*;
+import static org.junit.gen5.launcher.main.TestDiscoveryRequestBuilder.request;
+
+import org.junit.gen5.api.Test;
+import org.junit.gen5.engine.FilterResult;
+import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.TestDescriptorStub;
+import org.junit.gen5.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.gen5.engine.support.hierarchical.DummyTestEngine;
+import org.junit.gen5.launcher.PostDiscoveryFilter;
+import org.junit.gen5.launcher.TestDiscoveryRequest;
+
+public class RootTests {
+
+	private final DummyTestEngine engine = new DummyTestEngine("engine");
+	private final TestDescriptor engineDescriptor = engine.getEngineDescriptor();
+
+	@Test
+	public void prunesContainersWhoseTestsAreAllExcluded() {
+		TestDescriptor keptContainer = addContainer(engineDescriptor, "kept");
+		TestDescriptor keptTest = addTest(keptContainer, "kept-test");
+		TestDescriptor excludedTest = addTest(keptContainer, "excluded-test-1");
+		TestDescriptor prunedContainer = addContainer(engineDescriptor, "pruned");
+		TestDescriptor nestedContainer = addContainer(prunedContainer, "nested");
+		addTest(nestedContainer, "excluded-test-2");
+
+		Root root = filterAndPrune(excludingUniqueIdsStartingWith("excluded"));
+
+		assertSame(engineDescriptor, root.getTestDescriptorFor(engine));
+		assertEquals(1, engineDescriptor.getChildren().size());
+		assertTrue(engineDescriptor.getChildren().contains(keptContainer));
+		assertEquals(1, keptContainer.getChildren().size());
+		assertTrue(keptContainer.getChildren().contains(keptTest));
+		assertFalse(excludedTest.getParent().isPresent());
+		assertFalse(prunedContainer.getParent().isPresent());
+	}
+
+	@Test
+	public void prunesContainersWithoutTests() {
+		TestDescriptor container = addContainer(engineDescriptor, "container");
+		addContainer(container, "empty");
+		TestDescriptor test = addTest(container, "test");
+
+		filterAndPrune(descriptor -> FilterResult.included("always"));
+
+		assertEquals(1, container.getChildren().size());
+		assertTrue(container.getChildren().contains(test));
+	}
+
+	@Test
+	public void removesEnginesWithoutRemainingTests() {
+		addTest(addContainer(engineDescriptor, "container"), "excluded-test");
+
+		Root root = filterAndPrune(excludingUniqueIdsStartingWith("excluded"));
+
+		assertFalse(root.getTestEngines().iterator().hasNext());
+	}
+
+	private Root filterAndPrune(PostDiscoveryFilter filter) {
+		Root root = new Root();
+		root.add(engine, engineDescriptor);
+		TestDiscoveryRequest discoveryRequest = request().filter(filter).build();
+		root.applyPostDiscoveryFiltersAndPrune(discoveryRequest);
+		return root;
+	}
+
+	private static PostDiscoveryFilter excludingUniqueIdsStartingWith(String prefix) {
+		return descriptor -> FilterResult.includedIf(!descriptor.getUniqueId().toString().startsWith(prefix));
+	}
+
+	private static TestDescriptor addContainer(TestDescriptor parent, String uniqueId) {
+		TestDescriptor container = new ContainerStub(uniqueId);
+		parent.addChild(container);
+		return container;
+	}
+
+	private static TestDescriptor addTest(TestDescriptor parent, String uniqueId) {
+		TestDescriptor test = new TestDescriptorStub(uniqueId);
+		parent.addChild(test);
+		return test;
+	}
+
+	private static class ContainerStub extends AbstractTestDescriptor {
+
+		ContainerStub(String uniqueId) {
+			super(uniqueId);
+		}
+
+		@Override
+		public String getName() {
+			return getUniqueId().toString();
+		}
+
+		@Override
+		public String getDisplayName() {
+			return getUniqueId().toString();
+		}
+
+		@Override
+		public boolean isTest() {
+			return false;
+		}
+
+		@Override
+		public boolean isContainer() {
+			return true;
+		}
+	}
+
+}
@@ -154,7 +154,7 @@ public class TestDiscoveryRequestBuilderTests {
         // @formatter:on
 
 		List<String> uniqueIds = discoveryRequest.getSelectorsByType(UniqueIdSelector.class).stream().map(
-			UniqueIdSelector::getUniqueId).collect(toList());
+			selector -> selector.getUniqueId().toString()).collect(toList());
 
 		assertThat(uniqueIds).contains("engine:bla:foo:bar:id1", "engine:bla:foo:bar:id2");
 	}
@@ -51,7 +51,7 @@ public class JUnit4TestDescriptor extends AbstractTestDescriptor {
 
 	JUnit4TestDescriptor(TestDescriptor parent, char separator, String uniqueIdSuffix, Description description,
 			Optional<? extends TestSource> source) {
-		super(parent.getUniqueId() + separator + uniqueIdSuffix);
+		super(parent.getUniqueId().append(separator, uniqueIdSuffix));
 		this.description = description;
 		source.ifPresent(this::setSource);
 	}
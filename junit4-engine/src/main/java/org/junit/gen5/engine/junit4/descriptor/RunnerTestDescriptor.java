@@ -35,6 +35,7 @@ public class RunnerTestDescriptor extends JUnit4TestDescriptor {
 		super(parent, SEPARATOR, testClass.getName(), runner.getDescription(), Optional.of(new JavaSource(testClass)));
 		this.testClass = testClass;
 		this.runner = runner;
+		enableUniqueIdIndex();
 	}
 
 	public Runner getRunner() {
@@ -22,7 +22,8 @@ class ClasspathSelectorResolver extends DiscoverySelectorResolver<ClasspathSelec
 
 	@Override
 	void resolve(ClasspathSelector selector, TestClassCollector collector) {
-		findAllClassesInClasspathRoot(selector.getClasspathRoot(), classTester).forEach(collector::addCompletely);
+		findAllClassesInClasspathRoot(selector.getClasspathRoot(), classFileFilter, classTester).forEach(
+			collector::addCompletely);
 	}
 
 }
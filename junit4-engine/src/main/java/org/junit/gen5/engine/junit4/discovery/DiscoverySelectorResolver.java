@@ -10,10 +10,23 @@
 
 package org.junit.gen5.engine.junit4.discovery;
 
+import org.junit.gen5.commons.util.ClassFileFilter;
 import org.junit.gen5.engine.DiscoverySelector;
 
 abstract class DiscoverySelectorResolver<T extends DiscoverySelector> {
 
+	/**
+	 * Rejects classes before they are loaded unless they reference one of
+	 * the types JUnit 4 recognizes test classes by: {@code @Test},
+	 * {@code @Ignore}, {@code @RunWith}, JUnit 3 test cases, and
+	 * {@code suite()} methods returning a JUnit 3 {@code Test}. The stateless
+	 * {@link IsPotentialJUnit4TestClass} allows scans to be indexed.
+	 */
+	protected static final ClassFileFilter classFileFilter = ClassFileFilter.referencingAnyOf(
+		org.junit.Test.class.getName(), org.junit.Ignore.class.getName(), org.junit.runner.RunWith.class.getName(),
+		junit.framework.TestCase.class.getName(), junit.framework.Test.class.getName()).withScanIndexKey(
+			IsPotentialJUnit4TestClass.class.getName());
+
 	protected final IsPotentialJUnit4TestClass classTester = new IsPotentialJUnit4TestClass();
 	private final Class<T> selectorClass;
 
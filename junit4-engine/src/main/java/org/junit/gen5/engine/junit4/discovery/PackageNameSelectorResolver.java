@@ -22,7 +22,8 @@ class PackageNameSelectorResolver extends DiscoverySelectorResolver<PackageSelec
 
 	@Override
 	void resolve(PackageSelector selector, TestClassCollector collector) {
-		findAllClassesInPackage(selector.getPackageName(), classTester).forEach(collector::addCompletely);
+		findAllClassesInPackage(selector.getPackageName(), classFileFilter, classTester).forEach(
+			collector::addCompletely);
 	}
 
 }
@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import org.junit.gen5.commons.util.ReflectionUtils;
+import org.junit.gen5.engine.UniqueId;
 import org.junit.gen5.engine.discovery.UniqueIdSelector;
 import org.junit.gen5.engine.junit4.descriptor.RunnerTestDescriptor;
 
@@ -33,18 +34,18 @@ class UniqueIdSelectorResolver extends DiscoverySelectorResolver<UniqueIdSelecto
 
 	@Override
 	void resolve(UniqueIdSelector selector, TestClassCollector collector) {
-		String uniqueId = selector.getUniqueId();
+		String uniqueId = selector.getUniqueId().toString();
 		if (ENGINE_ID.equals(uniqueId)) {
 			logger.warning(
 				() -> format("Unresolvable Unique ID (%s): Cannot resolve the engine's unique ID", uniqueId));
 		}
 		else if (uniqueId.startsWith(ENGINE_PREFIX)) {
 			String testClassName = determineTestClassName(uniqueId, ENGINE_PREFIX);
-			resolveIntoFilteredTestClass(testClassName, uniqueId, collector);
+			resolveIntoFilteredTestClass(testClassName, selector.getUniqueId(), collector);
 		}
 	}
 
-	private void resolveIntoFilteredTestClass(String testClassName, String uniqueId, TestClassCollector collector) {
+	private void resolveIntoFilteredTestClass(String testClassName, UniqueId uniqueId, TestClassCollector collector) {
 		Optional<Class<?>> testClass = ReflectionUtils.loadClass(testClassName);
 		if (testClass.isPresent()) {
 			collector.addFiltered(testClass.get(), new UniqueIdFilter(uniqueId));
@@ -34,6 +34,7 @@ import org.junit.gen5.launcher.Launcher;
 import org.junit.gen5.launcher.PostDiscoveryFilter;
 import org.junit.gen5.launcher.TagFilter;
 import org.junit.gen5.launcher.TestDiscoveryRequest;
+import org.junit.gen5.launcher.TestId;
 import org.junit.gen5.launcher.TestIdentifier;
 import org.junit.gen5.launcher.TestPlan;
 import org.junit.gen5.launcher.main.LauncherFactory;
@@ -222,7 +223,7 @@ public class JUnit5 extends Runner implements Filterable {
 		// @formatter:off
 		List<DiscoverySelector> selectors = testIdentifiers.stream()
 				.map(TestIdentifier::getUniqueId)
-				.map(Object::toString)
+				.map(TestId::toUniqueId)
 				.map(UniqueIdSelector::forUniqueId)
 				.collect(toList());
 		// @formatter:on
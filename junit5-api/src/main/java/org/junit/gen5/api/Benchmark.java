@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * {@code @Benchmark} is used to signal that the annotated method is a
+ * <em>benchmark</em>, i.e. a {@link Test @Test} method whose execution time
+ * is measured.
+ *
+ * <p>The method is first invoked for a number of {@linkplain
+ * #warmupIterations warm-up iterations}, whose timings are discarded, and
+ * then for a number of {@linkplain #iterations measured iterations}. Each
+ * iteration consists of {@linkplain #invocationsPerIteration several
+ * invocations}. Values returned by the method are consumed so that the
+ * JIT compiler cannot eliminate the computation that produced them.
+ * {@link BeforeEach @BeforeEach} and {@link AfterEach @AfterEach} methods
+ * are invoked once around all iterations.
+ *
+ * <p>The mean time per invocation, its percentiles across the measured
+ * iterations, and the resulting number of operations per second are
+ * published as a report entry. A benchmark fails if it exceeds one of its
+ * optional thresholds.
+ *
+ * @since 5.0
+ * @see Test
+ * @see TestReporter
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Test
+@API(Experimental)
+public @interface Benchmark {
+
+	/**
+	 * The number of iterations to execute before measuring; must not be negative.
+	 */
+	int warmupIterations() default 5;
+
+	/**
+	 * The number of measured iterations; must be greater than zero.
+	 */
+	int iterations() default 10;
+
+	/**
+	 * The number of invocations of the method per iteration; must be greater than zero.
+	 */
+	int invocationsPerIteration() default 100;
+
+	/**
+	 * The maximum mean time per invocation in nanoseconds, or {@code 0}
+	 * for no limit.
+	 */
+	long maxMeanNanos() default 0;
+
+	/**
+	 * The minimum number of invocations per second, or {@code 0} for no
+	 * limit.
+	 */
+	double minOpsPerSecond() default 0;
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * {@code @Execution} is used to configure the {@linkplain ExecutionMode
+ * execution mode} of the annotated test class or test method when tests
+ * are executed in parallel.
+ *
+ * <p>Test classes are executed concurrently with other test classes by
+ * default. Test methods and {@link Nested @Nested} test classes inherit the
+ * execution mode declared on their enclosing class; if none is declared,
+ * they are executed sequentially. Annotating a test class with
+ * {@code @Execution(CONCURRENT)} therefore enables method-level
+ * parallelism for that class only.
+ *
+ * @since 5.0
+ * @see ExecutionMode
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@API(Experimental)
+public @interface Execution {
+
+	/**
+	 * The execution mode of the annotated test class or test method.
+	 */
+	ExecutionMode value();
+
+}
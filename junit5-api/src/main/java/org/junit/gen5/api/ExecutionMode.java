@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * The execution mode of a test class or test method declared via
+ * {@link Execution @Execution}.
+ *
+ * @since 5.0
+ * @see Execution
+ */
+@API(Experimental)
+public enum ExecutionMode {
+
+	/**
+	 * Executed concurrently with its siblings.
+	 */
+	CONCURRENT,
+
+	/**
+	 * Executed sequentially with all of its siblings that are executed in
+	 * the same mode.
+	 */
+	SAME_THREAD
+
+}
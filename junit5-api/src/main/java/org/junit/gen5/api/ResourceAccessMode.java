@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * The access mode of a shared resource declared via {@link ResourceLock @ResourceLock}.
+ *
+ * @since 5.0
+ * @see ResourceLock
+ */
+@API(Experimental)
+public enum ResourceAccessMode {
+
+	/**
+	 * The resource is only read; tests that read the same resource may be
+	 * executed concurrently.
+	 */
+	READ,
+
+	/**
+	 * The resource is read and written; tests that access the same resource
+	 * are never executed concurrently with a test writing it.
+	 */
+	READ_WRITE
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * {@code @ResourceLock} is a {@linkplain Repeatable repeatable} annotation
+ * that is used to declare that the annotated test class or test method
+ * requires access to a shared resource identified by a key.
+ *
+ * <p>When tests are executed in parallel, tests that declare the same key
+ * are synchronized according to their {@linkplain #mode access mode}: tests
+ * that only read the resource may be executed concurrently whereas a test
+ * that writes it is executed exclusively. A lock declared on a test class
+ * is held while the entire class, including all of its test methods and
+ * nested classes, is executed.
+ *
+ * @since 5.0
+ * @see ResourceLocks
+ * @see ResourceAccessMode
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Repeatable(ResourceLocks.class)
+@API(Experimental)
+public @interface ResourceLock {
+
+	/**
+	 * The key that identifies the shared resource, e.g. {@code "java.lang.System.properties"}.
+	 */
+	String value();
+
+	/**
+	 * The mode in which the shared resource is accessed.
+	 *
+	 * <p>Defaults to {@link ResourceAccessMode#READ_WRITE READ_WRITE}.
+	 */
+	ResourceAccessMode mode() default ResourceAccessMode.READ_WRITE;
+
+}
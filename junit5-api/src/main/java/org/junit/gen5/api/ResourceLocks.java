@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * {@code @ResourceLocks} is a container for one or more {@code @ResourceLock}
+ * declarations.
+ *
+ * <p>Note, however, that use of the {@code @ResourceLocks} container is
+ * completely optional since {@code @ResourceLock} is a
+ * {@linkplain java.lang.annotation.Repeatable repeatable} annotation.
+ *
+ * @since 5.0
+ * @see ResourceLock
+ * @see java.lang.annotation.Repeatable
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@API(Experimental)
+public @interface ResourceLocks {
+
+	/**
+	 * An array of one or more {@link ResourceLock ResourceLocks}.
+	 */
+	ResourceLock[]value();
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * {@code @TestInstance} is used to configure the {@linkplain Lifecycle
+ * lifecycle} of test instances for the annotated test class.
+ *
+ * <p>By default, a new instance of the test class is created for each test
+ * method. With {@code @TestInstance(PER_CLASS)} a single instance is created
+ * before any {@link BeforeAll @BeforeAll} methods are invoked and is then
+ * used for all test methods of the class and as the enclosing instance of
+ * its {@link Nested @Nested} test classes. {@code @BeforeAll} and
+ * {@link AfterAll @AfterAll} methods of such a class are not required to be
+ * {@code static}.
+ *
+ * <p>Note that test methods of a class using the per-class lifecycle share
+ * the state of their instance, even if they are executed concurrently.
+ *
+ * @since 5.0
+ * @see Lifecycle
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@API(Experimental)
+public @interface TestInstance {
+
+	/**
+	 * The lifecycle of test instances.
+	 */
+	enum Lifecycle {
+
+		/**
+		 * A single test instance is used for all test methods of a class.
+		 */
+		PER_CLASS,
+
+		/**
+		 * A new test instance is created for each test method.
+		 */
+		PER_METHOD
+
+	}
+
+	/**
+	 * The lifecycle of the instances of the annotated test class.
+	 */
+	Lifecycle value();
+
+}
@@ -33,6 +33,10 @@ public interface ExtensionContext {
 
 	/**
 	 * Get the parent extension context if there is one.
+	 *
+	 * <p>The outermost context belongs to the test engine itself; it is
+	 * shared by all test classes and has neither a {@linkplain #getTestClass
+	 * test class} nor an {@linkplain #getElement annotated element}.
 	 */
 	Optional<ExtensionContext> getParent();
 
@@ -62,6 +66,8 @@ public interface ExtensionContext {
 
 	/**
 	 * Get the {@link Class} associated with the current test or container.
+	 *
+	 * @return the class; {@code null} for the context of the test engine
 	 */
 	Class<?> getTestClass();
 
@@ -78,6 +84,8 @@ public interface ExtensionContext {
 	 * {@link AnnotatedElement} API suits the task at hand (e.g., when
 	 * looking up annotations regardless of concrete element type).
 	 *
+	 * @return the annotated element; {@code null} for the context of the
+	 * test engine
 	 * @see #getTestClass()
 	 */
 	AnnotatedElement getElement();
@@ -109,9 +117,35 @@ public interface ExtensionContext {
 
 	/**
 	 * {@code Store} provides methods for extensions to save and retrieve data.
+	 *
+	 * <p>Values are kept until the test or container of the owning
+	 * {@link ExtensionContext} has finished. Stored values that implement
+	 * {@link CloseableResource} are then closed in the reverse order in
+	 * which they were stored. The store of the outermost context, which
+	 * represents the engine, lives until all tests have been executed and
+	 * can therefore be used to share expensive resources among all test
+	 * classes.
 	 */
 	interface Store {
 
+		/**
+		 * A stored value that is closed when its {@link Store} is discarded.
+		 *
+		 * @since 5.0
+		 */
+		@API(Experimental)
+		interface CloseableResource {
+
+			/**
+			 * Close underlying resources.
+			 *
+			 * @throws Throwable any throwable will be reported as a failure
+			 * of the test or container that owns the store
+			 */
+			void close() throws Throwable;
+
+		}
+
 		/**
 		 * Get an object that has been stored using a {@code key}.
 		 *
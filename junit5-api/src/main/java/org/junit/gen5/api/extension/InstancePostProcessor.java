@@ -22,6 +22,15 @@ import org.junit.gen5.commons.meta.API;
  * instance, invoking custom initialization methods on the test instance,
  * etc.
  *
+ * <p>A test instance that is shared by all test methods of a class with
+ * {@link org.junit.gen5.api.TestInstance.Lifecycle#PER_CLASS PER_CLASS}
+ * lifecycle is post-processed by the extensions of its class only once,
+ * before any {@code @BeforeAll} method is invoked; the supplied context then
+ * has no test method, and values stored in it remain available until all
+ * {@code @AfterAll} methods have been invoked. Extensions registered for a
+ * single test method still post-process the shared instance before that
+ * method is invoked.
+ *
  * <p>Implementations must provide a no-args constructor.
  *
  * @since 5.0
@@ -47,6 +47,24 @@ public interface MethodParameterResolver extends ExtensionPoint {
 	boolean supports(Parameter parameter, MethodInvocationContext methodInvocationContext,
 			ExtensionContext extensionContext) throws ParameterResolutionException;
 
+	/**
+	 * Determine if the result of {@link #supports} depends solely on the
+	 * given {@link Parameter} and not on the {@link MethodInvocationContext}
+	 * or {@link ExtensionContext}.
+	 *
+	 * <p>If so, the engine may remember which parameters of a method this
+	 * resolver supports and skip {@link #supports} for subsequent invocations
+	 * of the same method.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @return {@code true} if support for a parameter never changes
+	 * @see #supports
+	 */
+	default boolean hasStableSupport() {
+		return false;
+	}
+
 	/**
 	 * Resolve the given {@link Parameter} for the supplied {@link MethodInvocationContext}
 	 * and {@link ExtensionContext}.
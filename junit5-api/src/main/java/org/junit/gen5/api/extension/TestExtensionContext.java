@@ -27,5 +27,12 @@ public interface TestExtensionContext extends ExtensionContext {
 
 	Object getTestInstance();
 
+	/**
+	 * Get the test method of the current test.
+	 *
+	 * @return the test method; {@code null} if a test instance that is
+	 * shared by all test methods of its class is being post-processed
+	 * @see InstancePostProcessor
+	 */
 	Method getTestMethod();
 }
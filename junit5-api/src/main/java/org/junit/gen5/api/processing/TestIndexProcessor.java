@@ -0,0 +1,272 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.api.processing;
+
+import static org.junit.gen5.commons.meta.API.Usage.Experimental;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.junit.gen5.api.Nested;
+import org.junit.gen5.api.Tag;
+import org.junit.gen5.api.Tags;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.api.extension.ExtendWith;
+import org.junit.gen5.api.extension.Extensions;
+import org.junit.gen5.commons.meta.API;
+
+/**
+ * Annotation processor that writes the names of all compiled classes that
+ * may contain tests to the {@linkplain #INDEX_RESOURCE_NAME test index}.
+ *
+ * <p>A class is indexed if it, one of its methods, one of its nested
+ * classes, or one of its supertypes is annotated with {@link Test @Test},
+ * {@link Nested @Nested}, {@link Tag @Tag}, or {@link ExtendWith @ExtendWith},
+ * either directly or via meta-annotations. All other compiled top-level
+ * types are listed with a {@value #COMPILED_CLASS_PREFIX} prefix, so that
+ * class files which were compiled without this processor can be detected
+ * and the classpath root is scanned instead. Classes of previous
+ * compilations remain in the index, so incremental compilation never drops
+ * tests from it; entries for classes that no longer exist are ignored when
+ * the index is read.
+ *
+ * <p>If the index cannot be created completely, an index left behind by a
+ * previous compilation is deleted and no new one is written.
+ *
+ * <p>The processor is registered as a service and is thus applied
+ * automatically whenever {@code junit5-api} is on the compiler's classpath.
+ *
+ * @since 5.0
+ */
+@API(Experimental)
+@SupportedAnnotationTypes("*")
+public class TestIndexProcessor extends AbstractProcessor {
+
+	/**
+	 * Name of the test index resource within a classpath root: {@value}
+	 *
+	 * <p>It contains one binary class name per line; lines starting with
+	 * {@code #} are comments.
+	 */
+	public static final String INDEX_RESOURCE_NAME = "META-INF/junit-test-index";
+
+	/**
+	 * Prefix of index lines that name compiled top-level types which do
+	 * not contain tests: {@value}
+	 */
+	public static final String COMPILED_CLASS_PREFIX = "-";
+
+	private static final Set<String> INDEXED_ANNOTATIONS = new HashSet<>(
+		Arrays.asList(Test.class.getName(), Nested.class.getName(), Tag.class.getName(), Tags.class.getName(),
+			ExtendWith.class.getName(), Extensions.class.getName()));
+
+	private final Set<String> classNames = new TreeSet<>();
+
+	private final Set<String> compiledClassNames = new TreeSet<>();
+
+	private boolean failed;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+		if (this.failed) {
+			return false;
+		}
+		try {
+			if (roundEnvironment.processingOver()) {
+				writeIndex();
+			}
+			else {
+				for (Element element : roundEnvironment.getRootElements()) {
+					collectCompiledClass(element);
+					collectTestClasses(element);
+				}
+			}
+		}
+		catch (RuntimeException | IOException e) {
+			// An incomplete index would hide tests, so neither write nor keep one
+			this.failed = true;
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+				"Failed to create JUnit test index: " + e);
+			deleteIndex();
+		}
+		// Never claim any annotations
+		return false;
+	}
+
+	private void collectCompiledClass(Element element) {
+		if (element.getKind().isClass() || element.getKind().isInterface()) {
+			TypeElement type = (TypeElement) element;
+			this.compiledClassNames.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+		}
+	}
+
+	private void collectTestClasses(Element element) {
+		if (element.getKind() == ElementKind.CLASS) {
+			TypeElement type = (TypeElement) element;
+			if (mayContainTests(type, new HashSet<>())) {
+				this.classNames.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+			}
+		}
+		if (element.getKind().isClass() || element.getKind().isInterface()) {
+			for (Element enclosed : element.getEnclosedElements()) {
+				collectTestClasses(enclosed);
+			}
+		}
+	}
+
+	/**
+	 * @param visited the types that have already been checked; nested
+	 * classes may extend their enclosing class
+	 */
+	private boolean mayContainTests(TypeElement type, Set<TypeElement> visited) {
+		if (!visited.add(type)) {
+			return false;
+		}
+		if (isAnnotated(type) || hasAnnotatedMembers(type, visited)) {
+			return true;
+		}
+		for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type.asType())) {
+			TypeElement supertypeElement = (TypeElement) ((DeclaredType) supertype).asElement();
+			if (!supertypeElement.getQualifiedName().toString().startsWith("java.")
+					&& mayContainTests(supertypeElement, visited)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean hasAnnotatedMembers(TypeElement type, Set<TypeElement> visited) {
+		for (Element enclosed : type.getEnclosedElements()) {
+			if (enclosed.getKind() == ElementKind.METHOD && isAnnotated(enclosed)) {
+				return true;
+			}
+			if (enclosed.getKind() == ElementKind.CLASS && mayContainTests((TypeElement) enclosed, visited)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isAnnotated(Element element) {
+		return isAnnotated(element.getAnnotationMirrors(), new HashSet<>());
+	}
+
+	private boolean isAnnotated(List<? extends AnnotationMirror> annotations, Set<String> visited) {
+		for (AnnotationMirror annotation : annotations) {
+			TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+			String name = annotationType.getQualifiedName().toString();
+			if (INDEXED_ANNOTATIONS.contains(name)) {
+				return true;
+			}
+			if (!name.startsWith("java.lang.annotation.") && visited.add(name)
+					&& isAnnotated(annotationType.getAnnotationMirrors(), visited)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void writeIndex() throws IOException {
+		readExistingIndex();
+		if (this.classNames.isEmpty()) {
+			return;
+		}
+		FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+			INDEX_RESOURCE_NAME);
+		try (Writer writer = index.openWriter()) {
+			writer.write("# Classes that may contain JUnit 5 tests, generated by " + getClass().getName() + "\n");
+			for (String className : this.classNames) {
+				writer.write(className);
+				writer.write('\n');
+			}
+			for (String className : this.compiledClassNames) {
+				if (!this.classNames.contains(className)) {
+					writer.write(COMPILED_CLASS_PREFIX);
+					writer.write(className);
+					writer.write('\n');
+				}
+			}
+		}
+	}
+
+	private void readExistingIndex() {
+		try {
+			FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+				INDEX_RESOURCE_NAME);
+			try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					line = line.trim();
+					if (line.startsWith(COMPILED_CLASS_PREFIX)) {
+						this.compiledClassNames.add(line.substring(COMPILED_CLASS_PREFIX.length()));
+					}
+					else if (!line.isEmpty() && !line.startsWith("#")) {
+						this.classNames.add(line);
+					}
+				}
+			}
+		}
+		catch (IOException | IllegalArgumentException e) {
+			// No index from a previous compilation
+		}
+	}
+
+	private void deleteIndex() {
+		try {
+			FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+				INDEX_RESOURCE_NAME);
+			// Compilers may refuse to delete files via the Filer
+			URI uri = existing.toUri();
+			if (!existing.delete() && "file".equals(uri.getScheme())) {
+				Files.deleteIfExists(Paths.get(uri));
+			}
+		}
+		catch (IllegalArgumentException e) {
+			// No index from a previous compilation
+		}
+		catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+				"Failed to delete outdated JUnit test index: " + e);
+		}
+	}
+
+}
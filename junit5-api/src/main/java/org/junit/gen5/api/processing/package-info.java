@@ -0,0 +1,5 @@
+/**
+ * Annotation processing support for JUnit 5 tests.
+ */
+
+package org.junit.gen5.api.processing;
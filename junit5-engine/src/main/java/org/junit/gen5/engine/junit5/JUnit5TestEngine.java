@@ -12,21 +12,40 @@ package org.junit.gen5.engine.junit5;
 
 import static org.junit.gen5.commons.meta.API.Usage.Experimental;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.gen5.commons.meta.API;
+import org.junit.gen5.commons.util.PreconditionViolationException;
 import org.junit.gen5.commons.util.Preconditions;
+import org.junit.gen5.commons.util.ReflectionUtils;
+import org.junit.gen5.commons.util.StringUtils;
 import org.junit.gen5.engine.EngineDiscoveryRequest;
 import org.junit.gen5.engine.ExecutionRequest;
 import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.UniqueId;
 import org.junit.gen5.engine.junit5.discovery.DiscoverySelectorResolver;
 import org.junit.gen5.engine.junit5.discovery.JUnit5EngineDescriptor;
 import org.junit.gen5.engine.junit5.execution.JUnit5EngineExecutionContext;
+import org.junit.gen5.engine.support.hierarchical.ExecutorServiceHierarchicalTestExecutorService;
 import org.junit.gen5.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.gen5.engine.support.hierarchical.HierarchicalTestExecutorService;
 
 @API(Experimental)
 public class JUnit5TestEngine extends HierarchicalTestEngine<JUnit5EngineExecutionContext> {
 
 	public static final String ENGINE_ID = "junit5";
 
+	/**
+	 * Name of the system property that configures the number of threads used
+	 * to execute tests: either a positive integer, {@code "auto"} for the
+	 * number of available processors, or {@code "virtual"} for a new virtual
+	 * thread per test (requires Java 21 or later). Tests are executed
+	 * sequentially if the property is not set.
+	 */
+	public static final String PARALLELISM_PROPERTY_NAME = "junit5.execution.parallelism";
+
 	@Override
 	public String getId() {
 		// TODO Consider using class names for engine IDs.
@@ -36,7 +55,7 @@ public class JUnit5TestEngine extends HierarchicalTestEngine<JUnit5EngineExecuti
 	@Override
 	public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest) {
 		Preconditions.notNull(discoveryRequest, "discovery request must not be null");
-		JUnit5EngineDescriptor engineDescriptor = new JUnit5EngineDescriptor(ENGINE_ID);
+		JUnit5EngineDescriptor engineDescriptor = new JUnit5EngineDescriptor(UniqueId.forEngine(ENGINE_ID));
 		resolveDiscoveryRequest(discoveryRequest, engineDescriptor);
 		return engineDescriptor;
 	}
@@ -57,4 +76,39 @@ public class JUnit5TestEngine extends HierarchicalTestEngine<JUnit5EngineExecuti
 	protected JUnit5EngineExecutionContext createExecutionContext(ExecutionRequest request) {
 		return new JUnit5EngineExecutionContext(request.getEngineExecutionListener());
 	}
+
+	@Override
+	protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+		if ("virtual".equalsIgnoreCase(String.valueOf(System.getProperty(PARALLELISM_PROPERTY_NAME)).trim())) {
+			return new ExecutorServiceHierarchicalTestExecutorService(newVirtualThreadPerTaskExecutor());
+		}
+		return super.createExecutorService(request);
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+		Method factoryMethod = ReflectionUtils.findMethod(Executors.class, "newVirtualThreadPerTaskExecutor")
+				.orElseThrow(() -> new PreconditionViolationException("Virtual threads require Java 21 or later"));
+		return (ExecutorService) ReflectionUtils.invokeMethod(factoryMethod, null);
+	}
+
+	@Override
+	protected int getParallelism(ExecutionRequest request) {
+		String value = System.getProperty(PARALLELISM_PROPERTY_NAME);
+		if (StringUtils.isBlank(value)) {
+			return 1;
+		}
+		if ("auto".equalsIgnoreCase(value.trim())) {
+			return Runtime.getRuntime().availableProcessors();
+		}
+		try {
+			int parallelism = Integer.parseInt(value.trim());
+			Preconditions.condition(parallelism > 0,
+				() -> PARALLELISM_PROPERTY_NAME + " must be greater than zero: " + value);
+			return parallelism;
+		}
+		catch (NumberFormatException ex) {
+			throw new PreconditionViolationException(
+				PARALLELISM_PROPERTY_NAME + " must be a positive integer, 'auto' or 'virtual': " + value);
+		}
+	}
 }
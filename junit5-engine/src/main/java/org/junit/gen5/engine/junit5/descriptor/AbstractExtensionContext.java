@@ -64,4 +64,12 @@ abstract class AbstractExtensionContext implements ExtensionContext {
 		return new NamespaceAwareStore(valuesStore, namespace);
 	}
 
+	/**
+	 * Close all {@linkplain Store.CloseableResource closeable values} of
+	 * the stores of this context once its test or container has finished.
+	 */
+	public void close() {
+		valuesStore.closeAllStoredCloseableValues();
+	}
+
 }
@@ -12,19 +12,22 @@ package org.junit.gen5.engine.junit5.descriptor;
 
 import static org.junit.gen5.commons.meta.API.Usage.Internal;
 import static org.junit.gen5.commons.util.AnnotationUtils.findAnnotatedMethods;
+import static org.junit.gen5.commons.util.AnnotationUtils.findAnnotation;
 import static org.junit.gen5.engine.junit5.execution.MethodInvocationContextFactory.methodInvocationContext;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
-import java.util.function.Consumer;
 
 import org.junit.gen5.api.AfterAll;
 import org.junit.gen5.api.AfterEach;
 import org.junit.gen5.api.BeforeAll;
 import org.junit.gen5.api.BeforeEach;
+import org.junit.gen5.api.TestInstance;
+import org.junit.gen5.api.TestInstance.Lifecycle;
 import org.junit.gen5.api.extension.AfterAllExtensionPoint;
 import org.junit.gen5.api.extension.AfterEachExtensionPoint;
 import org.junit.gen5.api.extension.BeforeAllExtensionPoint;
@@ -33,6 +36,7 @@ import org.junit.gen5.api.extension.ConditionEvaluationResult;
 import org.junit.gen5.api.extension.ContainerExtensionContext;
 import org.junit.gen5.api.extension.ExtensionConfigurationException;
 import org.junit.gen5.api.extension.ExtensionPoint;
+import org.junit.gen5.api.extension.InstancePostProcessor;
 import org.junit.gen5.api.extension.TestExtensionContext;
 import org.junit.gen5.commons.meta.API;
 import org.junit.gen5.commons.util.Preconditions;
@@ -40,6 +44,7 @@ import org.junit.gen5.commons.util.ReflectionUtils;
 import org.junit.gen5.commons.util.ReflectionUtils.MethodSortOrder;
 import org.junit.gen5.engine.TestDescriptor;
 import org.junit.gen5.engine.TestTag;
+import org.junit.gen5.engine.UniqueId;
 import org.junit.gen5.engine.junit5.execution.ConditionEvaluator;
 import org.junit.gen5.engine.junit5.execution.JUnit5EngineExecutionContext;
 import org.junit.gen5.engine.junit5.execution.MethodInvoker;
@@ -49,6 +54,7 @@ import org.junit.gen5.engine.junit5.extension.ExtensionRegistry;
 import org.junit.gen5.engine.junit5.extension.RegisteredExtensionPoint;
 import org.junit.gen5.engine.support.descriptor.JavaSource;
 import org.junit.gen5.engine.support.hierarchical.Container;
+import org.junit.gen5.engine.support.hierarchical.ExclusiveResource;
 
 /**
  * {@link TestDescriptor} for tests based on Java classes.
@@ -65,11 +71,14 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 
 	private final Class<?> testClass;
 
-	public ClassTestDescriptor(String uniqueId, Class<?> testClass) {
+	private final boolean perClassLifecycle;
+
+	public ClassTestDescriptor(UniqueId uniqueId, Class<?> testClass) {
 		super(uniqueId);
 
 		this.testClass = Preconditions.notNull(testClass, "Class must not be null");
 		this.displayName = determineDisplayName(testClass, testClass.getName());
+		this.perClassLifecycle = isPerClassLifecycle(testClass);
 
 		setSource(new JavaSource(testClass));
 	}
@@ -93,6 +102,16 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 		return getTags(this.testClass);
 	}
 
+	@Override
+	public Set<ExclusiveResource> getExclusiveResources() {
+		return getExclusiveResources(this.testClass);
+	}
+
+	@Override
+	public ExecutionMode getExecutionMode() {
+		return getExecutionMode(this.testClass).orElse(ExecutionMode.CONCURRENT);
+	}
+
 	@Override
 	public final boolean isTest() {
 		return false;
@@ -108,19 +127,20 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 		ExtensionRegistry newExtensionRegistry = populateNewExtensionRegistryFromExtendWith(testClass,
 			context.getExtensionRegistry());
 
-		registerBeforeAllMethods(newExtensionRegistry);
-		registerAfterAllMethods(newExtensionRegistry);
+		context = context.extend().withExtensionRegistry(newExtensionRegistry).build();
+		TestInstanceProvider testInstanceProvider = createTestInstanceProvider(context);
+
+		registerBeforeAllMethods(newExtensionRegistry, testInstanceProvider);
+		registerAfterAllMethods(newExtensionRegistry, testInstanceProvider);
 		registerBeforeEachMethods(newExtensionRegistry);
 		registerAfterEachMethods(newExtensionRegistry);
 
-		context = context.extend().withExtensionRegistry(newExtensionRegistry).build();
-
 		ContainerExtensionContext containerExtensionContext = new ClassBasedContainerExtensionContext(
 			context.getExtensionContext(), context.getExecutionListener(), this);
 
 		// @formatter:off
 		return context.extend()
-				.withTestInstanceProvider(testInstanceProvider(context))
+				.withTestInstanceProvider(testInstanceProvider)
 				.withExtensionContext(containerExtensionContext)
 				.build();
 		// @formatter:on
@@ -141,9 +161,31 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 		ExtensionRegistry extensionRegistry = context.getExtensionRegistry();
 		ContainerExtensionContext containerExtensionContext = (ContainerExtensionContext) context.getExtensionContext();
 
-		invokeBeforeAllExtensionPoints(extensionRegistry, containerExtensionContext);
+		if (!this.perClassLifecycle) {
+			invokeBeforeAllExtensionPoints(extensionRegistry, containerExtensionContext);
+			return context;
+		}
 
-		return context;
+		// Create and post-process the shared test instance before any extension point is invoked.
+		// Its extension context stays open until afterAll() so that stored resources remain usable.
+		Object testInstance = context.getTestInstanceProvider().getTestInstance();
+		ClassBasedTestExtensionContext testExtensionContext = new ClassBasedTestExtensionContext(
+			containerExtensionContext, context.getExecutionListener(), this, testInstance);
+		boolean successful = false;
+		try {
+			invokeInstancePostProcessorExtensionPoints(extensionRegistry.getExtensionPoints(
+				InstancePostProcessor.class, ExtensionRegistry.ApplicationOrder.FORWARD), testExtensionContext);
+			invokeBeforeAllExtensionPoints(extensionRegistry, containerExtensionContext);
+			successful = true;
+		}
+		finally {
+			if (!successful) {
+				// afterAll() is not invoked if beforeAll() fails
+				testExtensionContext.close();
+			}
+		}
+
+		return context.extend().withSharedTestInstanceExtensionContext(testExtensionContext).build();
 	}
 
 	@Override
@@ -152,6 +194,11 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 
 		throwableCollector.execute(() -> invokeAfterAllExtensionPoints(context.getExtensionRegistry(),
 			(ContainerExtensionContext) context.getExtensionContext(), throwableCollector));
+		if (this.perClassLifecycle) {
+			throwableCollector.execute(
+				((AbstractExtensionContext) context.getSharedTestInstanceExtensionContext())::close);
+		}
+		throwableCollector.execute(((AbstractExtensionContext) context.getExtensionContext())::close);
 
 		throwableCollector.assertEmpty();
 
@@ -159,42 +206,79 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 	}
 
 	protected TestInstanceProvider testInstanceProvider(JUnit5EngineExecutionContext context) {
-		return () -> ReflectionUtils.newInstance(testClass);
+		return () -> ReflectionUtils.compileConstructor(testClass).newInstance();
+	}
+
+	private TestInstanceProvider createTestInstanceProvider(JUnit5EngineExecutionContext context) {
+		TestInstanceProvider testInstanceProvider = testInstanceProvider(context);
+		return (this.perClassLifecycle ? new PerClassTestInstanceProvider(testInstanceProvider)
+				: testInstanceProvider);
+	}
+
+	/**
+	 * Determine if a single test instance is shared by all test methods.
+	 */
+	boolean isPerClassLifecycle() {
+		return this.perClassLifecycle;
+	}
+
+	private static boolean isPerClassLifecycle(Class<?> testClass) {
+		// @formatter:off
+		return findAnnotation(testClass, TestInstance.class)
+				.map(TestInstance::value)
+				.filter(lifecycle -> lifecycle == Lifecycle.PER_CLASS)
+				.isPresent();
+		// @formatter:on
 	}
 
 	private void invokeBeforeAllExtensionPoints(ExtensionRegistry newExtensionRegistry,
 			ContainerExtensionContext containerExtensionContext) throws Exception {
 
-		Consumer<RegisteredExtensionPoint<BeforeAllExtensionPoint>> applyBeforeEach = registeredExtensionPoint -> {
+		List<RegisteredExtensionPoint<BeforeAllExtensionPoint>> extensionPoints = //
+			newExtensionRegistry.getExtensionPoints(BeforeAllExtensionPoint.class,
+				ExtensionRegistry.ApplicationOrder.FORWARD);
+		for (RegisteredExtensionPoint<BeforeAllExtensionPoint> registeredExtensionPoint : extensionPoints) {
 			executeAndMaskThrowable(
 				() -> registeredExtensionPoint.getExtensionPoint().beforeAll(containerExtensionContext));
-		};
-
-		newExtensionRegistry.stream(BeforeAllExtensionPoint.class, ExtensionRegistry.ApplicationOrder.FORWARD).forEach(
-			applyBeforeEach);
+		}
 	}
 
 	private void invokeAfterAllExtensionPoints(ExtensionRegistry newExtensionRegistry,
 			ContainerExtensionContext containerExtensionContext, ThrowableCollector throwableCollector)
 					throws Exception {
 
-		Consumer<RegisteredExtensionPoint<AfterAllExtensionPoint>> applyAfterAll = registeredExtensionPoint -> {
+		List<RegisteredExtensionPoint<AfterAllExtensionPoint>> extensionPoints = //
+			newExtensionRegistry.getExtensionPoints(AfterAllExtensionPoint.class,
+				ExtensionRegistry.ApplicationOrder.BACKWARD);
+		for (RegisteredExtensionPoint<AfterAllExtensionPoint> registeredExtensionPoint : extensionPoints) {
 			throwableCollector.execute(
 				() -> registeredExtensionPoint.getExtensionPoint().afterAll(containerExtensionContext));
-		};
-
-		newExtensionRegistry.stream(AfterAllExtensionPoint.class, ExtensionRegistry.ApplicationOrder.BACKWARD).forEach(
-			applyAfterAll);
+		}
 	}
 
-	private void registerBeforeAllMethods(ExtensionRegistry extensionRegistry) {
+	private void registerBeforeAllMethods(ExtensionRegistry extensionRegistry,
+			TestInstanceProvider testInstanceProvider) {
+
 		registerAnnotatedMethodsAsExtensions(extensionRegistry, BeforeAll.class, BeforeAllExtensionPoint.class,
-			this::assertStatic, this::synthesizeBeforeAllExtensionPoint);
+			allMethodValidator(),
+			(registry, method) -> synthesizeBeforeAllExtensionPoint(registry, method, testInstanceProvider));
 	}
 
-	private void registerAfterAllMethods(ExtensionRegistry extensionRegistry) {
+	private void registerAfterAllMethods(ExtensionRegistry extensionRegistry,
+			TestInstanceProvider testInstanceProvider) {
+
 		registerAnnotatedMethodsAsExtensions(extensionRegistry, AfterAll.class, AfterAllExtensionPoint.class,
-			this::assertStatic, this::synthesizeAfterAllExtensionPoint);
+			allMethodValidator(),
+			(registry, method) -> synthesizeAfterAllExtensionPoint(registry, method, testInstanceProvider));
+	}
+
+	private BiConsumer<Class<?>, Method> allMethodValidator() {
+		if (this.perClassLifecycle) {
+			return (extensionType, method) -> {
+				/* static and non-static methods are supported */
+			};
+		}
+		return this::assertStatic;
 	}
 
 	private void registerBeforeEachMethods(ExtensionRegistry extensionRegistry) {
@@ -220,18 +304,30 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 		// @formatter:on
 	}
 
-	private BeforeAllExtensionPoint synthesizeBeforeAllExtensionPoint(ExtensionRegistry registry, Method method) {
+	private BeforeAllExtensionPoint synthesizeBeforeAllExtensionPoint(ExtensionRegistry registry, Method method,
+			TestInstanceProvider testInstanceProvider) {
+
 		return (BeforeAllExtensionPoint) extensionContext -> {
-			new MethodInvoker(extensionContext, registry).invoke(methodInvocationContext(null, method));
+			Object testInstance = getTestInstanceForAllMethod(method, testInstanceProvider);
+			new MethodInvoker(extensionContext, registry).invoke(methodInvocationContext(testInstance, method));
 		};
 	}
 
-	private AfterAllExtensionPoint synthesizeAfterAllExtensionPoint(ExtensionRegistry registry, Method method) {
+	private AfterAllExtensionPoint synthesizeAfterAllExtensionPoint(ExtensionRegistry registry, Method method,
+			TestInstanceProvider testInstanceProvider) {
+
 		return (AfterAllExtensionPoint) extensionContext -> {
-			new MethodInvoker(extensionContext, registry).invoke(methodInvocationContext(null, method));
+			Object testInstance = getTestInstanceForAllMethod(method, testInstanceProvider);
+			new MethodInvoker(extensionContext, registry).invoke(methodInvocationContext(testInstance, method));
 		};
 	}
 
+	private Object getTestInstanceForAllMethod(Method method, TestInstanceProvider testInstanceProvider)
+			throws Exception {
+
+		return (ReflectionUtils.isStatic(method) ? null : testInstanceProvider.getTestInstance());
+	}
+
 	private BeforeEachExtensionPoint synthesizeBeforeEachExtensionPoint(ExtensionRegistry registry, Method method) {
 		return (BeforeEachExtensionPoint) extensionContext -> {
 			runMethodInTestExtensionContext(method, extensionContext, registry);
@@ -269,4 +365,34 @@ public class ClassTestDescriptor extends JUnit5TestDescriptor implements Contain
 		}
 	}
 
+	/**
+	 * {@link TestInstanceProvider} for classes using the per-class lifecycle
+	 * that creates a single instance and provides it for all invocations.
+	 */
+	private static class PerClassTestInstanceProvider implements TestInstanceProvider {
+
+		private final TestInstanceProvider instanceFactory;
+
+		private volatile Object testInstance;
+
+		PerClassTestInstanceProvider(TestInstanceProvider instanceFactory) {
+			this.instanceFactory = instanceFactory;
+		}
+
+		@Override
+		public Object getTestInstance() throws Exception {
+			Object instance = this.testInstance;
+			if (instance == null) {
+				synchronized (this) {
+					instance = this.testInstance;
+					if (instance == null) {
+						instance = this.instanceFactory.getTestInstance();
+						this.testInstance = instance;
+					}
+				}
+			}
+			return instance;
+		}
+	}
+
 }
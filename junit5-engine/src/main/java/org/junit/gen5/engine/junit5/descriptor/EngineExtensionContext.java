@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.junit5.descriptor;
+
+import static org.junit.gen5.commons.meta.API.Usage.Internal;
+
+import java.lang.reflect.AnnotatedElement;
+
+import org.junit.gen5.api.extension.ContainerExtensionContext;
+import org.junit.gen5.commons.meta.API;
+import org.junit.gen5.engine.EngineExecutionListener;
+import org.junit.gen5.engine.support.descriptor.EngineDescriptor;
+
+/**
+ * {@link ContainerExtensionContext} of the engine itself and thereby the
+ * outermost context of all test classes.
+ *
+ * <p>Its {@linkplain #getStore stores} live for the whole test run.
+ * Since the engine is neither a class nor a method,
+ * {@link #getTestClass()} and {@link #getElement()} return {@code null}.
+ *
+ * @since 5.0
+ */
+@API(Internal)
+final public class EngineExtensionContext extends AbstractExtensionContext implements ContainerExtensionContext {
+
+	public EngineExtensionContext(EngineExecutionListener engineExecutionListener,
+			EngineDescriptor engineDescriptor) {
+		super(null, engineExecutionListener, engineDescriptor);
+	}
+
+	@Override
+	public String getUniqueId() {
+		return getTestDescriptor().getUniqueId().toString();
+	}
+
+	@Override
+	public String getName() {
+		return getTestDescriptor().getName();
+	}
+
+	@Override
+	public String getDisplayName() {
+		return getTestDescriptor().getDisplayName();
+	}
+
+	@Override
+	public AnnotatedElement getElement() {
+		return null;
+	}
+
+	@Override
+	public Class<?> getTestClass() {
+		return null;
+	}
+
+}
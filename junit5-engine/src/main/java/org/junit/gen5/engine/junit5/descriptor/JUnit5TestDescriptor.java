@@ -20,19 +20,31 @@ import java.lang.reflect.AnnotatedElement;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.gen5.api.DisplayName;
 import org.junit.gen5.api.Executable;
+import org.junit.gen5.api.Execution;
+import org.junit.gen5.api.ResourceAccessMode;
+import org.junit.gen5.api.ResourceLock;
 import org.junit.gen5.api.Tag;
 import org.junit.gen5.api.extension.ExtendWith;
 import org.junit.gen5.api.extension.Extension;
+import org.junit.gen5.api.extension.InstancePostProcessor;
+import org.junit.gen5.api.extension.TestExtensionContext;
 import org.junit.gen5.commons.meta.API;
 import org.junit.gen5.commons.util.ExceptionUtils;
 import org.junit.gen5.commons.util.StringUtils;
+import org.junit.gen5.engine.TestDescriptor;
 import org.junit.gen5.engine.TestTag;
+import org.junit.gen5.engine.UniqueId;
 import org.junit.gen5.engine.junit5.extension.ExtensionRegistry;
+import org.junit.gen5.engine.junit5.extension.RegisteredExtensionPoint;
 import org.junit.gen5.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.gen5.engine.support.hierarchical.ExclusiveResource;
+import org.junit.gen5.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.junit.gen5.engine.support.hierarchical.Node.ExecutionMode;
 
 /**
  * @since 5.0
@@ -40,7 +52,7 @@ import org.junit.gen5.engine.support.descriptor.AbstractTestDescriptor;
 @API(Internal)
 public abstract class JUnit5TestDescriptor extends AbstractTestDescriptor {
 
-	protected JUnit5TestDescriptor(String uniqueId) {
+	protected JUnit5TestDescriptor(UniqueId uniqueId) {
 		super(uniqueId);
 	}
 
@@ -54,6 +66,44 @@ public abstract class JUnit5TestDescriptor extends AbstractTestDescriptor {
 		// @formatter:on
 	}
 
+	protected Set<ExclusiveResource> getExclusiveResources(AnnotatedElement element) {
+		// @formatter:off
+		return findRepeatableAnnotations(element, ResourceLock.class).stream()
+				.map(resourceLock -> new ExclusiveResource(resourceLock.value(), toLockMode(resourceLock.mode())))
+				.collect(toCollection(LinkedHashSet::new));
+		// @formatter:on
+	}
+
+	private static LockMode toLockMode(ResourceAccessMode mode) {
+		return mode == ResourceAccessMode.READ ? LockMode.READ : LockMode.READ_WRITE;
+	}
+
+	protected Optional<ExecutionMode> getExecutionMode(AnnotatedElement element) {
+		// @formatter:off
+		return findAnnotation(element, Execution.class)
+				.map(Execution::value)
+				.map(mode -> ExecutionMode.valueOf(mode.name()));
+		// @formatter:on
+	}
+
+	/**
+	 * Get the execution mode declared on the innermost enclosing test class
+	 * that declares one, falling back to {@link ExecutionMode#SAME_THREAD
+	 * SAME_THREAD}.
+	 */
+	protected ExecutionMode getExecutionModeOfEnclosingClass() {
+		Optional<TestDescriptor> parent = getParent();
+		while (parent.isPresent() && parent.get() instanceof ClassTestDescriptor) {
+			Optional<ExecutionMode> executionMode = getExecutionMode(
+				((ClassTestDescriptor) parent.get()).getTestClass());
+			if (executionMode.isPresent()) {
+				return executionMode.get();
+			}
+			parent = parent.get().getParent();
+		}
+		return ExecutionMode.SAME_THREAD;
+	}
+
 	protected String determineDisplayName(AnnotatedElement element, String defaultName) {
 		// @formatter:off
 		return findAnnotation(element, DisplayName.class)
@@ -74,6 +124,16 @@ public abstract class JUnit5TestDescriptor extends AbstractTestDescriptor {
 		return ExtensionRegistry.newRegistryFrom(existingExtensionRegistry, extensionTypes);
 	}
 
+	protected void invokeInstancePostProcessorExtensionPoints(
+			List<RegisteredExtensionPoint<InstancePostProcessor>> extensionPoints,
+			TestExtensionContext testExtensionContext) throws Exception {
+
+		for (RegisteredExtensionPoint<InstancePostProcessor> registeredExtensionPoint : extensionPoints) {
+			executeAndMaskThrowable(
+				() -> registeredExtensionPoint.getExtensionPoint().postProcessTestInstance(testExtensionContext));
+		}
+	}
+
 	/**
 	 * Execute the supplied {@link Executable} and
 	 * {@linkplain ExceptionUtils#throwAsUncheckedException mask} any
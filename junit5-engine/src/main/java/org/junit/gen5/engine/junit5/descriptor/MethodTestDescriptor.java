@@ -11,14 +11,16 @@
 package org.junit.gen5.engine.junit5.descriptor;
 
 import static org.junit.gen5.commons.meta.API.Usage.Internal;
+import static org.junit.gen5.commons.util.AnnotationUtils.findAnnotation;
 import static org.junit.gen5.engine.junit5.execution.MethodInvocationContextFactory.methodInvocationContext;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
+import org.junit.gen5.api.Benchmark;
 import org.junit.gen5.api.extension.AfterEachExtensionPoint;
 import org.junit.gen5.api.extension.BeforeEachExtensionPoint;
 import org.junit.gen5.api.extension.ConditionEvaluationResult;
@@ -32,6 +34,8 @@ import org.junit.gen5.commons.util.Preconditions;
 import org.junit.gen5.commons.util.StringUtils;
 import org.junit.gen5.engine.TestDescriptor;
 import org.junit.gen5.engine.TestTag;
+import org.junit.gen5.engine.UniqueId;
+import org.junit.gen5.engine.junit5.execution.BenchmarkRunner;
 import org.junit.gen5.engine.junit5.execution.ConditionEvaluator;
 import org.junit.gen5.engine.junit5.execution.JUnit5EngineExecutionContext;
 import org.junit.gen5.engine.junit5.execution.MethodInvoker;
@@ -40,6 +44,7 @@ import org.junit.gen5.engine.junit5.extension.ExtensionRegistry;
 import org.junit.gen5.engine.junit5.extension.ExtensionRegistry.ApplicationOrder;
 import org.junit.gen5.engine.junit5.extension.RegisteredExtensionPoint;
 import org.junit.gen5.engine.support.descriptor.JavaSource;
+import org.junit.gen5.engine.support.hierarchical.ExclusiveResource;
 import org.junit.gen5.engine.support.hierarchical.Leaf;
 
 /**
@@ -56,7 +61,7 @@ public class MethodTestDescriptor extends JUnit5TestDescriptor implements Leaf<J
 
 	private final Method testMethod;
 
-	public MethodTestDescriptor(String uniqueId, Class<?> testClass, Method testMethod) {
+	public MethodTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method testMethod) {
 		super(uniqueId);
 
 		this.testClass = Preconditions.notNull(testClass, "Class must not be null");
@@ -73,6 +78,16 @@ public class MethodTestDescriptor extends JUnit5TestDescriptor implements Leaf<J
 		return methodTags;
 	}
 
+	@Override
+	public Set<ExclusiveResource> getExclusiveResources() {
+		return getExclusiveResources(getTestMethod());
+	}
+
+	@Override
+	public ExecutionMode getExecutionMode() {
+		return getExecutionMode(getTestMethod()).orElseGet(this::getExecutionModeOfEnclosingClass);
+	}
+
 	@Override
 	public String getName() {
 		// Intentionally get the class name via getTestClass() instead of
@@ -141,37 +156,59 @@ public class MethodTestDescriptor extends JUnit5TestDescriptor implements Leaf<J
 		TestExtensionContext testExtensionContext = (TestExtensionContext) context.getExtensionContext();
 		ThrowableCollector throwableCollector = new ThrowableCollector();
 
-		invokeInstancePostProcessorExtensionPoints(context.getExtensionRegistry(), testExtensionContext);
-		invokeBeforeEachExtensionPoints(context.getExtensionRegistry(), testExtensionContext);
-		invokeTestMethod(context.getExtensionRegistry(), testExtensionContext, throwableCollector);
-		invokeAfterEachExtensionPoints(context.getExtensionRegistry(), testExtensionContext, throwableCollector);
+		try {
+			invokeInstancePostProcessorExtensionPoints(instancePostProcessors(context.getExtensionRegistry()),
+				testExtensionContext);
+			invokeBeforeEachExtensionPoints(context.getExtensionRegistry(), testExtensionContext);
+			invokeTestMethod(context.getExtensionRegistry(), testExtensionContext, throwableCollector);
+			invokeAfterEachExtensionPoints(context.getExtensionRegistry(), testExtensionContext, throwableCollector);
+		}
+		finally {
+			throwableCollector.execute(((AbstractExtensionContext) testExtensionContext)::close);
+		}
 
 		throwableCollector.assertEmpty();
 
 		return context;
 	}
 
-	private void invokeInstancePostProcessorExtensionPoints(ExtensionRegistry extensionRegistry,
-			TestExtensionContext testExtensionContext) throws Exception {
+	/**
+	 * A test instance that is shared by all methods of the test class has
+	 * already been post-processed by the extensions of its class, so only
+	 * those registered for this method itself remain to be applied.
+	 */
+	private List<RegisteredExtensionPoint<InstancePostProcessor>> instancePostProcessors(
+			ExtensionRegistry extensionRegistry) {
 
-		Consumer<RegisteredExtensionPoint<InstancePostProcessor>> applyInstancePostProcessor = registeredExtensionPoint -> {
-			executeAndMaskThrowable(
-				() -> registeredExtensionPoint.getExtensionPoint().postProcessTestInstance(testExtensionContext));
-		};
+		if (usesSharedTestInstance()) {
+			return extensionRegistry.getLocalExtensionPoints(InstancePostProcessor.class, ApplicationOrder.FORWARD);
+		}
+		return extensionRegistry.getExtensionPoints(InstancePostProcessor.class, ApplicationOrder.FORWARD);
+	}
 
-		extensionRegistry.stream(InstancePostProcessor.class, ApplicationOrder.FORWARD).forEach(
-			applyInstancePostProcessor);
+	/**
+	 * Determine if the test instance is shared by all methods of the test
+	 * class.
+	 */
+	private boolean usesSharedTestInstance() {
+		// @formatter:off
+		return getParent()
+				.filter(ClassTestDescriptor.class::isInstance)
+				.map(ClassTestDescriptor.class::cast)
+				.filter(ClassTestDescriptor::isPerClassLifecycle)
+				.isPresent();
+		// @formatter:on
 	}
 
 	private void invokeBeforeEachExtensionPoints(ExtensionRegistry extensionRegistry,
 			TestExtensionContext testExtensionContext) throws Exception {
 
-		Consumer<RegisteredExtensionPoint<BeforeEachExtensionPoint>> applyBeforeEach = registeredExtensionPoint -> {
+		List<RegisteredExtensionPoint<BeforeEachExtensionPoint>> extensionPoints = //
+			extensionRegistry.getExtensionPoints(BeforeEachExtensionPoint.class, ApplicationOrder.FORWARD);
+		for (RegisteredExtensionPoint<BeforeEachExtensionPoint> registeredExtensionPoint : extensionPoints) {
 			executeAndMaskThrowable(
 				() -> registeredExtensionPoint.getExtensionPoint().beforeEach(testExtensionContext));
-		};
-
-		extensionRegistry.stream(BeforeEachExtensionPoint.class, ApplicationOrder.FORWARD).forEach(applyBeforeEach);
+		}
 	}
 
 	private void invokeTestMethod(ExtensionRegistry ExtensionRegistry, TestExtensionContext testExtensionContext,
@@ -181,7 +218,15 @@ public class MethodTestDescriptor extends JUnit5TestDescriptor implements Leaf<J
 			MethodInvocationContext methodInvocationContext = methodInvocationContext(
 				testExtensionContext.getTestInstance(), testExtensionContext.getTestMethod());
 			try {
-				new MethodInvoker(testExtensionContext, ExtensionRegistry).invoke(methodInvocationContext);
+				MethodInvoker methodInvoker = new MethodInvoker(testExtensionContext, ExtensionRegistry);
+				Optional<Benchmark> benchmark = findAnnotation(this.testMethod, Benchmark.class);
+				if (benchmark.isPresent()) {
+					new BenchmarkRunner(benchmark.get()).run(methodInvoker, methodInvocationContext,
+						testExtensionContext);
+				}
+				else {
+					methodInvoker.invoke(methodInvocationContext);
+				}
 			}
 			catch (Throwable throwable) {
 				invokeExceptionHandlerExtensionPoints(ExtensionRegistry, testExtensionContext, throwable);
@@ -227,18 +272,24 @@ public class MethodTestDescriptor extends JUnit5TestDescriptor implements Leaf<J
 
 	private List<ExceptionHandlerExtensionPoint> collectExceptionHandlerExtensionPoints(
 			ExtensionRegistry extensionRegistry) {
-		return extensionRegistry.stream(ExceptionHandlerExtensionPoint.class, ApplicationOrder.FORWARD).map(
-			RegisteredExtensionPoint::getExtensionPoint).collect(Collectors.toList());
+		List<RegisteredExtensionPoint<ExceptionHandlerExtensionPoint>> extensionPoints = //
+			extensionRegistry.getExtensionPoints(ExceptionHandlerExtensionPoint.class, ApplicationOrder.FORWARD);
+		List<ExceptionHandlerExtensionPoint> exceptionHandlers = new ArrayList<>(extensionPoints.size());
+		for (RegisteredExtensionPoint<ExceptionHandlerExtensionPoint> registeredExtensionPoint : extensionPoints) {
+			exceptionHandlers.add(registeredExtensionPoint.getExtensionPoint());
+		}
+		return exceptionHandlers;
 	}
 
 	private void invokeAfterEachExtensionPoints(ExtensionRegistry extensionRegistry,
 			TestExtensionContext testExtensionContext, ThrowableCollector throwableCollector) throws Exception {
 
-		extensionRegistry.stream(AfterEachExtensionPoint.class, ApplicationOrder.BACKWARD).forEach(
-			registeredExtensionPoint -> {
-				throwableCollector.execute(
-					() -> registeredExtensionPoint.getExtensionPoint().afterEach(testExtensionContext));
-			});
+		List<RegisteredExtensionPoint<AfterEachExtensionPoint>> extensionPoints = //
+			extensionRegistry.getExtensionPoints(AfterEachExtensionPoint.class, ApplicationOrder.BACKWARD);
+		for (RegisteredExtensionPoint<AfterEachExtensionPoint> registeredExtensionPoint : extensionPoints) {
+			throwableCollector.execute(
+				() -> registeredExtensionPoint.getExtensionPoint().afterEach(testExtensionContext));
+		}
 	}
 
 }
@@ -15,6 +15,7 @@ import static org.junit.gen5.commons.meta.API.Usage.Internal;
 import org.junit.gen5.commons.meta.API;
 import org.junit.gen5.commons.util.ReflectionUtils;
 import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.UniqueId;
 import org.junit.gen5.engine.junit5.execution.JUnit5EngineExecutionContext;
 import org.junit.gen5.engine.junit5.execution.TestInstanceProvider;
 
@@ -29,15 +30,21 @@ import org.junit.gen5.engine.junit5.execution.TestInstanceProvider;
 @API(Internal)
 public class NestedClassTestDescriptor extends ClassTestDescriptor {
 
-	public NestedClassTestDescriptor(String uniqueId, Class<?> testClass) {
+	public NestedClassTestDescriptor(UniqueId uniqueId, Class<?> testClass) {
 		super(uniqueId, testClass);
 	}
 
+	@Override
+	public ExecutionMode getExecutionMode() {
+		return getExecutionMode(getTestClass()).orElseGet(this::getExecutionModeOfEnclosingClass);
+	}
+
 	@Override
 	protected TestInstanceProvider testInstanceProvider(JUnit5EngineExecutionContext context) {
 		return () -> {
 			Object outerInstance = context.getTestInstanceProvider().getTestInstance();
-			return ReflectionUtils.newInstance(getTestClass(), outerInstance);
+			return ReflectionUtils.compileConstructor(getTestClass(), getTestClass().getEnclosingClass()).newInstance(
+				outerInstance);
 		};
 	}
 
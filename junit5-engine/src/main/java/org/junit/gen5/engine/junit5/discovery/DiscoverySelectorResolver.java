@@ -10,8 +10,9 @@
 
 package org.junit.gen5.engine.junit5.discovery;
 
+import static java.util.stream.Collectors.toList;
 import static org.junit.gen5.commons.meta.API.Usage.Internal;
-import static org.junit.gen5.commons.util.ReflectionUtils.findAllClassesInClasspathRoot;
+import static org.junit.gen5.commons.util.ReflectionUtils.findAllClassesInClasspathRoots;
 import static org.junit.gen5.commons.util.ReflectionUtils.findAllClassesInPackage;
 import static org.junit.gen5.commons.util.ReflectionUtils.findMethods;
 import static org.junit.gen5.commons.util.ReflectionUtils.findNestedClasses;
@@ -21,10 +22,15 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 
+import org.junit.gen5.api.Nested;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.api.processing.TestIndexProcessor;
 import org.junit.gen5.commons.meta.API;
+import org.junit.gen5.commons.util.ClassFileFilter;
 import org.junit.gen5.commons.util.ReflectionUtils;
 import org.junit.gen5.engine.EngineDiscoveryRequest;
 import org.junit.gen5.engine.TestDescriptor;
+import org.junit.gen5.engine.UniqueId;
 import org.junit.gen5.engine.discovery.ClassSelector;
 import org.junit.gen5.engine.discovery.ClasspathSelector;
 import org.junit.gen5.engine.discovery.MethodSelector;
@@ -41,6 +47,17 @@ import org.junit.gen5.engine.support.descriptor.AbstractTestDescriptor;
  */
 @API(Internal)
 public class DiscoverySelectorResolver {
+
+	/**
+	 * Rejects classes that can neither contain test methods nor nested
+	 * tests before they are loaded, and uses the test indexes generated by
+	 * the {@link TestIndexProcessor} where available. The stateless
+	 * {@link IsScannableTestClass} allows scans to be indexed.
+	 */
+	private static final ClassFileFilter classFileFilter = ClassFileFilter.referencingAnyOf(Test.class.getName(),
+		Nested.class.getName()).withIndex(TestIndexProcessor.INDEX_RESOURCE_NAME).withScanIndexKey(
+			IsScannableTestClass.class.getName());
+
 	private final JUnit5EngineDescriptor engineDescriptor;
 	private final IsNestedTestClass isNestedTestClass = new IsNestedTestClass();
 	private final IsTestMethod isTestMethod = new IsTestMethod();
@@ -51,13 +68,19 @@ public class DiscoverySelectorResolver {
 	}
 
 	public void resolveSelectors(EngineDiscoveryRequest request) {
-		request.getSelectorsByType(ClasspathSelector.class).forEach(selector -> {
-			File rootDirectory = selector.getClasspathRoot();
-			findAllClassesInClasspathRoot(rootDirectory, isScannableTestClass).stream().forEach(this::resolveTestClass);
-		});
+		// @formatter:off
+		List<File> classpathRoots = request.getSelectorsByType(ClasspathSelector.class).stream()
+				.map(ClasspathSelector::getClasspathRoot)
+				.collect(toList());
+		// @formatter:on
+		if (!classpathRoots.isEmpty()) {
+			findAllClassesInClasspathRoots(classpathRoots, classFileFilter, isScannableTestClass).forEach(
+				this::resolveTestClass);
+		}
 		request.getSelectorsByType(PackageSelector.class).forEach(selector -> {
 			String packageName = selector.getPackageName();
-			findAllClassesInPackage(packageName, isScannableTestClass).stream().forEach(this::resolveTestClass);
+			findAllClassesInPackage(packageName, classFileFilter, isScannableTestClass).stream().forEach(
+				this::resolveTestClass);
 		});
 		request.getSelectorsByType(ClassSelector.class).forEach(selector -> {
 			resolveTestClass(selector.getTestClass());
@@ -80,7 +103,7 @@ public class DiscoverySelectorResolver {
 		resolveTestable(testable);
 	}
 
-	private void resolveUniqueId(String uniqueId) {
+	private void resolveUniqueId(UniqueId uniqueId) {
 		JUnit5Testable testable = JUnit5Testable.fromUniqueId(uniqueId, engineDescriptor.getUniqueId());
 		resolveTestable(testable);
 	}
@@ -88,17 +111,17 @@ public class DiscoverySelectorResolver {
 	private void resolveTestable(JUnit5Testable testable, boolean withChildren) {
 		testable.accept(new JUnit5Testable.Visitor() {
 			@Override
-			public void visitClass(String uniqueId, Class<?> testClass) {
+			public void visitClass(UniqueId uniqueId, Class<?> testClass) {
 				resolveClassTestable(testClass, uniqueId, engineDescriptor, withChildren);
 			}
 
 			@Override
-			public void visitMethod(String uniqueId, Method method, Class<?> container) {
+			public void visitMethod(UniqueId uniqueId, Method method, Class<?> container) {
 				resolveMethodTestable(method, container, uniqueId);
 			}
 
 			@Override
-			public void visitNestedClass(String uniqueId, Class<?> testClass, Class<?> containerClass) {
+			public void visitNestedClass(UniqueId uniqueId, Class<?> testClass, Class<?> containerClass) {
 				resolveNestedClassTestable(uniqueId, testClass, containerClass, withChildren);
 			}
 		});
@@ -108,14 +131,14 @@ public class DiscoverySelectorResolver {
 		resolveTestable(testable, true);
 	}
 
-	private void resolveMethodTestable(Method method, Class<?> testClass, String uniqueId) {
+	private void resolveMethodTestable(Method method, Class<?> testClass, UniqueId uniqueId) {
 		JUnit5Testable parentTestable = JUnit5Testable.fromClass(testClass, engineDescriptor.getUniqueId());
 		TestDescriptor newParentDescriptor = resolveAndReturnParentTestable(parentTestable);
 		MethodTestDescriptor descriptor = getOrCreateMethodDescriptor(testClass, method, uniqueId);
 		newParentDescriptor.addChild(descriptor);
 	}
 
-	private void resolveClassTestable(Class<?> testClass, String uniqueId, AbstractTestDescriptor parentDescriptor,
+	private void resolveClassTestable(Class<?> testClass, UniqueId uniqueId, AbstractTestDescriptor parentDescriptor,
 			boolean withChildren) {
 		JUnit5TestDescriptor descriptor = getOrCreateClassDescriptor(testClass, uniqueId);
 		parentDescriptor.addChild(descriptor);
@@ -126,7 +149,7 @@ public class DiscoverySelectorResolver {
 		}
 	}
 
-	private void resolveNestedClassTestable(String uniqueId, Class<?> testClass, Class<?> containerClass,
+	private void resolveNestedClassTestable(UniqueId uniqueId, Class<?> testClass, Class<?> containerClass,
 			boolean withChildren) {
 		JUnit5Testable containerTestable = JUnit5Testable.fromClass(containerClass, engineDescriptor.getUniqueId());
 		TestDescriptor parentDescriptor = resolveAndReturnParentTestable(containerTestable);
@@ -168,23 +191,23 @@ public class DiscoverySelectorResolver {
 		}
 	}
 
-	private MethodTestDescriptor getOrCreateMethodDescriptor(Class<?> testClass, Method method, String uniqueId) {
+	private MethodTestDescriptor getOrCreateMethodDescriptor(Class<?> testClass, Method method, UniqueId uniqueId) {
 		return (MethodTestDescriptor) descriptorByUniqueId(uniqueId).orElseGet(
 			() -> new MethodTestDescriptor(uniqueId, testClass, method));
 	}
 
-	private NestedClassTestDescriptor getOrCreateNestedClassDescriptor(Class<?> clazz, String uniqueId) {
+	private NestedClassTestDescriptor getOrCreateNestedClassDescriptor(Class<?> clazz, UniqueId uniqueId) {
 		return (NestedClassTestDescriptor) descriptorByUniqueId(uniqueId).orElseGet(
 			() -> new NestedClassTestDescriptor(uniqueId, clazz));
 	}
 
-	private JUnit5TestDescriptor getOrCreateClassDescriptor(Class<?> clazz, String uniqueId) {
+	private JUnit5TestDescriptor getOrCreateClassDescriptor(Class<?> clazz, UniqueId uniqueId) {
 		return (JUnit5TestDescriptor) descriptorByUniqueId(uniqueId).orElseGet(
 			() -> new ClassTestDescriptor(uniqueId, clazz));
 	}
 
 	@SuppressWarnings("unchecked")
-	private Optional<TestDescriptor> descriptorByUniqueId(String uniqueId) {
+	private Optional<TestDescriptor> descriptorByUniqueId(UniqueId uniqueId) {
 		return (Optional<TestDescriptor>) engineDescriptor.findByUniqueId(uniqueId);
 	}
 
@@ -13,6 +13,8 @@ package org.junit.gen5.engine.junit5.discovery;
 import static org.junit.gen5.commons.meta.API.Usage.Internal;
 
 import org.junit.gen5.commons.meta.API;
+import org.junit.gen5.engine.UniqueId;
+import org.junit.gen5.engine.junit5.descriptor.EngineExtensionContext;
 import org.junit.gen5.engine.junit5.execution.JUnit5EngineExecutionContext;
 import org.junit.gen5.engine.junit5.extension.ExtensionRegistry;
 import org.junit.gen5.engine.support.descriptor.EngineDescriptor;
@@ -24,13 +26,24 @@ import org.junit.gen5.engine.support.hierarchical.Container;
 @API(Internal)
 public class JUnit5EngineDescriptor extends EngineDescriptor implements Container<JUnit5EngineExecutionContext> {
 
-	public JUnit5EngineDescriptor(String uniqueId) {
+	public JUnit5EngineDescriptor(UniqueId uniqueId) {
 		super(uniqueId, "JUnit 5");
 	}
 
 	@Override
 	public JUnit5EngineExecutionContext beforeAll(JUnit5EngineExecutionContext context) {
-		return context.extend().withExtensionRegistry(new ExtensionRegistry()).build();
+		// @formatter:off
+		return context.extend()
+				.withExtensionRegistry(new ExtensionRegistry())
+				.withExtensionContext(new EngineExtensionContext(context.getExecutionListener(), this))
+				.build();
+		// @formatter:on
+	}
+
+	@Override
+	public JUnit5EngineExecutionContext afterAll(JUnit5EngineExecutionContext context) {
+		((EngineExtensionContext) context.getExtensionContext()).close();
+		return context;
 	}
 
 }
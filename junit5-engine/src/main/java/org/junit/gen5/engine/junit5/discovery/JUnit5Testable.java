@@ -12,29 +12,31 @@ package org.junit.gen5.engine.junit5.discovery;
 
 import java.lang.reflect.Method;
 
+import org.junit.gen5.engine.UniqueId;
+
 abstract class JUnit5Testable {
 
 	private static final JUnit5TestableFactory testableFactory = new JUnit5TestableFactory();
 
-	static JUnit5Testable fromUniqueId(String uniqueId, String engineId) {
+	static JUnit5Testable fromUniqueId(UniqueId uniqueId, UniqueId engineId) {
 		return testableFactory.fromUniqueId(uniqueId, engineId);
 	}
 
-	static JUnit5Testable fromClass(Class<?> clazz, String engineId) {
+	static JUnit5Testable fromClass(Class<?> clazz, UniqueId engineId) {
 		return testableFactory.fromClass(clazz, engineId);
 	}
 
-	static JUnit5Testable fromMethod(Method testMethod, Class<?> clazz, String engineId) {
+	static JUnit5Testable fromMethod(Method testMethod, Class<?> clazz, UniqueId engineId) {
 		return testableFactory.fromMethod(testMethod, clazz, engineId);
 	}
 
-	private final String uniqueId;
+	private final UniqueId uniqueId;
 
-	JUnit5Testable(String uniqueId) {
+	JUnit5Testable(UniqueId uniqueId) {
 		this.uniqueId = uniqueId;
 	}
 
-	String getUniqueId() {
+	UniqueId getUniqueId() {
 		return this.uniqueId;
 	}
 
@@ -42,11 +44,11 @@ abstract class JUnit5Testable {
 
 	interface Visitor {
 
-		void visitClass(String uniqueId, Class<?> testClass);
+		void visitClass(UniqueId uniqueId, Class<?> testClass);
 
-		void visitMethod(String uniqueId, Method method, Class<?> container);
+		void visitMethod(UniqueId uniqueId, Method method, Class<?> container);
 
-		void visitNestedClass(String uniqueId, Class<?> javaClass, Class<?> containerClass);
+		void visitNestedClass(UniqueId uniqueId, Class<?> javaClass, Class<?> containerClass);
 	}
 
 }
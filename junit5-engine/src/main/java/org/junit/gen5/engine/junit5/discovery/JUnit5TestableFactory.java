@@ -13,7 +13,6 @@ package org.junit.gen5.engine.junit5.discovery;
 import static org.junit.gen5.commons.util.ReflectionUtils.loadClass;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,6 +21,7 @@ import org.junit.gen5.commons.util.PreconditionViolationException;
 import org.junit.gen5.commons.util.Preconditions;
 import org.junit.gen5.commons.util.ReflectionUtils;
 import org.junit.gen5.commons.util.StringUtils;
+import org.junit.gen5.engine.UniqueId;
 
 /**
  * @since 5.0
@@ -34,19 +34,19 @@ class JUnit5TestableFactory {
 	private static final IsNestedTestClass isNestedTestClass = new IsNestedTestClass();
 	private static final IsTestMethod isTestMethod = new IsTestMethod();
 
-	JUnit5Testable fromUniqueId(String uniqueId, String engineId) {
-		Preconditions.notBlank(uniqueId, "Unique ID must not be null or empty");
-		List<String> parts = split(uniqueId);
-		Preconditions.condition(parts.remove(0).equals(engineId), "uniqueId must start with engineId");
+	JUnit5Testable fromUniqueId(UniqueId uniqueId, UniqueId engineId) {
+		Preconditions.notNull(uniqueId, "Unique ID must not be null");
+		UniqueId parsedUniqueId = UniqueId.parse(uniqueId.toString(), SEPARATORS);
+		Preconditions.condition(parsedUniqueId.getRoot().equals(engineId), "uniqueId must start with engineId");
 
-		return createTestable(uniqueId, engineId, parts, null);
+		return createTestable(parsedUniqueId.toString(), parsedUniqueId, engineId);
 	}
 
-	JUnit5Testable fromClass(Class<?> clazz, String engineId) {
+	JUnit5Testable fromClass(Class<?> clazz, UniqueId engineId) {
 		Preconditions.notNull(clazz, "Class must not be null");
-		Preconditions.notBlank(engineId, "Engine ID must not be null or empty");
+		Preconditions.notNull(engineId, "Engine ID must not be null");
 		if (isPotentialTestContainer.test(clazz)) {
-			String uniqueId = engineId + ":" + clazz.getName();
+			UniqueId uniqueId = engineId.append(':', clazz.getName());
 			return new JUnit5Class(uniqueId, clazz);
 		}
 		if (isNestedTestClass.test(clazz)) {
@@ -56,63 +56,46 @@ class JUnit5TestableFactory {
 		return null; //cannot happen
 	}
 
-	private JUnit5Testable createNestedClassTestable(Class<?> testClass, Class<?> container, String engineId) {
-		String uniqueId = fromClass(container, engineId).getUniqueId() + "@" + testClass.getSimpleName();
+	private JUnit5Testable createNestedClassTestable(Class<?> testClass, Class<?> container, UniqueId engineId) {
+		UniqueId uniqueId = fromClass(container, engineId).getUniqueId().append('@', testClass.getSimpleName());
 		return new JUnit5NestedClass(uniqueId, testClass, container);
 	}
 
-	JUnit5Testable fromMethod(Method testMethod, Class<?> clazz, String engineId) {
+	JUnit5Testable fromMethod(Method testMethod, Class<?> clazz, UniqueId engineId) {
 		if (!isTestMethod.test(testMethod)) {
 			throwCannotResolveMethodException(testMethod);
 		}
-		String uniqueId = String.format("%s#%s(%s)", fromClass(clazz, engineId).getUniqueId(), testMethod.getName(),
+		String methodSpec = String.format("%s(%s)", testMethod.getName(),
 			StringUtils.nullSafeToString(testMethod.getParameterTypes()));
+		UniqueId uniqueId = fromClass(clazz, engineId).getUniqueId().append('#', methodSpec);
 		return new JUnit5Method(uniqueId, testMethod, clazz);
 	}
 
-	private List<String> split(String uniqueId) {
-		List<String> parts = new ArrayList<>();
-		String currentPart = "";
-		for (char c : uniqueId.toCharArray()) {
-			if (SEPARATORS.contains(Character.toString(c))) {
-				parts.add(currentPart);
-				currentPart = "";
-			}
-			currentPart += c;
-		}
-		parts.add(currentPart);
-		return parts;
-	}
-
-	private JUnit5Testable createTestable(String uniqueId, String engineId, List<String> parts, JUnit5Testable last) {
-		if (parts.isEmpty())
-			return last;
-		JUnit5Testable next = null;
-		String head = parts.remove(0);
-		switch (head.charAt(0)) {
+	private JUnit5Testable createTestable(String fullUniqueId, UniqueId uniqueId, UniqueId engineId) {
+		if (uniqueId.isRoot())
+			return null;
+		JUnit5Testable last = createTestable(fullUniqueId, uniqueId.getParent().get(), engineId);
+		String value = uniqueId.getValue();
+		switch (uniqueId.getSeparator()) {
 			case ':':
-				next = fromClass(findTopLevelClass(head), engineId);
-				break;
+				return fromClass(findTopLevelClass(value), engineId);
 			case '@': {
 				Class<?> container = ((JUnit5Class) last).getJavaClass();
-				next = fromClass(findNestedClass(head, container), engineId);
-				break;
+				return fromClass(findNestedClass(value, container), engineId);
 			}
 			case '#': {
 				Class<?> container = ((JUnit5Class) last).getJavaClass();
-				next = fromMethod(findMethod(head, container, uniqueId), container, engineId);
-				break;
+				return fromMethod(findMethod(value, container, fullUniqueId), container, engineId);
 			}
 			default:
-				throw createCannotResolveUniqueIdException(uniqueId, head);
+				throw createCannotResolveUniqueIdException(fullUniqueId, uniqueId.getSeparator() + value);
 		}
-		return createTestable(uniqueId, engineId, parts, next);
 	}
 
 	private Method findMethod(String methodSpecPart, Class<?> clazz, String uniqueId) {
 		// TODO Throw IAE when format wrong. Currently you get IndexOutOfBoundsException.
 		int startParams = methodSpecPart.indexOf('(');
-		String methodName = methodSpecPart.substring(1, startParams);
+		String methodName = methodSpecPart.substring(0, startParams);
 		int endParams = methodSpecPart.lastIndexOf(')');
 		String paramsPart = methodSpecPart.substring(startParams + 1, endParams);
 		Class<?>[] parameterTypes = resolveParameterTypes(paramsPart, uniqueId);
@@ -140,11 +123,11 @@ class JUnit5TestableFactory {
 	}
 
 	private Class<?> findNestedClass(String nameExtension, Class<?> containerClass) {
-		return classByName(containerClass.getName() + "$" + nameExtension.substring(1));
+		return classByName(containerClass.getName() + "$" + nameExtension);
 	}
 
 	private Class<?> findTopLevelClass(String classNamePart) {
-		return loadClassByName(classNamePart.substring(1));
+		return loadClassByName(classNamePart);
 	}
 
 	private Class<?> classByName(String className) {
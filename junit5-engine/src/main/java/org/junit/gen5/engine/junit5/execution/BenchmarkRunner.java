@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2016 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.gen5.engine.junit5.execution;
+
+import static org.junit.gen5.commons.meta.API.Usage.Internal;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.gen5.api.Benchmark;
+import org.junit.gen5.api.extension.ExtensionContext;
+import org.junit.gen5.api.extension.MethodInvocationContext;
+import org.junit.gen5.commons.meta.API;
+import org.junit.gen5.commons.util.CompiledMethod;
+import org.junit.gen5.commons.util.Preconditions;
+import org.junit.gen5.commons.util.ReflectionUtils;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * {@code BenchmarkRunner} executes a {@link Benchmark @Benchmark} method,
+ * publishes the measured statistics as a report entry, and verifies the
+ * configured thresholds.
+ *
+ * <p>The parameters of the method are resolved by a {@link MethodInvoker}
+ * once before the first iteration, so only the invocations of the method
+ * itself are measured.
+ *
+ * @since 5.0
+ */
+@API(Internal)
+public class BenchmarkRunner {
+
+	static final String MEAN_NANOS_KEY = "benchmark.meanNanos";
+	static final String P50_NANOS_KEY = "benchmark.p50Nanos";
+	static final String P90_NANOS_KEY = "benchmark.p90Nanos";
+	static final String P99_NANOS_KEY = "benchmark.p99Nanos";
+	static final String OPS_PER_SECOND_KEY = "benchmark.opsPerSecond";
+
+	/**
+	 * Receives the combined identity hash codes of the values returned by
+	 * the benchmark method, once per iteration, so that their computation
+	 * cannot be eliminated as dead code.
+	 */
+	private volatile int sink;
+
+	private final Benchmark benchmark;
+
+	public BenchmarkRunner(Benchmark benchmark) {
+		this.benchmark = Preconditions.notNull(benchmark, "Benchmark must not be null");
+		Preconditions.condition(benchmark.warmupIterations() >= 0, "warmupIterations must not be negative");
+		Preconditions.condition(benchmark.iterations() > 0, "iterations must be greater than zero");
+		Preconditions.condition(benchmark.invocationsPerIteration() > 0,
+			"invocationsPerIteration must be greater than zero");
+	}
+
+	public void run(MethodInvoker methodInvoker, MethodInvocationContext methodInvocationContext,
+			ExtensionContext extensionContext) {
+
+		CompiledMethod compiledMethod = ReflectionUtils.compileMethod(methodInvocationContext.getMethod());
+		Object instance = methodInvocationContext.getInstance();
+		Object[] arguments = methodInvoker.resolveParameters(methodInvocationContext);
+
+		for (int i = 0; i < this.benchmark.warmupIterations(); i++) {
+			runIteration(compiledMethod, instance, arguments);
+		}
+
+		double[] nanosPerInvocation = new double[this.benchmark.iterations()];
+		for (int i = 0; i < nanosPerInvocation.length; i++) {
+			nanosPerInvocation[i] = (double) runIteration(compiledMethod, instance, arguments)
+					/ this.benchmark.invocationsPerIteration();
+		}
+
+		double meanNanos = Arrays.stream(nanosPerInvocation).average().getAsDouble();
+		double opsPerSecond = (meanNanos > 0 ? 1_000_000_000 / meanNanos : Double.POSITIVE_INFINITY);
+		Arrays.sort(nanosPerInvocation);
+
+		Map<String, String> values = new LinkedHashMap<>();
+		values.put(MEAN_NANOS_KEY, format(meanNanos));
+		values.put(P50_NANOS_KEY, format(percentile(nanosPerInvocation, 50)));
+		values.put(P90_NANOS_KEY, format(percentile(nanosPerInvocation, 90)));
+		values.put(P99_NANOS_KEY, format(percentile(nanosPerInvocation, 99)));
+		values.put(OPS_PER_SECOND_KEY, format(opsPerSecond));
+		extensionContext.publishReportEntry(values);
+
+		verifyThresholds(meanNanos, opsPerSecond);
+	}
+
+	/**
+	 * Run a single iteration and return its duration in nanoseconds.
+	 */
+	private long runIteration(CompiledMethod compiledMethod, Object instance, Object[] arguments) {
+		int invocations = this.benchmark.invocationsPerIteration();
+		int consumed = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < invocations; i++) {
+			consumed ^= System.identityHashCode(compiledMethod.invoke(instance, arguments));
+		}
+		long duration = System.nanoTime() - start;
+		this.sink = consumed;
+		return duration;
+	}
+
+	private void verifyThresholds(double meanNanos, double opsPerSecond) {
+		long maxMeanNanos = this.benchmark.maxMeanNanos();
+		if (maxMeanNanos > 0 && meanNanos > maxMeanNanos) {
+			throw new AssertionFailedError(String.format(Locale.ROOT,
+				"Mean time per invocation of %s ns exceeds the maximum of %d ns", format(meanNanos), maxMeanNanos));
+		}
+		double minOpsPerSecond = this.benchmark.minOpsPerSecond();
+		if (minOpsPerSecond > 0 && opsPerSecond < minOpsPerSecond) {
+			throw new AssertionFailedError(
+				String.format(Locale.ROOT, "%s operations per second are less than the minimum of %s",
+					format(opsPerSecond), format(minOpsPerSecond)));
+		}
+	}
+
+	/**
+	 * Get the percentile of the supplied sorted values using the
+	 * nearest-rank method.
+	 */
+	private static double percentile(double[] sortedValues, int percentile) {
+		int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+		return sortedValues[Math.max(rank, 1) - 1];
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.1f", value);
+	}
+
+}
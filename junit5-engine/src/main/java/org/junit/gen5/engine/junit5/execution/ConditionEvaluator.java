@@ -12,6 +12,7 @@ package org.junit.gen5.engine.junit5.execution;
 
 import static org.junit.gen5.commons.meta.API.Usage.Internal;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import org.junit.gen5.api.extension.ConditionEvaluationResult;
@@ -21,6 +22,7 @@ import org.junit.gen5.api.extension.TestExecutionCondition;
 import org.junit.gen5.api.extension.TestExtensionContext;
 import org.junit.gen5.commons.meta.API;
 import org.junit.gen5.engine.junit5.extension.ExtensionRegistry;
+import org.junit.gen5.engine.junit5.extension.RegisteredExtensionPoint;
 
 /**
  * {@code ConditionEvaluator} evaluates {@link ContainerExecutionCondition}
@@ -49,14 +51,16 @@ public class ConditionEvaluator {
 	 */
 	public ConditionEvaluationResult evaluateForContainer(ExtensionRegistry extensionRegistry,
 			ContainerExtensionContext context) {
-		// @formatter:off
-		return extensionRegistry.stream(ContainerExecutionCondition.class, ExtensionRegistry.ApplicationOrder.FORWARD)
-				.map(extensionPoint -> extensionPoint.getExtensionPoint())
-				.map(condition -> evaluate(condition, context))
-				.filter(ConditionEvaluationResult::isDisabled)
-				.findFirst()
-				.orElse(ENABLED);
-		// @formatter:on
+		List<RegisteredExtensionPoint<ContainerExecutionCondition>> extensionPoints = //
+			extensionRegistry.getExtensionPoints(ContainerExecutionCondition.class,
+				ExtensionRegistry.ApplicationOrder.FORWARD);
+		for (RegisteredExtensionPoint<ContainerExecutionCondition> registeredExtensionPoint : extensionPoints) {
+			ConditionEvaluationResult result = evaluate(registeredExtensionPoint.getExtensionPoint(), context);
+			if (result.isDisabled()) {
+				return result;
+			}
+		}
+		return ENABLED;
 	}
 
 	/**
@@ -70,14 +74,16 @@ public class ConditionEvaluator {
 	 */
 	public ConditionEvaluationResult evaluateForTest(ExtensionRegistry extensionRegistry,
 			TestExtensionContext context) {
-		// @formatter:off
-		return extensionRegistry.stream(TestExecutionCondition.class, ExtensionRegistry.ApplicationOrder.FORWARD)
-				.map(extensionPoint -> extensionPoint.getExtensionPoint())
-				.map(condition -> evaluate(condition, context))
-				.filter(ConditionEvaluationResult::isDisabled)
-				.findFirst()
-				.orElse(ENABLED);
-		// @formatter:on
+		List<RegisteredExtensionPoint<TestExecutionCondition>> extensionPoints = //
+			extensionRegistry.getExtensionPoints(TestExecutionCondition.class,
+				ExtensionRegistry.ApplicationOrder.FORWARD);
+		for (RegisteredExtensionPoint<TestExecutionCondition> registeredExtensionPoint : extensionPoints) {
+			ConditionEvaluationResult result = evaluate(registeredExtensionPoint.getExtensionPoint(), context);
+			if (result.isDisabled()) {
+				return result;
+			}
+		}
+		return ENABLED;
 	}
 
 	private ConditionEvaluationResult evaluate(ContainerExecutionCondition condition,
@@ -12,11 +12,17 @@ package org.junit.gen5.engine.junit5.execution;
 
 import static org.junit.gen5.commons.meta.API.Usage.Internal;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.junit.gen5.api.extension.ExtensionContext.Namespace;
+import org.junit.gen5.api.extension.ExtensionContext.Store.CloseableResource;
 import org.junit.gen5.commons.meta.API;
 import org.junit.gen5.commons.util.Preconditions;
 
@@ -25,12 +31,19 @@ import org.junit.gen5.commons.util.Preconditions;
  * {@link org.junit.gen5.api.extension.ExtensionContext}
  * to store and retrieve attributes with {@link #get}, {@link #put}, or
  * {@link #getOrComputeIfAbsent}.
+ *
+ * <p>A store may be used by multiple threads concurrently. Values are kept
+ * in a separate map per {@link Namespace}, and {@link #getOrComputeIfAbsent}
+ * invokes the default creator at most once per key, even if several threads
+ * request the same absent key at the same time.
  */
 @API(Internal)
 public class ExtensionValuesStore {
 
+	private final AtomicLong sequenceNumbers = new AtomicLong();
 	private final ExtensionValuesStore parentStore;
-	private final Map<Object, StoredValue> storedValues = new HashMap<>();
+	private final ConcurrentMap<Namespace, ConcurrentMap<Object, StoredValue>> storedValues = //
+		new ConcurrentHashMap<>(4);
 
 	ExtensionValuesStore() {
 		this(null);
@@ -41,79 +54,141 @@ public class ExtensionValuesStore {
 	}
 
 	Object get(Namespace namespace, Object key) {
-		StoredValue storedValue = getStoredValue(namespace, key);
-		if (storedValue != null)
-			return storedValue.value;
-		else if (parentStore != null)
-			return parentStore.get(namespace, key);
-		else
-			return null;
+		for (ExtensionValuesStore store = this; store != null; store = store.parentStore) {
+			StoredValue storedValue = store.getStoredValue(namespace, key);
+			if (storedValue != null) {
+				return storedValue.getValue(key);
+			}
+		}
+		return null;
 	}
 
 	private StoredValue getStoredValue(Namespace namespace, Object key) {
-		ComposedKey composedKey = new ComposedKey(namespace, key);
-		return storedValues.get(composedKey);
+		Map<Object, StoredValue> values = this.storedValues.get(namespace);
+		return (values != null ? values.get(key) : null);
 	}
 
 	void put(Namespace namespace, Object key, Object value) {
 		Preconditions.notNull(namespace, "Namespace must not be null");
 		Preconditions.notNull(key, "key must not be null");
 
-		putStoredValue(namespace, key, new StoredValue(value));
+		getValues(namespace).put(key, new StoredValue(this.sequenceNumbers.getAndIncrement(), value));
 	}
 
-	private void putStoredValue(Namespace namespace, Object key, StoredValue storedValue) {
-		ComposedKey composedKey = new ComposedKey(namespace, key);
-		storedValues.put(composedKey, storedValue);
+	private ConcurrentMap<Object, StoredValue> getValues(Namespace namespace) {
+		ConcurrentMap<Object, StoredValue> values = this.storedValues.get(namespace);
+		if (values == null) {
+			values = this.storedValues.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>(4));
+		}
+		return values;
 	}
 
 	Object getOrComputeIfAbsent(Namespace namespace, Object key, Function<Object, Object> defaultCreator) {
-		StoredValue storedValue = getStoredValue(namespace, key);
+		Preconditions.notNull(namespace, "Namespace must not be null");
+		Preconditions.notNull(key, "key must not be null");
+		Preconditions.notNull(defaultCreator, "defaultCreator must not be null");
+
+		ConcurrentMap<Object, StoredValue> values = getValues(namespace);
+		StoredValue storedValue = values.get(key);
 		if (storedValue == null) {
-			storedValue = new StoredValue(defaultCreator.apply(key));
-			putStoredValue(namespace, key, storedValue);
+			// The creator is invoked outside of the map so that it may use the store itself.
+			StoredValue newValue = new StoredValue(this.sequenceNumbers.getAndIncrement(), defaultCreator);
+			storedValue = values.putIfAbsent(key, newValue);
+			if (storedValue == null) {
+				storedValue = newValue;
+			}
+		}
+		try {
+			return storedValue.getValue(key);
+		}
+		catch (RuntimeException ex) {
+			values.remove(key, storedValue);
+			throw ex;
 		}
-		return storedValue.value;
 	}
 
 	Object remove(Namespace namespace, Object key) {
-		ComposedKey composedKey = new ComposedKey(namespace, key);
-		StoredValue previous = storedValues.remove(composedKey);
-		return (previous != null ? previous.value : null);
+		Map<Object, StoredValue> values = this.storedValues.get(namespace);
+		StoredValue previous = (values != null ? values.remove(key) : null);
+		// Never compute a value only to discard it
+		return (previous != null ? previous.getComputedValue() : null);
 	}
 
-	private static class ComposedKey {
-
-		private final Object key;
-		private final Namespace namespace;
-
-		private ComposedKey(Namespace namespace, Object key) {
-			this.key = key;
-			this.namespace = namespace;
-		}
-
-		@Override
-		public boolean equals(Object o) {
-			if (this == o)
-				return true;
-			if (o == null || getClass() != o.getClass())
-				return false;
-			ComposedKey composedKey = (ComposedKey) o;
-			return namespace.equals(composedKey.namespace) && key.equals(composedKey.key);
+	/**
+	 * Close all values of this store that implement {@link CloseableResource},
+	 * in the reverse order in which they were stored.
+	 *
+	 * <p>All values are closed even if closing one of them fails. The first
+	 * failure is rethrown afterwards with any further failures suppressed.
+	 */
+	public void closeAllStoredCloseableValues() {
+		List<StoredValue> values = new ArrayList<>();
+		for (Map<Object, StoredValue> valuesOfNamespace : this.storedValues.values()) {
+			values.addAll(valuesOfNamespace.values());
 		}
-
-		@Override
-		public int hashCode() {
-			return 31 * key.hashCode() + namespace.hashCode();
+		values.sort(Comparator.comparingLong((StoredValue storedValue) -> storedValue.sequenceNumber).reversed());
+
+		ThrowableCollector throwableCollector = new ThrowableCollector();
+		for (StoredValue storedValue : values) {
+			Object value = storedValue.getComputedValue();
+			if (value instanceof CloseableResource) {
+				throwableCollector.execute(((CloseableResource) value)::close);
+			}
 		}
+		throwableCollector.assertEmpty();
 	}
 
+	/**
+	 * A stored value that is either present from the start or computed on
+	 * first access by exactly one thread.
+	 */
 	private static class StoredValue {
 
-		private final Object value;
+		private final long sequenceNumber;
+
+		// Guarded by this
+		private Function<Object, Object> defaultCreator;
 
-		private StoredValue(Object value) {
+		// Written before computed is set
+		private Object value;
+		private RuntimeException failure;
+
+		private volatile boolean computed;
+
+		private StoredValue(long sequenceNumber, Object value) {
+			this.sequenceNumber = sequenceNumber;
 			this.value = value;
+			this.computed = true;
+		}
+
+		private StoredValue(long sequenceNumber, Function<Object, Object> defaultCreator) {
+			this.sequenceNumber = sequenceNumber;
+			this.defaultCreator = defaultCreator;
+		}
+
+		private Object getValue(Object key) {
+			if (!this.computed) {
+				synchronized (this) {
+					if (!this.computed) {
+						try {
+							this.value = this.defaultCreator.apply(key);
+						}
+						catch (RuntimeException ex) {
+							this.failure = ex;
+						}
+						this.defaultCreator = null;
+						this.computed = true;
+					}
+				}
+			}
+			if (this.failure != null) {
+				throw this.failure;
+			}
+			return this.value;
+		}
+
+		private Object getComputedValue() {
+			return (this.computed && this.failure == null ? this.value : null);
 		}
 	}
 
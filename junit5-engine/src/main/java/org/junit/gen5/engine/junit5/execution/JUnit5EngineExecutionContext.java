@@ -13,6 +13,7 @@ package org.junit.gen5.engine.junit5.execution;
 import static org.junit.gen5.commons.meta.API.Usage.Internal;
 
 import org.junit.gen5.api.extension.ExtensionContext;
+import org.junit.gen5.api.extension.TestExtensionContext;
 import org.junit.gen5.commons.JUnitException;
 import org.junit.gen5.commons.meta.API;
 import org.junit.gen5.engine.EngineExecutionListener;
@@ -51,6 +52,16 @@ public class JUnit5EngineExecutionContext implements EngineExecutionContext {
 		return this.state.extensionContext;
 	}
 
+	/**
+	 * Get the extension context of the test instance that is shared by all
+	 * test methods of the innermost test class with
+	 * {@link org.junit.gen5.api.TestInstance.Lifecycle#PER_CLASS PER_CLASS}
+	 * lifecycle, if any.
+	 */
+	public TestExtensionContext getSharedTestInstanceExtensionContext() {
+		return this.state.sharedTestInstanceExtensionContext;
+	}
+
 	public Builder extend() {
 		return builder(this);
 	}
@@ -65,6 +76,7 @@ public class JUnit5EngineExecutionContext implements EngineExecutionContext {
 		TestInstanceProvider testInstanceProvider;
 		ExtensionRegistry extensionRegistry;
 		ExtensionContext extensionContext;
+		TestExtensionContext sharedTestInstanceExtensionContext;
 
 		public State(EngineExecutionListener executionListener) {
 			this.executionListener = executionListener;
@@ -107,6 +119,11 @@ public class JUnit5EngineExecutionContext implements EngineExecutionContext {
 			return this;
 		}
 
+		public Builder withSharedTestInstanceExtensionContext(TestExtensionContext extensionContext) {
+			newState().sharedTestInstanceExtensionContext = extensionContext;
+			return this;
+		}
+
 		public JUnit5EngineExecutionContext build() {
 			if (newState != null) {
 				originalState = newState;
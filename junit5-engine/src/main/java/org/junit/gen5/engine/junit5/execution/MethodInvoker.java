@@ -13,19 +13,23 @@ package org.junit.gen5.engine.junit5.execution;
 import static java.util.stream.Collectors.joining;
 import static org.junit.gen5.commons.meta.API.Usage.Internal;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.gen5.api.extension.ExtensionContext;
 import org.junit.gen5.api.extension.MethodInvocationContext;
 import org.junit.gen5.api.extension.MethodParameterResolver;
 import org.junit.gen5.api.extension.ParameterResolutionException;
 import org.junit.gen5.commons.meta.API;
+import org.junit.gen5.commons.util.ClassCache;
 import org.junit.gen5.commons.util.ReflectionUtils;
 import org.junit.gen5.engine.junit5.extension.ExtensionRegistry;
 import org.junit.gen5.engine.junit5.extension.ExtensionRegistry.ApplicationOrder;
+import org.junit.gen5.engine.junit5.extension.RegisteredExtensionPoint;
 
 /**
  * {@code MethodInvoker} encapsulates the invocation of a method, including
@@ -37,6 +41,11 @@ import org.junit.gen5.engine.junit5.extension.ExtensionRegistry.ApplicationOrder
 @API(Internal)
 public class MethodInvoker {
 
+	private static final Object[] NO_ARGUMENTS = new Object[0];
+
+	private static final ClassCache<Map<Method, ParameterBindings>> parameterBindingsCache = new ClassCache<>(
+		"parameter bindings", 1024, declaringClass -> new ConcurrentHashMap<>());
+
 	private final ExtensionContext extensionContext;
 
 	private final ExtensionRegistry extensionRegistry;
@@ -46,46 +55,86 @@ public class MethodInvoker {
 		this.extensionRegistry = extensionRegistry;
 	}
 
-	public void invoke(MethodInvocationContext methodInvocationContext) {
-		ReflectionUtils.invokeMethod(methodInvocationContext.getMethod(), methodInvocationContext.getInstance(),
-			resolveParameters(methodInvocationContext));
+	/**
+	 * Invoke the method via its {@linkplain ReflectionUtils#compileMethod
+	 * compiled form}, which is created only once per method.
+	 *
+	 * @return the value returned by the method; {@code null} for
+	 * {@code void} methods
+	 */
+	public Object invoke(MethodInvocationContext methodInvocationContext) {
+		return ReflectionUtils.compileMethod(methodInvocationContext.getMethod()).invoke(
+			methodInvocationContext.getInstance(), resolveParameters(methodInvocationContext));
 	}
 
 	/**
 	 * Resolve the array of parameters for the configured method.
 	 *
+	 * <p>The resolvers responsible for the parameters of a method are
+	 * remembered per method and list of registered resolvers. Subsequent
+	 * invocations only ask resolvers without {@linkplain
+	 * MethodParameterResolver#hasStableSupport() stable support} whether
+	 * they support a parameter.
+	 *
 	 * @return the array of Objects to be used as parameters in the method
 	 * invocation; never {@code null} though potentially empty
 	 */
-	private Object[] resolveParameters(MethodInvocationContext methodInvocationContext)
+	Object[] resolveParameters(MethodInvocationContext methodInvocationContext)
 			throws ParameterResolutionException {
-		// @formatter:off
-		return Arrays.stream(methodInvocationContext.getMethod().getParameters())
-				.map(param -> resolveParameter(param, methodInvocationContext))
-				.toArray(Object[]::new);
-		// @formatter:on
+		Method method = methodInvocationContext.getMethod();
+		if (method.getParameterCount() == 0) {
+			return NO_ARGUMENTS;
+		}
+
+		List<RegisteredExtensionPoint<MethodParameterResolver>> extensionPoints = //
+			extensionRegistry.getExtensionPoints(MethodParameterResolver.class, ApplicationOrder.FORWARD);
+		Map<Method, ParameterBindings> bindingsByMethod = parameterBindingsCache.get(method.getDeclaringClass());
+		ParameterBindings bindings = bindingsByMethod.get(method);
+		boolean bound = (bindings != null && bindings.extensionPoints == extensionPoints);
+		if (!bound) {
+			bindings = new ParameterBindings(method, extensionPoints);
+		}
+
+		Object[] arguments = new Object[bindings.parameters.length];
+		for (int i = 0; i < arguments.length; i++) {
+			arguments[i] = resolveParameter(bindings, i, bound, methodInvocationContext);
+		}
+		if (!bound) {
+			bindingsByMethod.put(method, bindings);
+		}
+		return arguments;
 	}
 
-	private Object resolveParameter(Parameter parameter, MethodInvocationContext methodInvocationContext)
-			throws ParameterResolutionException {
+	private Object resolveParameter(ParameterBindings bindings, int index, boolean bound,
+			MethodInvocationContext methodInvocationContext) throws ParameterResolutionException {
 
+		Parameter parameter = bindings.parameters[index];
 		try {
-			final List<MethodParameterResolver> matchingResolvers = new ArrayList<>();
-			extensionRegistry.stream(MethodParameterResolver.class, ApplicationOrder.FORWARD).forEach(
-				registeredExtensionPoint -> {
-					if (registeredExtensionPoint.getExtensionPoint().supports(parameter, methodInvocationContext,
-						extensionContext))
-						matchingResolvers.add(registeredExtensionPoint.getExtensionPoint());
-				});
-
-			if (matchingResolvers.size() == 0) {
+			MethodParameterResolver matchingResolver = (bound ? bindings.stableResolvers[index] : null);
+			List<MethodParameterResolver> competingResolvers = null;
+			for (MethodParameterResolver resolver : (bound ? bindings.unstableResolvers : bindings.resolvers)) {
+				if (resolver.supports(parameter, methodInvocationContext, extensionContext)) {
+					if (matchingResolver == null) {
+						matchingResolver = resolver;
+					}
+					else {
+						if (competingResolvers == null) {
+							competingResolvers = new ArrayList<>();
+							competingResolvers.add(matchingResolver);
+						}
+						competingResolvers.add(resolver);
+					}
+				}
+			}
+
+			if (matchingResolver == null) {
 				throw new ParameterResolutionException(
 					String.format("No MethodParameterResolver registered for parameter [%s] in method [%s].", parameter,
 						methodInvocationContext.getMethod().toGenericString()));
 			}
-			if (matchingResolvers.size() > 1) {
+			if (competingResolvers != null) {
 				// @formatter:off
-				String resolverNames = matchingResolvers.stream()
+				String resolverNames = competingResolvers.stream()
 						.map(resolver -> resolver.getClass().getName())
 						.collect(joining(", "));
 				// @formatter:on
@@ -93,7 +142,10 @@ public class MethodInvoker {
 					"Discovered multiple competing MethodParameterResolvers for parameter [%s] in method [%s]: %s",
 					parameter, methodInvocationContext.getMethod().toGenericString(), resolverNames));
 			}
-			return matchingResolvers.get(0).resolve(parameter, methodInvocationContext, extensionContext);
+			if (!bound && matchingResolver.hasStableSupport()) {
+				bindings.stableResolvers[index] = matchingResolver;
+			}
+			return matchingResolver.resolve(parameter, methodInvocationContext, extensionContext);
 		}
 		catch (Throwable ex) {
 			if (ex instanceof ParameterResolutionException) {
@@ -104,4 +156,35 @@ public class MethodInvoker {
 		}
 	}
 
+	/**
+	 * The parameters of a method together with the resolvers with stable
+	 * support that are responsible for them.
+	 *
+	 * <p>Bindings are only valid for the list of registered resolvers they
+	 * were created for and must not be modified once they are cached.
+	 */
+	private static class ParameterBindings {
+
+		final List<RegisteredExtensionPoint<MethodParameterResolver>> extensionPoints;
+		final Parameter[] parameters;
+		final MethodParameterResolver[] resolvers;
+		final MethodParameterResolver[] unstableResolvers;
+		final MethodParameterResolver[] stableResolvers;
+
+		ParameterBindings(Method method, List<RegisteredExtensionPoint<MethodParameterResolver>> extensionPoints) {
+			this.extensionPoints = extensionPoints;
+			this.parameters = method.getParameters();
+			this.resolvers = new MethodParameterResolver[extensionPoints.size()];
+			List<MethodParameterResolver> unstableResolvers = new ArrayList<>();
+			for (int i = 0; i < this.resolvers.length; i++) {
+				this.resolvers[i] = extensionPoints.get(i).getExtensionPoint();
+				if (!this.resolvers[i].hasStableSupport()) {
+					unstableResolvers.add(this.resolvers[i]);
+				}
+			}
+			this.unstableResolvers = unstableResolvers.toArray(new MethodParameterResolver[unstableResolvers.size()]);
+			this.stableResolvers = new MethodParameterResolver[this.parameters.length];
+		}
+	}
+
 }
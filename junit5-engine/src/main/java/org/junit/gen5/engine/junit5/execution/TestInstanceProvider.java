@@ -14,6 +14,17 @@ import static org.junit.gen5.commons.meta.API.Usage.Internal;
 
 import org.junit.gen5.commons.meta.API;
 
+/**
+ * Provides the test instance for the execution of a single test method.
+ *
+ * <p>Each invocation creates a new instance, unless the test class uses the
+ * {@linkplain org.junit.gen5.api.TestInstance.Lifecycle#PER_CLASS per-class
+ * lifecycle}. Since test methods of the same class may be executed
+ * concurrently, implementations must support being invoked by multiple
+ * threads at the same time.
+ *
+ * @since 5.0
+ */
 @FunctionalInterface
 @API(Internal)
 public interface TestInstanceProvider {
@@ -17,8 +17,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -40,6 +42,10 @@ import org.junit.gen5.commons.util.ReflectionUtils;
  * performed first in the current registry itself and then in its parent and
  * thereby all its ancestors.
  *
+ * <p>The sorted extension points of each type are computed once and then
+ * shared by all lookups, including those of child registries, until an
+ * extension point is registered in the registry or one of its ancestors.
+ *
  * @since 5.0
  * @see ExtensionPointRegistry
  * @see ExtensionRegistrar
@@ -84,6 +90,11 @@ public class ExtensionRegistry {
 
 	private final List<RegisteredExtensionPoint<?>> registeredExtensionPoints = new ArrayList<>();
 
+	private final Map<Class<? extends ExtensionPoint>, ExtensionPoints<?>> extensionPointsCache = //
+		new ConcurrentHashMap<>();
+
+	private volatile long modificationCount;
+
 	private final Optional<ExtensionRegistry> parent;
 
 	public ExtensionRegistry() {
@@ -112,21 +123,9 @@ public class ExtensionRegistry {
 		return Collections.unmodifiableSet(allRegisteredExtensionTypes);
 	}
 
-	@SuppressWarnings("unchecked")
-	private <E extends ExtensionPoint> List<RegisteredExtensionPoint<E>> getRegisteredExtensionPoints(
-			Class<E> extensionType) {
-
-		List<RegisteredExtensionPoint<E>> allExtensionPoints = new ArrayList<>();
-		this.parent.ifPresent(
-			parentRegistry -> allExtensionPoints.addAll(parentRegistry.getRegisteredExtensionPoints(extensionType)));
-
-		// @formatter:off
-		this.registeredExtensionPoints.stream()
-				.filter(registeredExtensionPoint -> extensionType.isAssignableFrom(registeredExtensionPoint.getExtensionPoint().getClass()))
-				.forEach(extensionPoint -> allExtensionPoints.add((RegisteredExtensionPoint<E>) extensionPoint));
-		// @formatter:on
-
-		return allExtensionPoints;
+	private boolean isRegistered(Class<? extends Extension> extensionType) {
+		return this.registeredExtensionTypes.contains(extensionType)
+				|| (this.parent.isPresent() && this.parent.get().isRegistered(extensionType));
 	}
 
 	/**
@@ -135,16 +134,100 @@ public class ExtensionRegistry {
 	 *
 	 * @param extensionPointType the type of {@link ExtensionPoint} to stream
 	 * @param order the order in which to apply the extension points after sorting
+	 * @see #getExtensionPoints(Class, ApplicationOrder)
 	 */
 	public <E extends ExtensionPoint> Stream<RegisteredExtensionPoint<E>> stream(Class<E> extensionPointType,
 			ApplicationOrder order) {
 
-		List<RegisteredExtensionPoint<E>> registeredExtensionPoints = getRegisteredExtensionPoints(extensionPointType);
-		new ExtensionPointSorter().sort(registeredExtensionPoints);
+		return getExtensionPoints(extensionPointType, order).stream();
+	}
+
+	/**
+	 * Get all registered extension points of the specified type.
+	 *
+	 * @param extensionPointType the type of {@link ExtensionPoint} to get
+	 * @param order the order in which to apply the extension points after sorting
+	 * @return an immutable list that is shared by all lookups until the next
+	 * registration in this registry or one of its ancestors; a registry that
+	 * does not register any extension points of the specified type itself
+	 * returns the same list as its parent
+	 */
+	public <E extends ExtensionPoint> List<RegisteredExtensionPoint<E>> getExtensionPoints(
+			Class<E> extensionPointType, ApplicationOrder order) {
+
+		ExtensionPoints<E> extensionPoints = getExtensionPoints(extensionPointType);
+		return (order == ApplicationOrder.BACKWARD ? extensionPoints.backward : extensionPoints.forward);
+	}
+
+	/**
+	 * Get the extension points of the specified type that are registered in
+	 * this registry itself, excluding those of its ancestors.
+	 *
+	 * @param extensionPointType the type of {@link ExtensionPoint} to get
+	 * @param order the order in which to apply the extension points after sorting
+	 */
+	@SuppressWarnings("unchecked")
+	public <E extends ExtensionPoint> List<RegisteredExtensionPoint<E>> getLocalExtensionPoints(
+			Class<E> extensionPointType, ApplicationOrder order) {
+
+		List<RegisteredExtensionPoint<E>> localExtensionPoints = new ArrayList<>();
+		// @formatter:off
+		this.registeredExtensionPoints.stream()
+				.filter(extensionPoint -> extensionPointType.isInstance(extensionPoint.getExtensionPoint()))
+				.forEach(extensionPoint -> localExtensionPoints.add((RegisteredExtensionPoint<E>) extensionPoint));
+		// @formatter:on
+		new ExtensionPointSorter().sort(localExtensionPoints);
 		if (order == ApplicationOrder.BACKWARD) {
-			Collections.reverse(registeredExtensionPoints);
+			Collections.reverse(localExtensionPoints);
+		}
+		return localExtensionPoints;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <E extends ExtensionPoint> ExtensionPoints<E> getExtensionPoints(Class<E> extensionPointType) {
+		long lineageModificationCount = getLineageModificationCount();
+		ExtensionPoints<E> extensionPoints = (ExtensionPoints<E>) this.extensionPointsCache.get(extensionPointType);
+		if (extensionPoints == null || extensionPoints.lineageModificationCount != lineageModificationCount) {
+			extensionPoints = computeExtensionPoints(extensionPointType, lineageModificationCount);
+			this.extensionPointsCache.put(extensionPointType, extensionPoints);
+		}
+		return extensionPoints;
+	}
+
+	/**
+	 * Compute the extension points of the specified type, reusing the lists
+	 * of the parent registry if this registry does not add any of its own.
+	 */
+	@SuppressWarnings("unchecked")
+	private <E extends ExtensionPoint> ExtensionPoints<E> computeExtensionPoints(Class<E> extensionPointType,
+			long lineageModificationCount) {
+
+		List<RegisteredExtensionPoint<E>> ownExtensionPoints = new ArrayList<>();
+		// @formatter:off
+		this.registeredExtensionPoints.stream()
+				.filter(extensionPoint -> extensionPointType.isInstance(extensionPoint.getExtensionPoint()))
+				.forEach(extensionPoint -> ownExtensionPoints.add((RegisteredExtensionPoint<E>) extensionPoint));
+		// @formatter:on
+
+		if (!this.parent.isPresent()) {
+			return new ExtensionPoints<>(ownExtensionPoints, lineageModificationCount);
 		}
-		return registeredExtensionPoints.stream();
+		ExtensionPoints<E> inheritedExtensionPoints = this.parent.get().getExtensionPoints(extensionPointType);
+		if (ownExtensionPoints.isEmpty()) {
+			return inheritedExtensionPoints.withLineageModificationCount(lineageModificationCount);
+		}
+		List<RegisteredExtensionPoint<E>> allExtensionPoints = new ArrayList<>(inheritedExtensionPoints.registered);
+		allExtensionPoints.addAll(ownExtensionPoints);
+		return new ExtensionPoints<>(allExtensionPoints, lineageModificationCount);
+	}
+
+	/**
+	 * Get a count that changes whenever an extension point is registered
+	 * in this registry or one of its ancestors.
+	 */
+	private long getLineageModificationCount() {
+		long count = this.modificationCount;
+		return this.parent.isPresent() ? count + this.parent.get().getLineageModificationCount() : count;
 	}
 
 	/**
@@ -164,11 +247,8 @@ public class ExtensionRegistry {
 	 */
 	void registerExtension(Class<? extends Extension> extensionType) {
 
-		boolean extensionAlreadyRegistered = getRegisteredExtensionTypes().stream().anyMatch(
-			registeredType -> registeredType.equals(extensionType));
-
-		if (!extensionAlreadyRegistered) {
-			Extension extension = ReflectionUtils.newInstance(extensionType);
+		if (!isRegistered(extensionType)) {
+			Extension extension = ReflectionUtils.compileConstructor(extensionType).newInstance();
 			registerExtensionPoint(extension);
 			registerExtensionPointsFromRegistrar(extension);
 			this.registeredExtensionTypes.add(extensionType);
@@ -189,6 +269,7 @@ public class ExtensionRegistry {
 		LOG.finer(() -> String.format("Registering extension point [%s] from source [%s] with position [%s].",
 			extension, source, position));
 		this.registeredExtensionPoints.add(new RegisteredExtensionPoint<>(extension, source, position));
+		this.modificationCount++;
 	}
 
 	private void registerExtensionPointsFromRegistrar(Extension extension) {
@@ -225,4 +306,38 @@ public class ExtensionRegistry {
 
 	}
 
+	/**
+	 * The registered extension points of a single type, including those of
+	 * all ancestors.
+	 */
+	private static class ExtensionPoints<E extends ExtensionPoint> {
+
+		final List<RegisteredExtensionPoint<E>> registered;
+		final List<RegisteredExtensionPoint<E>> forward;
+		final List<RegisteredExtensionPoint<E>> backward;
+		final long lineageModificationCount;
+
+		ExtensionPoints(List<RegisteredExtensionPoint<E>> registered, long lineageModificationCount) {
+			this.registered = Collections.unmodifiableList(registered);
+			List<RegisteredExtensionPoint<E>> sorted = new ArrayList<>(registered);
+			new ExtensionPointSorter().sort(sorted);
+			this.forward = Collections.unmodifiableList(sorted);
+			List<RegisteredExtensionPoint<E>> reversed = new ArrayList<>(sorted);
+			Collections.reverse(reversed);
+			this.backward = Collections.unmodifiableList(reversed);
+			this.lineageModificationCount = lineageModificationCount;
+		}
+
+		private ExtensionPoints(ExtensionPoints<E> original, long lineageModificationCount) {
+			this.registered = original.registered;
+			this.forward = original.forward;
+			this.backward = original.backward;
+			this.lineageModificationCount = lineageModificationCount;
+		}
+
+		ExtensionPoints<E> withLineageModificationCount(long lineageModificationCount) {
+			return new ExtensionPoints<>(this, lineageModificationCount);
+		}
+	}
+
 }
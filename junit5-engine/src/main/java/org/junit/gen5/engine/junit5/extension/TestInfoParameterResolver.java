@@ -33,6 +33,11 @@ class TestInfoParameterResolver implements MethodParameterResolver {
 		return (parameter.getType() == TestInfo.class);
 	}
 
+	@Override
+	public boolean hasStableSupport() {
+		return true;
+	}
+
 	@Override
 	public TestInfo resolve(Parameter parameter, MethodInvocationContext methodInvocationContext,
 			final ExtensionContext extensionContext) {
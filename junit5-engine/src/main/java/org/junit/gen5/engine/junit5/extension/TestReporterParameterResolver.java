@@ -33,6 +33,11 @@ class TestReporterParameterResolver implements MethodParameterResolver {
 		return (parameter.getType() == TestReporter.class);
 	}
 
+	@Override
+	public boolean hasStableSupport() {
+		return true;
+	}
+
 	@Override
 	public TestReporter resolve(Parameter parameter, MethodInvocationContext methodInvocationContext,
 			ExtensionContext extensionContext) {